@@ -0,0 +1,76 @@
+package com.InsightMarket.benchmark;
+
+import com.InsightMarket.ai.dto.locationchatbot.result.LocationDocumentRowDTO;
+import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
+import com.InsightMarket.ai.dto.trends.TrendItemDTO;
+import com.InsightMarket.dto.dashboard.BrandMentionChartDataDTO;
+import com.InsightMarket.dto.dashboard.BrandSentimentResponseDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 데이터 (고정 시드로 매 실행 같은 데이터를 만듦)
+ */
+public final class BenchmarkData {
+
+    public static final long SEED = 42L;
+
+    // 기준 좌표 (서울시청)
+    public static final double CENTER_LAT = 37.5665;
+    public static final double CENTER_LON = 126.9780;
+
+    private BenchmarkData() {
+    }
+
+    public static PythonTrendResponseDTO trend(Long brandId, int size) {
+        List<TrendItemDTO> top = new ArrayList<>();
+        List<TrendItemDTO> rising = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            top.add(new TrendItemDTO("브랜드 연관 검색어 " + i, String.valueOf(100 - i % 100)));
+            rising.add(new TrendItemDTO("브랜드 급상승 검색어 " + i, "+" + (i * 50) + "%"));
+        }
+        return PythonTrendResponseDTO.builder()
+                .keyword("브랜드" + brandId)
+                .brandId(brandId)
+                .collectedAt("2026-01-01 12:00:00")
+                .data(new PythonTrendResponseDTO.TrendData(top, rising))
+                .build();
+    }
+
+    // 대시보드 언급량 차트 (일별 1건)
+    public static List<BrandMentionChartDataDTO> mentionChart(int days) {
+        List<BrandMentionChartDataDTO> chart = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            chart.add(new BrandMentionChartDataDTO("2026-01-" + String.format("%02d", i % 31 + 1), 100L + i, 60L + i, 40L));
+        }
+        return chart;
+    }
+
+    // 대시보드 감성 요약
+    public static BrandSentimentResponseDTO sentiment() {
+        return BrandSentimentResponseDTO.builder()
+                .mostPositiveDate("2026-01-01").mostNegativeDate("2026-01-03").topSource("네이버 블로그")
+                .dateRange("2026-01-01 ~ 2026-01-07").posValue(42.7).negValue(30.2).neuValue(27.1)
+                .averagePositiveRatio("42.7%").build();
+    }
+
+    // 기준 좌표 주변 약 ±5km 범위에 흩어진 매장
+    public static List<LocationDocumentRowDTO> stores(int count) {
+        Random random = new Random(SEED);
+        List<LocationDocumentRowDTO> stores = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocationDocumentRowDTO store = new LocationDocumentRowDTO();
+            store.setPlaceId("place-" + i);
+            store.setPlaceName("매장 " + i);
+            store.setCategoryGroupName("카페");
+            store.setY(CENTER_LAT + (random.nextDouble() - 0.5) * 0.09);
+            store.setX(CENTER_LON + (random.nextDouble() - 0.5) * 0.11);
+            store.setSalesIndex(random.nextInt(1000));
+            store.setFloatingPopulation(random.nextInt(100_000));
+            stores.add(store);
+        }
+        return stores;
+    }
+}
@@ -0,0 +1,43 @@
+package com.InsightMarket.benchmark;
+
+import com.InsightMarket.ai.dto.locationchatbot.result.LocationAllDocumentDTO;
+import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 수집 응답 JSON 파싱 비용
+ * - pythonTrendResponse: PythonClient 가 Python 트렌드 응답 문자열을 PythonTrendResponseDTO 로 읽는 경로
+ * - placesDocuments: LocationServiceImpl 이 매장 데이터 JSON 을 LocationAllDocumentDTO 로 읽는 경로
+ */
+@State(Scope.Benchmark)
+public class JsonIngestionBenchmark {
+
+    // 트렌드 top/rising 항목 수, 매장 데이터는 이 값의 10배
+    @Param({"25", "100"})
+    public int items;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private String trendJson;
+    private byte[] placesJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        trendJson = objectMapper.writeValueAsString(BenchmarkData.trend(1L, items));
+        placesJson = objectMapper.writeValueAsBytes(new LocationAllDocumentDTO(BenchmarkData.stores(items * 10)));
+    }
+
+    @Benchmark
+    public PythonTrendResponseDTO pythonTrendResponse() throws Exception {
+        return objectMapper.readValue(trendJson, PythonTrendResponseDTO.class);
+    }
+
+    @Benchmark
+    public LocationAllDocumentDTO placesDocuments() throws Exception {
+        return objectMapper.readValue(placesJson, LocationAllDocumentDTO.class);
+    }
+}
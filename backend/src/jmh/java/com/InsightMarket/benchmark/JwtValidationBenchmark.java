@@ -0,0 +1,32 @@
+package com.InsightMarket.benchmark;
+
+import com.InsightMarket.security.util.JWTUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWTUtil.validateToken 비용 (인증이 필요한 모든 요청에서 JWTCheckFilter 가 호출)
+ */
+@State(Scope.Benchmark)
+public class JwtValidationBenchmark {
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        token = JWTUtil.generateToken(Map.of(
+                "email", "bench@test.com",
+                "nickname", "bench",
+                "roleNames", List.of("USER")), 60);
+    }
+
+    @Benchmark
+    public Map<String, Object> validateToken() {
+        return JWTUtil.validateToken(token);
+    }
+}
@@ -0,0 +1,53 @@
+package com.InsightMarket.benchmark;
+
+import com.InsightMarket.ai.dto.locationchatbot.LocationRequestDTO;
+import com.InsightMarket.ai.dto.locationchatbot.comparison.LocationComparisonResponseDTO;
+import com.InsightMarket.ai.dto.locationchatbot.result.LocationAllDocumentDTO;
+import com.InsightMarket.ai.service.location.LocationServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * LocationServiceImpl.getOneLocation 반경 검색 비용 (매장별 거리 계산 + 베스트/워스트 선정)
+ * 매장 데이터 파일 읽기는 합성 데이터로 대체해 검색 로직만 측정
+ */
+@State(Scope.Benchmark)
+public class LocationRadiusSearchBenchmark {
+
+    @Param({"1000", "100000"})
+    public int stores;
+
+    // 검색 반경 (m)
+    @Param({"500", "3000"})
+    public long radius;
+
+    private LocationServiceImpl locationService;
+    private LocationRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        LocationAllDocumentDTO documents = new LocationAllDocumentDTO(BenchmarkData.stores(stores));
+        locationService = new LocationServiceImpl(new ObjectMapper(), null, null, null) {
+            @Override
+            public LocationAllDocumentDTO loadFromJson(LocationRequestDTO locationRequestDTO) {
+                return documents;
+            }
+        };
+
+        request = LocationRequestDTO.builder()
+                .category("cafe")
+                .latitude(BenchmarkData.CENTER_LAT)
+                .longitude(BenchmarkData.CENTER_LON)
+                .radius(radius)
+                .build();
+    }
+
+    @Benchmark
+    public LocationComparisonResponseDTO radiusSearch() {
+        return locationService.getOneLocation(request);
+    }
+}
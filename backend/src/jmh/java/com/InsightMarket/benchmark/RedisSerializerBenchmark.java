@@ -0,0 +1,55 @@
+package com.InsightMarket.benchmark;
+
+import com.InsightMarket.common.redis.CompactRedisSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis 값 직렬화 형식별 비용 (기존 JSON vs Smile + 압축)
+ * - serialize / deserialize: RedisTemplate 이 값을 쓰고 읽을 때의 변환 비용
+ * - 저장 크기는 @Setup 에서 한 번 출력 ([RedisSerializer] payload/format: N bytes)
+ * 페이로드: 트렌드 스냅샷(top/rising 25건), 대시보드 언급량 차트(30일), 감성 요약
+ */
+@State(Scope.Benchmark)
+public class RedisSerializerBenchmark {
+
+    @Param({"trend", "mentionChart", "sentiment"})
+    public String payload;
+
+    @Param({"json", "compact"})
+    public String format;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        serializer = "compact".equals(format)
+                ? new CompactRedisSerializer(true, 1024)
+                : new GenericJackson2JsonRedisSerializer();
+        value = switch (payload) {
+            case "trend" -> BenchmarkData.trend(1L, 25);
+            case "mentionChart" -> BenchmarkData.mentionChart(30);
+            case "sentiment" -> BenchmarkData.sentiment();
+            default -> throw new IllegalArgumentException(payload);
+        };
+        bytes = serializer.serialize(value);
+        System.out.printf("[RedisSerializer] %s/%s: %d bytes%n", payload, format, bytes.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes);
+    }
+}
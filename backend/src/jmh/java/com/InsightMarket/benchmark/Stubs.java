@@ -0,0 +1,34 @@
+package com.InsightMarket.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 저장소 스텁
+ * - Spring Data 리포지토리 인터페이스를 동적 프록시로 만들어 메서드 이름별로 미리 만든 데이터를 반환
+ * - 등록하지 않은 메서드를 호출하면 예외 (벤치마크 대상 경로가 바뀐 것을 바로 알 수 있도록)
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> "Stub(" + type.getSimpleName() + ")";
+                };
+            }
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " 스텁 없음");
+            }
+            return answer.apply(args);
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.InsightMarket.benchmark;
+
+import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
+import com.InsightMarket.ai.service.trends.TrendsDbServiceImpl;
+import com.InsightMarket.common.redis.CompactRedisSerializer;
+import com.InsightMarket.domain.trends.BrandTrend;
+import com.InsightMarket.repository.brand.BrandRepository;
+import com.InsightMarket.repository.trends.BrandTrendRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 트렌드 조회 경로별 비용 (DB vs Redis vs L1)
+ * - db: TrendsDbServiceImpl.getTrendData (리포지토리는 스텁, JSON @Lob 파싱과 DTO 조립 비용)
+ * - redisSmile / redisJson: Redis 에 저장된 바이트를 값으로 복원하는 비용 (현재 형식 / 기존 JSON 형식)
+ * - l1: 노드 메모리 맵 조회 (SSE 채널 최신 스냅샷과 같은 방식)
+ * 네트워크 왕복은 포함하지 않으므로 실제 환경에서는 db/redis 값에 왕복 시간이 더해짐
+ */
+@State(Scope.Benchmark)
+public class TrendLookupBenchmark {
+
+    private static final Long BRAND_ID = 1L;
+    private static final String KEY = "brand:trend:" + BRAND_ID;
+
+    // top/rising 각각의 항목 수
+    @Param({"25", "100"})
+    public int items;
+
+    private TrendsDbServiceImpl trendsDbService;
+    private final Map<String, byte[]> smileStore = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> jsonStore = new ConcurrentHashMap<>();
+    private final Map<Long, PythonTrendResponseDTO> l1 = new ConcurrentHashMap<>();
+    private final CompactRedisSerializer compactSerializer = new CompactRedisSerializer(true, 1024);
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        PythonTrendResponseDTO trend = BenchmarkData.trend(BRAND_ID, items);
+
+        BrandTrend brandTrend = BrandTrend.builder()
+                .keyword(trend.getKeyword())
+                .collectedAt(LocalDateTime.of(2026, 1, 1, 12, 0))
+                .dataJson(objectMapper.writeValueAsString(trend.getData()))
+                .build();
+        BrandTrendRepository brandTrendRepository = Stubs.repository(BrandTrendRepository.class,
+                Map.of("findTopByBrandIdOrderByCollectedAtDesc", args -> Optional.of(brandTrend)));
+        trendsDbService = new TrendsDbServiceImpl(brandTrendRepository,
+                Stubs.repository(BrandRepository.class, Map.of()), objectMapper);
+
+        smileStore.put(KEY, compactSerializer.serialize(trend));
+        jsonStore.put(KEY, jsonSerializer.serialize(trend));
+        l1.put(BRAND_ID, trend);
+    }
+
+    @Benchmark
+    public PythonTrendResponseDTO db() {
+        return trendsDbService.getTrendData(BRAND_ID);
+    }
+
+    @Benchmark
+    public Object redisSmile() {
+        return compactSerializer.deserialize(smileStore.get(KEY));
+    }
+
+    @Benchmark
+    public Object redisJson() {
+        return jsonSerializer.deserialize(jsonStore.get(KEY));
+    }
+
+    @Benchmark
+    public PythonTrendResponseDTO l1() {
+        return l1.get(BRAND_ID);
+    }
+}
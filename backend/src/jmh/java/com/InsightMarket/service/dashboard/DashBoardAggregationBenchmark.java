@@ -0,0 +1,121 @@
+package com.InsightMarket.service.dashboard;
+
+import com.InsightMarket.benchmark.BenchmarkData;
+import com.InsightMarket.benchmark.Stubs;
+import com.InsightMarket.domain.analytics.keyword.AnalysisTargetType;
+import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordDailyStats;
+import com.InsightMarket.dto.dashboard.BrandAllChartResponseDTO;
+import com.InsightMarket.dto.dashboard.BrandSentimentResponseDTO;
+import com.InsightMarket.dto.dashboard.BrandWordCloudResponseDTO;
+import com.InsightMarket.dto.dashboard.DashBoardRequestDTO;
+import com.InsightMarket.repository.analytics.keyword.AnalyticsKeywordDailyStatsRepository;
+import com.InsightMarket.repository.analytics.keyword.AnalyticsKeywordInsightResultRepository;
+import com.InsightMarket.repository.analytics.keyword.AnalyticsKeywordTokenSentimentStatsRepository;
+import com.InsightMarket.repository.analytics.keyword.AnalyticsSentimentDailyRollupRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * DashBoardServiceImpl 집계 로직 비용 (리포지토리는 합성 데이터를 반환하는 스텁)
+ * - 차트/긍부정/워드클라우드 응답 조립에 드는 메모리 내 그룹핑·정렬 비용만 측정
+ * - rows: 리포지토리가 돌려주는 행 수 (최근 8주 범위에 고르게 분포)
+ * DashBoardServiceImpl 이 패키지 전용 클래스이므로 같은 패키지에 둠
+ */
+@State(Scope.Benchmark)
+public class DashBoardAggregationBenchmark {
+
+    private static final String[] SOURCES = {"NAVER", "YOUTUBE"};
+    private static final String[] POLARITIES = {"POS", "NEG", "NEU"};
+    private static final int DAYS = 56;
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    private DashBoardServiceImpl dashBoardService;
+    private DashBoardRequestDTO dayRequest;
+    private DashBoardRequestDTO weekRequest;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        LocalDate today = LocalDate.now();
+
+        List<AnalyticsKeywordDailyStats> dailyStats = new ArrayList<>(rows);
+        List<Object[]> sentimentByDate = new ArrayList<>(rows);
+        List<Object[]> wordCloud = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            LocalDate date = today.minusDays(i % DAYS);
+            String source = SOURCES[i % SOURCES.length];
+            long mention = 100 + random.nextInt(900);
+            long pos = random.nextLong(mention + 1);
+            long neg = random.nextLong(mention - pos + 1);
+
+            dailyStats.add(AnalyticsKeywordDailyStats.builder()
+                    .brandId(1L)
+                    .analysisTargetType(AnalysisTargetType.BRAND)
+                    .statDate(date)
+                    .source(source)
+                    .mentionCount((int) mention)
+                    .build());
+            sentimentByDate.add(new Object[]{date, mention, pos, neg, mention - pos - neg});
+            wordCloud.add(new Object[]{"키워드" + i, (long) random.nextInt(10_000), POLARITIES[i % POLARITIES.length]});
+        }
+        List<Object[]> sentimentBySource = List.of(
+                new Object[]{"NAVER", 5_000L, 2_000L, 1_000L, 2_000L},
+                new Object[]{"YOUTUBE", 3_000L, 1_500L, 500L, 1_000L});
+
+        dashBoardService = new DashBoardServiceImpl(
+                Stubs.repository(AnalyticsKeywordInsightResultRepository.class, Map.of()),
+                Stubs.repository(AnalyticsKeywordDailyStatsRepository.class,
+                        Map.of("findStatsForDashboard", args -> dailyStats)),
+                Stubs.repository(AnalyticsSentimentDailyRollupRepository.class,
+                        Map.of("sumCountsGroupByDate", args -> sentimentByDate,
+                                "sumCountsGroupBySource", args -> sentimentBySource)),
+                Stubs.repository(AnalyticsKeywordTokenSentimentStatsRepository.class,
+                        Map.of("findWordCloudData", args -> wordCloud)));
+
+        dayRequest = new DashBoardRequestDTO();
+        dayRequest.setBrandId(1L);
+        dayRequest.setContentChannel(List.of(SOURCES));
+        dayRequest.setUnit("day");
+
+        weekRequest = new DashBoardRequestDTO();
+        weekRequest.setBrandId(1L);
+        weekRequest.setContentChannel(List.of(SOURCES));
+        weekRequest.setUnit("week");
+    }
+
+    @Benchmark
+    public BrandAllChartResponseDTO mentionChartDaily() {
+        return dashBoardService.getBrandMentionChart(dayRequest);
+    }
+
+    @Benchmark
+    public BrandAllChartResponseDTO mentionChartWeekly() {
+        return dashBoardService.getBrandMentionChart(weekRequest);
+    }
+
+    @Benchmark
+    public BrandSentimentResponseDTO sentimentAnalysis() {
+        return dashBoardService.getBrandSentimentAnalysis(dayRequest);
+    }
+
+    @Benchmark
+    public BrandAllChartResponseDTO sentimentChart() {
+        return dashBoardService.getBrandSentimentChart(dayRequest);
+    }
+
+    @Benchmark
+    public BrandWordCloudResponseDTO wordCloud() {
+        return dashBoardService.getBrandWordCloudData(dayRequest);
+    }
+}
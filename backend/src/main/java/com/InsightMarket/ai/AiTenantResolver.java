@@ -0,0 +1,58 @@
+package com.InsightMarket.ai;
+
+import com.InsightMarket.domain.member.Member;
+import com.InsightMarket.repository.brand.BrandRepository;
+import com.InsightMarket.security.util.MemberUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AI 공정 스케줄러의 분배 단위(테넌트 = 회사) 식별
+ * - 브랜드 기준 요청은 브랜드의 회사, 브랜드가 없는 요청은 로그인 회원의 회사
+ * - 브랜드 → 회사 관계는 거의 바뀌지 않으므로 노드 로컬에 보관 (작업 풀 스레드에서도 SecurityContext 없이 사용 가능)
+ * - 회사를 알 수 없으면 anonymous 하나로 묶음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiTenantResolver {
+
+    public static final String ANONYMOUS = "anonymous";
+
+    private final BrandRepository brandRepository;
+    private final MemberUtil memberUtil;
+
+    private final Map<Long, String> tenantByBrandId = new ConcurrentHashMap<>();
+
+    public String ofBrand(Long brandId) {
+        if (brandId == null) {
+            return ANONYMOUS;
+        }
+        String tenant = tenantByBrandId.get(brandId);
+        if (tenant != null) {
+            return tenant;
+        }
+        tenant = brandRepository.findById(brandId)
+                .map(brand -> brand.getCompany() != null ? String.valueOf(brand.getCompany().getId()) : "brand-" + brandId)
+                .orElse(null);
+        if (tenant == null) {
+            return ANONYMOUS;
+        }
+        tenantByBrandId.put(brandId, tenant);
+        return tenant;
+    }
+
+    public String ofCurrentMember() {
+        try {
+            Member member = memberUtil.getCurrentMember();
+            return member.getCompany() != null ? String.valueOf(member.getCompany().getId()) : "member-" + member.getId();
+        } catch (Exception e) {
+            // 비로그인 요청 등
+            return ANONYMOUS;
+        }
+    }
+}
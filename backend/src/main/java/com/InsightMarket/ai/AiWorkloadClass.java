@@ -0,0 +1,22 @@
+package com.InsightMarket.ai;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공정 스케줄러(AiWorkloadScheduler)가 구분하는 AI 요청 종류
+ * - maxConcurrent: 종류별로 동시에 Python 에 보낼 수 있는 요청 수 (PythonResilience 벌크헤드보다 작게 두어 벌크헤드 거절이 나지 않도록 함)
+ * - 설정으로 변경: ai.scheduler.<key>.max-concurrent, ai.scheduler.<key>.max-queued
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AiWorkloadClass {
+
+    ASK("ask", 8),
+    SOLUTION_REPORT("solution-report", 4),
+    IMAGE_ANALYZE("image-analyze", 2),
+    LOCATION_REPORT("location-report", 4);
+
+    private final String key;
+    private final int maxConcurrent;
+}
@@ -0,0 +1,334 @@
+package com.InsightMarket.ai;
+
+import com.InsightMarket.common.exception.ApiException;
+import com.InsightMarket.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * AI 요청 공정 스케줄러 (회사별 가중 공정 큐)
+ * - 요청 종류(AiWorkloadClass)마다 동시 실행 수를 따로 두어 이미지 분석이 몰려도 전략 질문 자리를 차지하지 않음
+ * - 같은 종류 안에서는 회사(테넌트)별 대기열을 Deficit Round Robin 으로 돌아가며 실행
+ *   → 한 회사가 요청을 많이 쌓아도 다른 회사 요청은 회사 수만큼의 순번 안에 실행됨
+ *   (가중치 ai.scheduler.weight.<테넌트>, 기본 1: 한 순번에 실행할 수 있는 요청 수)
+ * - 종류별 전체 대기 수 또는 회사별 대기 수를 넘으면 바로 AI_WORKLOAD_QUEUE_FULL(429),
+ *   최대 대기 시간을 넘기면 AI_WORKLOAD_WAIT_TIMEOUT 으로 거절
+ * - execute: 호출한 스레드가 순서를 기다렸다가 그대로 실행 (동기 API 용)
+ * - submit: 기다리는 스레드 없이 대기열에만 넣고, 순서가 오면 지정한 실행기에서 실행 (비동기 작업 풀 용)
+ *   → 작업 풀 앞에 FIFO 큐를 두지 않으므로 한 회사가 작업을 몰아 넣어도 다른 회사 작업이 번갈아 실행됨
+ * - submit 으로 순서를 받은 작업 안에서 같은 종류로 execute 를 다시 호출하면 자리를 또 잡지 않고 바로 실행
+ * - 지표: ai.workload.queue.wait{class}, ai.workload.queued{class}, ai.workload.running{class},
+ *   ai.workload.rejected{class, reason=queue-full|timeout}
+ */
+@Slf4j
+@Component
+public class AiWorkloadScheduler {
+
+    private static final String WAIT_METRIC = "ai.workload.queue.wait";
+    private static final String REJECTED_METRIC = "ai.workload.rejected";
+
+    private final Environment environment;
+    private final Map<AiWorkloadClass, FairQueue> queues = new EnumMap<>(AiWorkloadClass.class);
+    private final long maxWaitMs;
+
+    // submit 으로 순서를 받아 실행 중인 작업의 종류 (중첩 execute 가 자리를 두 번 잡지 않도록)
+    private final ThreadLocal<AiWorkloadClass> grantedClass = new ThreadLocal<>();
+
+    public AiWorkloadScheduler(
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${ai.scheduler.max-queued:100}") int defaultMaxQueued,
+            @Value("${ai.scheduler.max-queued-per-company:20}") int maxQueuedPerTenant,
+            @Value("${ai.scheduler.max-wait-sec:300}") long maxWaitSec) {
+        this.environment = environment;
+        this.maxWaitMs = TimeUnit.SECONDS.toMillis(maxWaitSec);
+
+        for (AiWorkloadClass workloadClass : AiWorkloadClass.values()) {
+            String prefix = "ai.scheduler." + workloadClass.getKey();
+            FairQueue queue = new FairQueue(workloadClass,
+                    environment.getProperty(prefix + ".max-concurrent", Integer.class, workloadClass.getMaxConcurrent()),
+                    environment.getProperty(prefix + ".max-queued", Integer.class, defaultMaxQueued),
+                    maxQueuedPerTenant,
+                    meterRegistry);
+            queues.put(workloadClass, queue);
+
+            Gauge.builder("ai.workload.queued", queue, FairQueue::queuedCount)
+                    .tag("class", workloadClass.getKey())
+                    .register(meterRegistry);
+            Gauge.builder("ai.workload.running", queue, FairQueue::runningCount)
+                    .tag("class", workloadClass.getKey())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 순서가 오면 call 을 실행하고 결과를 반환합니다. (순서가 올 때까지 호출 스레드가 대기)
+     * @param tenant 공정 분배 단위 (회사 식별자, AiTenantResolver 로 구함)
+     */
+    public <T> T execute(AiWorkloadClass workloadClass, String tenant, Supplier<T> call) {
+        if (grantedClass.get() == workloadClass) {
+            return call.get();
+        }
+
+        FairQueue queue = queues.get(workloadClass);
+        Ticket ticket = queue.enqueue(new Ticket(tenant, null, null, null));
+
+        try {
+            ticket.granted.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (queue.cancel(ticket)) {
+                queue.timeoutCounter.increment();
+                log.warn("[AiWorkload] {} 대기 시간 초과 tenant={} waitMs={}", workloadClass.getKey(), tenant, maxWaitMs);
+                throw new ApiException(ErrorCode.AI_WORKLOAD_WAIT_TIMEOUT);
+            }
+            // 취소 직전에 순서를 받은 경우 그대로 실행
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!queue.cancel(ticket)) {
+                start(queue, queue.release());
+            }
+            throw new ApiException(ErrorCode.AI_WORKLOAD_WAIT_TIMEOUT);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try {
+            return call.get();
+        } finally {
+            start(queue, queue.release());
+        }
+    }
+
+    /**
+     * 작업을 대기열에 넣고 바로 반환합니다. 순서가 오면 executor 에서 task 를 실행합니다.
+     * 대기열이 가득 차면 AI_WORKLOAD_QUEUE_FULL 을 바로 던지고,
+     * 최대 대기 시간이 지나거나 executor 가 거절하면 onRejected 로 알립니다. (task 는 실행되지 않음)
+     */
+    public void submit(AiWorkloadClass workloadClass, String tenant, Runnable task, Executor executor,
+                       Consumer<ApiException> onRejected) {
+        FairQueue queue = queues.get(workloadClass);
+        Ticket ticket = queue.enqueue(new Ticket(tenant, task, executor, onRejected));
+
+        CompletableFuture.delayedExecutor(maxWaitMs, TimeUnit.MILLISECONDS).execute(() -> {
+            if (queue.cancel(ticket)) {
+                queue.timeoutCounter.increment();
+                log.warn("[AiWorkload] {} 작업 대기 시간 초과 tenant={} waitMs={}", workloadClass.getKey(), tenant, maxWaitMs);
+                onRejected.accept(new ApiException(ErrorCode.AI_WORKLOAD_WAIT_TIMEOUT));
+            }
+        });
+    }
+
+    // 스케줄러가 대기열 초과/대기 시간 초과로 거절한 예외인지 (원인 체인 포함)
+    public static boolean isRejected(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ApiException api && (api.getErrorCode() == ErrorCode.AI_WORKLOAD_QUEUE_FULL
+                    || api.getErrorCode() == ErrorCode.AI_WORKLOAD_WAIT_TIMEOUT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private int weightOf(String tenant) {
+        return Math.max(1, environment.getProperty("ai.scheduler.weight." + tenant, Integer.class, 1));
+    }
+
+    // 순서를 받은 submit 작업을 실행기에 넘김 (잠금 밖에서 호출)
+    private void start(FairQueue queue, List<Ticket> started) {
+        for (Ticket ticket : started) {
+            try {
+                ticket.executor.execute(() -> {
+                    grantedClass.set(queue.workloadClass);
+                    try {
+                        ticket.task.run();
+                    } finally {
+                        grantedClass.remove();
+                        start(queue, queue.release());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.warn("[AiWorkload] {} 작업 실행기 거절 tenant={}", queue.workloadClass.getKey(), ticket.tenant);
+                start(queue, queue.release());
+                ticket.onRejected.accept(new ApiException(ErrorCode.AI_WORKLOAD_QUEUE_FULL));
+            }
+        }
+    }
+
+    // task 가 null 이면 execute 로 기다리는 호출, 아니면 submit 으로 넣은 작업
+    private static final class Ticket {
+        private final String tenant;
+        private final Runnable task;
+        private final Executor executor;
+        private final Consumer<ApiException> onRejected;
+        private final long enqueuedNanos = System.nanoTime();
+        private final CompletableFuture<Void> granted = new CompletableFuture<>();
+
+        private Ticket(String tenant, Runnable task, Executor executor, Consumer<ApiException> onRejected) {
+            this.tenant = tenant;
+            this.task = task;
+            this.executor = executor;
+            this.onRejected = onRejected;
+        }
+    }
+
+    // 요청 종류 하나의 회사별 대기열 + Deficit Round Robin 분배 (모든 상태 변경은 this 잠금 안에서)
+    private final class FairQueue {
+        private final AiWorkloadClass workloadClass;
+        private final int maxConcurrent;
+        private final int maxQueued;
+        private final int maxQueuedPerTenant;
+
+        private final Map<String, ArrayDeque<Ticket>> waiting = new HashMap<>();
+        // 대기 중인 요청이 있는 회사의 순번 (앞에서부터 차례)
+        private final ArrayDeque<String> rotation = new ArrayDeque<>();
+        // 회사별 이번 순번에 남은 실행 가능 수
+        private final Map<String, Integer> deficit = new HashMap<>();
+        private int queued;
+        private int running;
+
+        private final Timer waitTimer;
+        private final Counter queueFullCounter;
+        private final Counter timeoutCounter;
+
+        private FairQueue(AiWorkloadClass workloadClass, int maxConcurrent, int maxQueued, int maxQueuedPerTenant,
+                          MeterRegistry meterRegistry) {
+            this.workloadClass = workloadClass;
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.maxQueuedPerTenant = maxQueuedPerTenant;
+            this.waitTimer = Timer.builder(WAIT_METRIC)
+                    .tag("class", workloadClass.getKey())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            this.queueFullCounter = meterRegistry.counter(REJECTED_METRIC, "class", workloadClass.getKey(), "reason", "queue-full");
+            this.timeoutCounter = meterRegistry.counter(REJECTED_METRIC, "class", workloadClass.getKey(), "reason", "timeout");
+        }
+
+        private Ticket enqueue(Ticket ticket) {
+            List<Ticket> started;
+            synchronized (this) {
+                enqueueLocked(ticket);
+                started = dispatch();
+            }
+            start(this, started);
+            return ticket;
+        }
+
+        private void enqueueLocked(Ticket ticket) {
+            String tenant = ticket.tenant;
+            ArrayDeque<Ticket> tenantQueue = waiting.get(tenant);
+            int tenantQueued = tenantQueue != null ? tenantQueue.size() : 0;
+            if (queued >= maxQueued || tenantQueued >= maxQueuedPerTenant) {
+                queueFullCounter.increment();
+                log.warn("[AiWorkload] {} 대기열 초과 tenant={} queued={} tenantQueued={}",
+                        workloadClass.getKey(), tenant, queued, tenantQueued);
+                throw new ApiException(ErrorCode.AI_WORKLOAD_QUEUE_FULL);
+            }
+
+            if (tenantQueue == null) {
+                tenantQueue = new ArrayDeque<>();
+                waiting.put(tenant, tenantQueue);
+                rotation.addLast(tenant);
+            }
+            tenantQueue.addLast(ticket);
+            queued++;
+        }
+
+        // 아직 순서를 받지 못한 요청을 대기열에서 제거 (이미 순서를 받았으면 false)
+        private synchronized boolean cancel(Ticket ticket) {
+            if (ticket.granted.isDone()) {
+                return false;
+            }
+            ArrayDeque<Ticket> tenantQueue = waiting.get(ticket.tenant);
+            if (tenantQueue != null && tenantQueue.remove(ticket)) {
+                queued--;
+                if (tenantQueue.isEmpty()) {
+                    removeTenant(ticket.tenant);
+                }
+            }
+            ticket.granted.cancel(false);
+            return true;
+        }
+
+        // 자리를 반납하고, 새로 순서를 받은 submit 작업 목록을 반환 (실행기에 넘기는 것은 호출한 쪽에서 잠금 밖에서)
+        private synchronized List<Ticket> release() {
+            running--;
+            return dispatch();
+        }
+
+        // 빈 자리가 있는 동안 순번대로 회사를 돌며 요청에 순서를 부여
+        private List<Ticket> dispatch() {
+            List<Ticket> started = List.of();
+            while (running < maxConcurrent && !rotation.isEmpty()) {
+                String tenant = rotation.peekFirst();
+                int credit = deficit.getOrDefault(tenant, 0);
+                if (credit <= 0) {
+                    credit = weightOf(tenant);
+                }
+
+                ArrayDeque<Ticket> tenantQueue = waiting.get(tenant);
+                Ticket ticket = tenantQueue.pollFirst();
+                queued--;
+                running++;
+                credit--;
+                waitTimer.record(System.nanoTime() - ticket.enqueuedNanos, TimeUnit.NANOSECONDS);
+                ticket.granted.complete(null);
+                if (ticket.task != null) {
+                    if (started.isEmpty()) {
+                        started = new ArrayList<>();
+                    }
+                    started.add(ticket);
+                }
+
+                if (tenantQueue.isEmpty()) {
+                    removeTenant(tenant);
+                } else if (credit <= 0) {
+                    // 이번 순번을 다 쓴 회사는 맨 뒤로
+                    rotation.pollFirst();
+                    rotation.addLast(tenant);
+                    deficit.remove(tenant);
+                } else {
+                    deficit.put(tenant, credit);
+                }
+            }
+            return started;
+        }
+
+        private void removeTenant(String tenant) {
+            waiting.remove(tenant);
+            rotation.remove(tenant);
+            deficit.remove(tenant);
+        }
+
+        private synchronized int queuedCount() {
+            return queued;
+        }
+
+        private synchronized int runningCount() {
+            return running;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.InsightMarket.ai;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 Python 호출 합치기 (in-flight coalescing)
+ * - 엔드포인트 + 요청 본문 지문(키 정렬 JSON 의 SHA-256)이 같은 호출이 진행 중이면 새로 보내지 않고 그 Mono 에 합류
+ * - 호출이 끝나면(성공/실패/취소) 목록에서 빠지므로 결과를 보관하지 않음 (캐시는 호출 측 책임, 실패는 다음 요청이 새로 시도)
+ * - 타임아웃: 공유 Mono 안의 호출별 타임아웃이 그대로 적용되므로 합류한 요청도 먼저 보낸 호출의 남은 시간 이상 기다리지 않음
+ * - 취소: 구독 수를 세어 합류한 요청 하나가 떠나도 호출은 계속되고, 모두 떠나면 Python 호출도 취소
+ * - 멱등 엔드포인트만 합침 (분석 파이프라인처럼 부작용이 있는 호출은 그대로 보냄)
+ * - 지표: python.coalesce.saved{endpoint} (합류로 보내지 않은 호출 수)
+ */
+@Slf4j
+@Component
+public class PythonCallCoalescer {
+
+    private static final String SAVED_METRIC = "python.coalesce.saved";
+
+    // 필드/맵 키 순서와 관계없이 같은 본문이면 같은 지문이 나오도록 정렬해서 직렬화
+    private final ObjectMapper fingerprintMapper = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<PythonEndpoint, Counter> savedCounters = new EnumMap<>(PythonEndpoint.class);
+    private final boolean enabled;
+
+    public PythonCallCoalescer(MeterRegistry meterRegistry,
+                               @Value("${python.coalesce.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        for (PythonEndpoint endpoint : PythonEndpoint.values()) {
+            savedCounters.put(endpoint, meterRegistry.counter(SAVED_METRIC, "endpoint", endpoint.getKey()));
+        }
+    }
+
+    /**
+     * 같은 요청이 진행 중이면 그 호출에 합류하고, 없으면 call 로 새 호출을 만들어 공유합니다.
+     * call 은 타임아웃/보호 계층까지 적용한 Mono 를 돌려줘야 합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> coalesce(PythonEndpoint endpoint, Object body, Supplier<Mono<T>> call) {
+        if (!enabled || !endpoint.isIdempotent()) {
+            return Mono.defer(call);
+        }
+
+        String key = endpoint.getKey() + ":" + fingerprint(body);
+        return Mono.defer(() -> {
+            boolean[] created = {false};
+            Mono<T> shared = (Mono<T>) inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return share(k, call);
+            });
+            if (!created[0]) {
+                savedCounters.get(endpoint).increment();
+                log.info("[PythonCoalescer] 진행 중인 {} 호출에 합류", endpoint.getKey());
+            }
+            return shared;
+        });
+    }
+
+    // 현재 진행 중인 합치기 대상 호출 수 (모니터링/테스트용)
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private <T> Mono<T> share(String key, Supplier<Mono<T>> call) {
+        AtomicReference<Mono<T>> self = new AtomicReference<>();
+        // share(): 첫 구독 시 호출을 시작하고, 구독자가 모두 취소하면 호출도 취소 (publish().refCount())
+        Mono<T> shared = Mono.defer(call)
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .share();
+        self.set(shared);
+        return shared;
+    }
+
+    private String fingerprint(Object body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fingerprintMapper.writeValueAsBytes(body));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Python 요청 본문 지문 생성 실패", e);
+        }
+    }
+}
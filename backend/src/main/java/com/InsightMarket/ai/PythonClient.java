@@ -9,10 +9,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.BodyInserters;
 
 import java.time.Duration;
 import java.util.HashMap;
@@ -25,7 +26,12 @@ import java.util.function.Consumer;
 @RequiredArgsConstructor
 public class PythonClient {
 
-    private final WebClient.Builder webClientBuilder;
+    // 요청 종류별로 미리 만들어 둔 WebClient (연결 풀 분리)
+    private final PythonWebClients webClients;
+    // 엔드포인트별 벌크헤드/서킷 브레이커/재시도
+    private final PythonResilience pythonResilience;
+    // 동일 요청 진행 중 합치기
+    private final PythonCallCoalescer pythonCallCoalescer;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${python.rag.base-url:http://localhost:8000}")
@@ -46,26 +52,11 @@ public class PythonClient {
             body.put("brand_id", brandId);
         }
 
-        // 요청 body 크기 계산
-        try {
-            String requestBodyJson = objectMapper.writeValueAsString(body);
-            int requestSizeBytes = requestBodyJson.getBytes("UTF-8").length;
-            log.info("[PythonRagClient] call POST /api/analyze traceId={} baseUrl={} filePath={} brandId={} timeoutSec={} requestSize={} bytes ({} KB)",
-                    traceId, pythonBaseUrl, filePath, brandId, timeoutSec, requestSizeBytes, requestSizeBytes / 1024.0);
-        } catch (Exception e) {
-            log.warn("[PythonRagClient] 요청 body 크기 계산 실패: {}", e.getMessage());
-        }
-
-        // 큰 JSON 응답을 처리하기 위해 maxInMemorySize 설정 (10MB)
-        ExchangeStrategies strategies = ExchangeStrategies.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
-                .build();
+        log.info("[PythonRagClient] call POST /api/analyze traceId={} baseUrl={} filePath={} brandId={} timeoutSec={}",
+                traceId, pythonBaseUrl, filePath, brandId, timeoutSec);
 
         try {
-            JsonNode response = webClientBuilder
-                    .baseUrl(pythonBaseUrl)
-                    .exchangeStrategies(strategies)
-                    .build()
+            JsonNode response = webClients.ai()
                     .post()
                     .uri("/api/analyze")
                     .contentType(MediaType.APPLICATION_JSON)
@@ -75,18 +66,12 @@ public class PythonClient {
                     .retrieve()
                     .bodyToMono(JsonNode.class)
                     .timeout(Duration.ofSeconds(timeoutSec))
+                    .transform(call -> pythonResilience.decorate(PythonEndpoint.ANALYZE, call))
                     .block();
 
-            // 응답 크기 계산
+            // 요청/응답 크기는 PythonPayloadMeter 가 코덱 수준에서 계측 (python.http.*.bytes{client=ai})
             if (response != null) {
-                try {
-                    String responseJson = objectMapper.writeValueAsString(response);
-                    int responseSizeBytes = responseJson.getBytes("UTF-8").length;
-                    log.info("[PythonRagClient] analyze 응답 수신 완료 traceId={} responseSize={} bytes ({} KB / {} MB)",
-                            traceId, responseSizeBytes, responseSizeBytes / 1024.0, responseSizeBytes / (1024.0 * 1024.0));
-                } catch (Exception e) {
-                    log.warn("[PythonRagClient] 응답 크기 계산 실패: {}", e.getMessage());
-                }
+                log.info("[PythonRagClient] analyze 응답 수신 완료 traceId={}", traceId);
             } else {
                 log.warn("[PythonRagClient] analyze 응답이 null입니다. traceId={}", traceId);
             }
@@ -142,9 +127,7 @@ public class PythonClient {
 
         log.info("[PythonRagClient] 수집 요청 전송 -> 분류: {}, ID: {}, 검색어: {}, projectId: {}, isBatch: {}", type, id, searchKeyword, projectId, isBatch);
 
-        webClientBuilder
-                .baseUrl(pythonBaseUrl)
-                .build()
+        webClients.fast()
                 .post()
                 .uri("api/collect")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -160,9 +143,7 @@ public class PythonClient {
 
     public void batchStart() {
         log.info("[PythonRagClient] 배치 시작 요청");
-        webClientBuilder
-                .baseUrl(pythonBaseUrl)
-                .build()
+        webClients.fast()
                 .post()
                 .uri("api/collect/batch-start")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -177,9 +158,7 @@ public class PythonClient {
 
     public JsonNode batchComplete() {
         log.info("[PythonRagClient] 배치 완료 요청");
-        return webClientBuilder
-                .baseUrl(pythonBaseUrl)
-                .build()
+        return webClients.fast()
                 .post()
                 .uri("api/collect/batch-complete")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -217,9 +196,7 @@ public class PythonClient {
 
         log.info("[PythonRagClient] 재수집 요청 -> 분류: {}, ID: {}, 이름: {}, projectId: {}", type, id, name, projectId);
 
-        webClientBuilder
-                .baseUrl(pythonBaseUrl)
-                .build()
+        webClients.fast()
                 .post()
                 .uri("api/collect/recollect")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -249,18 +226,17 @@ public class PythonClient {
         log.info("[PythonRagClient] call POST /api/strategy/ask-strategy traceId={} baseUrl={} brandId={} projectId={} brandName={} projectKeywordIds={} topK={} timeoutSec={}",
                 traceId, pythonBaseUrl, brandId, projectId, brandName, projectKeywordIds, topKValue, timeoutSec);
 
-        return webClientBuilder
-                .baseUrl(pythonBaseUrl)
-                .build()
-                .post()
-                .uri("/api/strategy/ask-strategy")
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                .header("X-Trace-Id", traceId)
-                .bodyValue(body)
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .timeout(Duration.ofSeconds(timeoutSec))
+        return pythonCallCoalescer.coalesce(PythonEndpoint.ASK_STRATEGY, body, () -> webClients.ai()
+                        .post()
+                        .uri("/api/strategy/ask-strategy")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header("X-Trace-Id", traceId)
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToMono(JsonNode.class)
+                        .timeout(Duration.ofSeconds(timeoutSec))
+                        .transform(call -> pythonResilience.decorate(PythonEndpoint.ASK_STRATEGY, call)))
                 .block();
     }
 
@@ -282,18 +258,17 @@ public class PythonClient {
         log.info("[PythonRagClient] call POST /api/strategy/generate-solution-report traceId={} baseUrl={} brandId={} projectId={} solutionTitle={} reportType={} timeoutSec={}",
                 traceId, pythonBaseUrl, req.getBrandId(), req.getProjectId(), req.getSolutionTitle(), req.getReportType(), timeoutSec);
 
-        return webClientBuilder
-                .baseUrl(pythonBaseUrl)
-                .build()
-                .post()
-                .uri("/api/strategy/generate-solution-report")
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                .header("X-Trace-Id", traceId)
-                .bodyValue(body)
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .timeout(Duration.ofSeconds(timeoutSec))
+        return pythonCallCoalescer.coalesce(PythonEndpoint.SOLUTION_REPORT, body, () -> webClients.ai()
+                        .post()
+                        .uri("/api/strategy/generate-solution-report")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header("X-Trace-Id", traceId)
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToMono(JsonNode.class)
+                        .timeout(Duration.ofSeconds(timeoutSec))
+                        .transform(call -> pythonResilience.decorate(PythonEndpoint.SOLUTION_REPORT, call)))
                 .block();
     }
 
@@ -306,18 +281,17 @@ public class PythonClient {
         data.put("WORST",worst);
         data.put("REDIUS", redius);
 
-        return webClientBuilder
-                .baseUrl(pythonBaseUrl)
-                .build()
-                .post()
-                .uri("/api/location/generate-consulting-report")
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                .header("X-Trace-Id", traceId)
-                .bodyValue(data)
-                .retrieve()
-                .bodyToMono(LocationLLmResponseDTO.class)
-                .timeout(Duration.ofSeconds(timeoutSec))
+        return pythonCallCoalescer.coalesce(PythonEndpoint.LOCATION_REPORT, data, () -> webClients.ai()
+                        .post()
+                        .uri("/api/location/generate-consulting-report")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header("X-Trace-Id", traceId)
+                        .bodyValue(data)
+                        .retrieve()
+                        .bodyToMono(LocationLLmResponseDTO.class)
+                        .timeout(Duration.ofSeconds(timeoutSec))
+                        .transform(call -> pythonResilience.decorate(PythonEndpoint.LOCATION_REPORT, call)))
                 .block();
     }
 
@@ -329,17 +303,16 @@ public class PythonClient {
 
         log.info("[PythonRagClient] 트렌드 수집 요청 전송 -> brandId: {}, brandName: {}", brandId, brandName);
 
-        webClientBuilder
-                .baseUrl(pythonBaseUrl)
-                .build()
-                .post()
-                .uri("/api/trends/generate-related")
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                .bodyValue(body)
-                .retrieve()
-                .bodyToMono(String.class) // 먼저 String으로 받음
-                .timeout(Duration.ofSeconds(timeoutSec))
+        pythonCallCoalescer.coalesce(PythonEndpoint.TRENDS, body, () -> webClients.fast()
+                        .post()
+                        .uri("/api/trends/generate-related")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToMono(String.class) // 먼저 String으로 받음
+                        .timeout(Duration.ofSeconds(timeoutSec))
+                        .transform(call -> pythonResilience.decorate(PythonEndpoint.TRENDS, call)))
                 .map(jsonString -> {
                     log.info("[PythonRagClient] 트렌드 수집 응답 원본: brandId={}, response={}", brandId, jsonString);
                     
@@ -376,60 +349,37 @@ public class PythonClient {
     }
 
     // 이미지 콘텐츠 분석 요청 -------------------------------------------------------
-    public JsonNode analyzeImage(String base64Image, Long brandId, String provider, String traceId) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("base64Image", base64Image);
+    // 업로드 파일(Resource)을 multipart 파트로 그대로 스트리밍 (Base64 변환/바이트 배열 복사 없음)
+    // 재시도 시에도 Resource 에서 스트림을 새로 열어 다시 보냄
+    public JsonNode analyzeImage(Resource image, String filename, MediaType contentType, Long brandId, String provider, String traceId) {
+        MultipartBodyBuilder parts = new MultipartBodyBuilder();
+        parts.part("image", image).filename(filename != null ? filename : "image").contentType(contentType);
         if (brandId != null) {
-            body.put("brandId", brandId);
+            parts.part("brandId", brandId.toString());
         }
         // provider가 null이거나 빈 문자열이면 "openai" 기본값 사용
-        if (provider != null && !provider.isBlank()) {
-            body.put("provider", provider);
-        } else {
-            body.put("provider", "openai");
-        }
-
-        // 요청 body 크기 계산 (Base64 이미지는 크므로)
-        try {
-            String requestBodyJson = objectMapper.writeValueAsString(body);
-            int requestSizeBytes = requestBodyJson.getBytes("UTF-8").length;
-            log.info("[PythonRagClient] call POST /api/image/analyze traceId={} baseUrl={} brandId={} provider={} imageSize={} bytes ({} KB / {} MB) timeoutSec={}",
-                    traceId, pythonBaseUrl, brandId, provider, requestSizeBytes, requestSizeBytes / 1024.0, requestSizeBytes / (1024.0 * 1024.0), imageTimeoutSec);
-        } catch (Exception e) {
-            log.warn("[PythonRagClient] 요청 body 크기 계산 실패: {}", e.getMessage());
-        }
+        parts.part("provider", provider != null && !provider.isBlank() ? provider : "openai");
 
-        // 큰 이미지와 긴 응답을 처리하기 위해 maxInMemorySize 설정 (20MB)
-        ExchangeStrategies strategies = ExchangeStrategies.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(20 * 1024 * 1024))
-                .build();
+        log.info("[PythonRagClient] call POST /api/image/analyze-upload traceId={} baseUrl={} brandId={} provider={} contentType={} timeoutSec={}",
+                traceId, pythonBaseUrl, brandId, provider, contentType, imageTimeoutSec);
 
         try {
-            JsonNode response = webClientBuilder
-                    .baseUrl(pythonBaseUrl)
-                    .exchangeStrategies(strategies)
-                    .build()
+            JsonNode response = webClients.image()
                     .post()
-                    .uri("/api/image/analyze")
-                    .contentType(MediaType.APPLICATION_JSON)
+                    .uri("/api/image/analyze-upload")
+                    .contentType(MediaType.MULTIPART_FORM_DATA)
                     .accept(MediaType.APPLICATION_JSON)
                     .header("X-Trace-Id", traceId)
-                    .bodyValue(body)
+                    .body(BodyInserters.fromMultipartData(parts.build()))
                     .retrieve()
                     .bodyToMono(JsonNode.class)
                     .timeout(Duration.ofSeconds(imageTimeoutSec))
+                    .transform(call -> pythonResilience.decorate(PythonEndpoint.IMAGE_ANALYZE, call))
                     .block();
 
-            // 응답 크기 계산
+            // 요청/응답 크기는 PythonPayloadMeter 가 코덱 수준에서 계측 (python.http.*.bytes{client=image})
             if (response != null) {
-                try {
-                    String responseJson = objectMapper.writeValueAsString(response);
-                    int responseSizeBytes = responseJson.getBytes("UTF-8").length;
-                    log.info("[PythonRagClient] analyzeImage 응답 수신 완료 traceId={} responseSize={} bytes ({} KB)",
-                            traceId, responseSizeBytes, responseSizeBytes / 1024.0);
-                } catch (Exception e) {
-                    log.warn("[PythonRagClient] 응답 크기 계산 실패: {}", e.getMessage());
-                }
+                log.info("[PythonRagClient] analyzeImage 응답 수신 완료 traceId={}", traceId);
             } else {
                 log.warn("[PythonRagClient] analyzeImage 응답이 null입니다. traceId={}", traceId);
             }
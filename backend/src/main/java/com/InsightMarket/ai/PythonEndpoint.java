@@ -0,0 +1,27 @@
+package com.InsightMarket.ai;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서킷 브레이커/벌크헤드를 적용하는 Python 엔드포인트
+ * - maxConcurrentCalls: 동시에 진행할 수 있는 호출 수 (넘으면 기다리지 않고 바로 거절)
+ * - idempotent: 재시도해도 부작용이 없는 호출인지 (조회/생성형 응답만 재시도)
+ * 수집/재수집/배치 요청은 응답을 기다리지 않는 비동기 호출이라 적용 대상에서 제외
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PythonEndpoint {
+
+    ANALYZE("analyze", 2, false),                  // 분석 결과를 저장하는 파이프라인
+    ASK_STRATEGY("ask-strategy", 10, true),
+    SOLUTION_REPORT("solution-report", 5, true),
+    LOCATION_REPORT("location-report", 5, true),
+    IMAGE_ANALYZE("image-analyze", 3, true),
+    TRENDS("trends", 8, true);
+
+    // 설정 키와 서킷 브레이커 이름에 쓰는 값 (python.resilience.bulkhead.<key>.max-concurrent)
+    private final String key;
+    private final int maxConcurrentCalls;
+    private final boolean idempotent;
+}
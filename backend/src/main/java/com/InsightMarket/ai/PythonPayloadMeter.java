@@ -0,0 +1,89 @@
+package com.InsightMarket.ai;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Python 요청/응답 본문 크기 계측 필터
+ * - 인코더가 실제로 쓰는 DataBuffer 와 디코더가 받는 DataBuffer 의 바이트 수를 그대로 합산
+ *   (크기를 알기 위해 본문을 다시 직렬화하거나 복사하지 않음)
+ * - 지표: python.http.request.bytes{client}, python.http.response.bytes{client}
+ */
+@Slf4j
+public class PythonPayloadMeter implements ExchangeFilterFunction {
+
+    private final String client;
+    private final DistributionSummary requestBytes;
+    private final DistributionSummary responseBytes;
+
+    public PythonPayloadMeter(MeterRegistry meterRegistry, String client) {
+        this.client = client;
+        this.requestBytes = DistributionSummary.builder("python.http.request.bytes")
+                .baseUnit("bytes")
+                .tag("client", client)
+                .register(meterRegistry);
+        this.responseBytes = DistributionSummary.builder("python.http.response.bytes")
+                .baseUnit("bytes")
+                .tag("client", client)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String target = request.method() + " " + request.url().getPath();
+        String traceId = request.headers().getFirst("X-Trace-Id");
+
+        ClientRequest metered = ClientRequest.from(request)
+                .body((outputMessage, context) -> request.body().insert(new ClientHttpRequestDecorator(outputMessage) {
+                    @Override
+                    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                        AtomicLong sent = new AtomicLong();
+                        return super.writeWith(Flux.from(body).doOnNext(buffer -> sent.addAndGet(buffer.readableByteCount())))
+                                .doOnSuccess(done -> recordRequest(target, traceId, sent.get()));
+                    }
+
+                    @Override
+                    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                        AtomicLong sent = new AtomicLong();
+                        return super.writeAndFlushWith(Flux.from(body).map(chunk -> Flux.from(chunk)
+                                        .doOnNext(buffer -> sent.addAndGet(buffer.readableByteCount()))))
+                                .doOnSuccess(done -> recordRequest(target, traceId, sent.get()));
+                    }
+                }, context))
+                .build();
+
+        return next.exchange(metered)
+                .map(response -> {
+                    AtomicLong received = new AtomicLong();
+                    return response.mutate()
+                            .body(body -> body
+                                    .doOnNext(buffer -> received.addAndGet(buffer.readableByteCount()))
+                                    .doOnComplete(() -> recordResponse(target, traceId, received.get())))
+                            .build();
+                });
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private void recordRequest(String target, String traceId, long bytes) {
+        requestBytes.record(bytes);
+        log.debug("[PythonPayload] {} {} 요청 본문 {} bytes traceId={}", client, target, bytes, traceId);
+    }
+
+    private void recordResponse(String target, String traceId, long bytes) {
+        responseBytes.record(bytes);
+        log.debug("[PythonPayload] {} {} 응답 본문 {} bytes traceId={}", client, target, bytes, traceId);
+    }
+}
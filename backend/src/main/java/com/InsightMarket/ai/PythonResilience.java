@@ -0,0 +1,189 @@
+package com.InsightMarket.ai;
+
+import com.InsightMarket.ai.dto.resilience.PythonCircuitStateDTO;
+import com.InsightMarket.common.exception.ApiException;
+import com.InsightMarket.common.exception.ErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Python 호출 보호 계층 (엔드포인트별 벌크헤드 + 서킷 브레이커 + 재시도)
+ * - 벌크헤드: 엔드포인트별 동시 호출 수 제한. 가득 차면 기다리지 않고 BulkheadFullException
+ *   → 느린 Python 서버 때문에 Tomcat 요청 스레드가 모두 .block() 에 묶이는 것을 막음
+ * - 서킷 브레이커: 실패/지연 비율이 임계값을 넘으면 일정 시간 호출하지 않고 바로 CallNotPermittedException
+ *   (벌크헤드 거절과 4xx 응답은 서버 장애가 아니므로 실패로 세지 않음)
+ * - 재시도: 멱등 호출만, 요청이 서버에 닿지 못한 연결 오류일 때 지터를 준 지수 백오프로 재시도
+ *   (타임아웃은 서버가 이미 처리 중일 수 있으므로 재시도하지 않음)
+ * - 적용 순서: 재시도(서킷 브레이커(벌크헤드(호출)))
+ * - 지표는 Micrometer 로 노출 (resilience4j.circuitbreaker.*, resilience4j.bulkhead.*, resilience4j.retry.*)
+ */
+@Slf4j
+@Component
+public class PythonResilience {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final RetryRegistry retryRegistry;
+
+    private final Map<PythonEndpoint, CircuitBreaker> circuitBreakers = new EnumMap<>(PythonEndpoint.class);
+    private final Map<PythonEndpoint, Bulkhead> bulkheads = new EnumMap<>(PythonEndpoint.class);
+    private final Map<PythonEndpoint, Retry> retries = new EnumMap<>(PythonEndpoint.class);
+
+    public PythonResilience(
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${python.resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${python.resilience.circuit-breaker.slow-call-threshold-sec:120}") long slowCallThresholdSec,
+            @Value("${python.resilience.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${python.resilience.circuit-breaker.minimum-calls:5}") int minimumCalls,
+            @Value("${python.resilience.circuit-breaker.open-duration-sec:30}") long openDurationSec,
+            @Value("${python.resilience.retry.max-attempts:3}") int retryMaxAttempts,
+            @Value("${python.resilience.retry.initial-backoff-ms:500}") long retryInitialBackoffMs) {
+
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofSeconds(slowCallThresholdSec))
+                .waitDurationInOpenState(Duration.ofSeconds(openDurationSec))
+                .permittedNumberOfCallsInHalfOpenState(2)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .ignoreExceptions(BulkheadFullException.class)
+                .recordException(PythonResilience::isServerFailure)
+                .build();
+
+        RetryConfig retryConfig = RetryConfig.custom()
+                .maxAttempts(retryMaxAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        Duration.ofMillis(retryInitialBackoffMs), 2.0, 0.5))
+                .retryOnException(PythonResilience::isConnectFailure)
+                .build();
+
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.of(circuitBreakerConfig);
+        this.bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        this.retryRegistry = RetryRegistry.of(retryConfig);
+
+        for (PythonEndpoint endpoint : PythonEndpoint.values()) {
+            String name = "python-" + endpoint.getKey();
+            int maxConcurrent = environment.getProperty(
+                    "python.resilience.bulkhead." + endpoint.getKey() + ".max-concurrent",
+                    Integer.class, endpoint.getMaxConcurrentCalls());
+
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+            circuitBreaker.getEventPublisher().onStateTransition(event ->
+                    log.warn("[PythonResilience] {} 서킷 상태 변경: {}", name, event.getStateTransition()));
+            circuitBreakers.put(endpoint, circuitBreaker);
+
+            bulkheads.put(endpoint, bulkheadRegistry.bulkhead(name, BulkheadConfig.custom()
+                    .maxConcurrentCalls(maxConcurrent)
+                    .maxWaitDuration(Duration.ZERO)
+                    .build()));
+
+            if (endpoint.isIdempotent()) {
+                retries.put(endpoint, retryRegistry.retry(name));
+            }
+        }
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retryRegistry).bindTo(meterRegistry);
+    }
+
+    /**
+     * Python 호출 Mono 에 벌크헤드/서킷 브레이커/재시도를 적용합니다.
+     * 호출별 타임아웃은 call 안에 포함해야 시도마다 적용됩니다.
+     */
+    public <T> Mono<T> decorate(PythonEndpoint endpoint, Mono<T> call) {
+        Mono<T> decorated = call
+                .transformDeferred(BulkheadOperator.of(bulkheads.get(endpoint)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakers.get(endpoint)));
+        Retry retry = retries.get(endpoint);
+        return retry != null ? decorated.transformDeferred(RetryOperator.of(retry)) : decorated;
+    }
+
+    // 관리자 조회용: 엔드포인트별 서킷/벌크헤드 상태
+    public List<PythonCircuitStateDTO> getStates() {
+        return Arrays.stream(PythonEndpoint.values())
+                .map(endpoint -> {
+                    CircuitBreaker.Metrics metrics = circuitBreakers.get(endpoint).getMetrics();
+                    Bulkhead bulkhead = bulkheads.get(endpoint);
+                    return PythonCircuitStateDTO.builder()
+                            .endpoint(endpoint.getKey())
+                            .state(circuitBreakers.get(endpoint).getState().name())
+                            .failureRate(metrics.getFailureRate())
+                            .slowCallRate(metrics.getSlowCallRate())
+                            .bufferedCalls(metrics.getNumberOfBufferedCalls())
+                            .failedCalls(metrics.getNumberOfFailedCalls())
+                            .notPermittedCalls(metrics.getNumberOfNotPermittedCalls())
+                            .maxConcurrentCalls(bulkhead.getBulkheadConfig().getMaxConcurrentCalls())
+                            .availableConcurrentCalls(bulkhead.getMetrics().getAvailableConcurrentCalls())
+                            .build();
+                })
+                .toList();
+    }
+
+    // 관리자 조작용: 서킷을 닫힌 상태로 되돌리고 집계를 초기화 (Python 서버 복구 확인 후 사용)
+    public PythonCircuitStateDTO reset(String endpointKey) {
+        PythonEndpoint endpoint = Arrays.stream(PythonEndpoint.values())
+                .filter(e -> e.getKey().equals(endpointKey))
+                .findFirst()
+                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_REQUEST));
+        circuitBreakers.get(endpoint).reset();
+        log.info("[PythonResilience] python-{} 서킷 수동 초기화", endpointKey);
+        return getStates().get(endpoint.ordinal());
+    }
+
+    // 서킷 브레이커 또는 벌크헤드가 호출을 거절한 예외인지 (원인 체인 포함)
+    public static boolean isRejected(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof CallNotPermittedException || t instanceof BulkheadFullException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    // 4xx 응답은 요청 문제이므로 서버 장애로 세지 않음
+    private static boolean isServerFailure(Throwable e) {
+        return !(e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError());
+    }
+
+    // 요청이 서버에 전달되기 전 실패한 경우만 재시도 (연결 거부, 연결 풀 대기 초과 등)
+    private static boolean isConnectFailure(Throwable e) {
+        return e instanceof WebClientRequestException;
+    }
+}
@@ -0,0 +1,135 @@
+package com.InsightMarket.ai;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Python 서버 호출용 WebClient 모음 (기동 시 한 번 만들어 재사용하는 불변 인스턴스)
+ * - fast: 수집/배치/트렌드처럼 빠르게 응답하는 JSON 요청
+ * - ai: 분석·전략·리포트 등 LLM 을 거쳐 오래 걸리는 요청
+ * - image: 업로드 이미지를 multipart 로 스트리밍해 보내는 큰 요청
+ * - 종류별로 연결 풀(ConnectionProvider)을 분리해 오래 걸리는 AI 요청이 빠른 요청의 연결을 모두 점유하지 않도록 함
+ * - 풀 지표는 Micrometer 로 노출 (reactor.netty.connection.provider.* , name 태그 = python-fast/ai/image)
+ * - 요청/응답 본문 크기는 PythonPayloadMeter 로 코덱이 쓰고 읽는 바이트 기준 계측 (python.http.*.bytes, client 태그)
+ */
+@Slf4j
+@Component
+public class PythonWebClients {
+
+    private static final int FAST_MAX_IN_MEMORY_SIZE = 10 * 1024 * 1024;  // 10MB
+    private static final int AI_MAX_IN_MEMORY_SIZE = 10 * 1024 * 1024;    // 10MB
+    private static final int IMAGE_MAX_IN_MEMORY_SIZE = 20 * 1024 * 1024; // 20MB
+
+    private final ConnectionProvider fastProvider;
+    private final ConnectionProvider aiProvider;
+    private final ConnectionProvider imageProvider;
+
+    private final WebClient fast;
+    private final WebClient ai;
+    private final WebClient image;
+
+    public PythonWebClients(
+            WebClient.Builder webClientBuilder,
+            MeterRegistry meterRegistry,
+            @Value("${python.rag.base-url:http://localhost:8000}") String baseUrl,
+            @Value("${python.http.fast.max-connections:50}") int fastMaxConnections,
+            @Value("${python.http.fast.pending-acquire-max:500}") int fastPendingAcquireMax,
+            @Value("${python.http.ai.max-connections:20}") int aiMaxConnections,
+            @Value("${python.http.ai.pending-acquire-max:100}") int aiPendingAcquireMax,
+            @Value("${python.http.image.max-connections:5}") int imageMaxConnections,
+            @Value("${python.http.image.pending-acquire-max:20}") int imagePendingAcquireMax,
+            @Value("${python.http.pending-acquire-timeout-ms:10000}") long pendingAcquireTimeoutMs,
+            // Python(uvicorn) 의 keep-alive 유지 시간(기본 5초)보다 짧게 두어, 서버가 닫은 연결을 재사용하지 않도록 함
+            @Value("${python.http.max-idle-ms:4000}") long maxIdleMs,
+            @Value("${python.http.max-life-ms:300000}") long maxLifeMs,
+            @Value("${python.http.connect-timeout-ms:3000}") int connectTimeoutMs) {
+
+        Duration pendingAcquireTimeout = Duration.ofMillis(pendingAcquireTimeoutMs);
+        Duration maxIdle = Duration.ofMillis(maxIdleMs);
+        Duration maxLife = Duration.ofMillis(maxLifeMs);
+
+        this.fastProvider = connectionProvider("python-fast", fastMaxConnections, fastPendingAcquireMax,
+                pendingAcquireTimeout, maxIdle, maxLife);
+        this.aiProvider = connectionProvider("python-ai", aiMaxConnections, aiPendingAcquireMax,
+                pendingAcquireTimeout, maxIdle, maxLife);
+        this.imageProvider = connectionProvider("python-image", imageMaxConnections, imagePendingAcquireMax,
+                pendingAcquireTimeout, maxIdle, maxLife);
+
+        this.fast = webClient(webClientBuilder, baseUrl, fastProvider, connectTimeoutMs, FAST_MAX_IN_MEMORY_SIZE,
+                new PythonPayloadMeter(meterRegistry, "fast"));
+        this.ai = webClient(webClientBuilder, baseUrl, aiProvider, connectTimeoutMs, AI_MAX_IN_MEMORY_SIZE,
+                new PythonPayloadMeter(meterRegistry, "ai"));
+        this.image = webClient(webClientBuilder, baseUrl, imageProvider, connectTimeoutMs, IMAGE_MAX_IN_MEMORY_SIZE,
+                new PythonPayloadMeter(meterRegistry, "image"));
+
+        log.info("[PythonWebClients] baseUrl={} 연결 풀 fast={} ai={} image={}",
+                baseUrl, fastMaxConnections, aiMaxConnections, imageMaxConnections);
+    }
+
+    public WebClient fast() {
+        return fast;
+    }
+
+    public WebClient ai() {
+        return ai;
+    }
+
+    public WebClient image() {
+        return image;
+    }
+
+    @PreDestroy
+    public void dispose() {
+        fastProvider.dispose();
+        aiProvider.dispose();
+        imageProvider.dispose();
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private static ConnectionProvider connectionProvider(String name, int maxConnections, int pendingAcquireMax,
+                                                         Duration pendingAcquireTimeout, Duration maxIdle, Duration maxLife) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                // 연결을 기다리는 요청 수/시간 제한 (넘으면 PoolAcquirePendingLimitException / PoolAcquireTimeoutException)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdle)
+                .maxLifeTime(maxLife)
+                // 요청이 없을 때도 유휴/만료 연결을 주기적으로 정리
+                .evictInBackground(maxIdle)
+                .metrics(true)
+                .build();
+    }
+
+    private static WebClient webClient(WebClient.Builder webClientBuilder, String baseUrl, ConnectionProvider provider,
+                                       int connectTimeoutMs, int maxInMemorySize, PythonPayloadMeter payloadMeter) {
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true);
+
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                .build();
+
+        // 공유 빌더를 변경하지 않도록 복제해서 사용
+        return webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(strategies)
+                .filter(payloadMeter)
+                .build();
+    }
+}
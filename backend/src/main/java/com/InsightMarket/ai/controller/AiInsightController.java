@@ -3,16 +3,22 @@ package com.InsightMarket.ai.controller;
 import com.InsightMarket.ai.dto.aiInsight.AiAskRequestDTO;
 import com.InsightMarket.ai.dto.aiInsight.SaveReportRequestDTO;
 import com.InsightMarket.ai.dto.aiInsight.SolutionReportRequestDTO;
+import com.InsightMarket.ai.dto.aiJob.AiJobDTO;
 import com.InsightMarket.ai.service.aiInsight.AiInsightService;
+import com.InsightMarket.ai.service.aiJob.AiJobService;
 import com.InsightMarket.dto.member.MemberDTO;
 import com.InsightMarket.security.util.MemberUtil;
 import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @RestController
@@ -21,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 public class AiInsightController {
 
     private final AiInsightService aiInsightService;
+    private final AiJobService aiJobService;
     private final MemberUtil memberUtil;
 
     @PostMapping("/ask")
@@ -70,6 +77,66 @@ public class AiInsightController {
         return ResponseEntity.ok(res);
     }
     
+    // ===== 비동기 작업 API =====
+    // 접수 즉시 202 + jobId 를 반환하고 LLM 호출은 작업 풀에서 실행 (요청 스레드를 점유하지 않음)
+    // 결과는 GET /jobs/{jobId} 폴링 또는 GET /jobs/{jobId}/stream SSE 로 확인
+
+    @PostMapping("/jobs/ask")
+    public ResponseEntity<AiJobDTO> submitAskJob(
+            @PathVariable Long brandId,
+            @RequestBody AiAskRequestDTO req,
+            HttpServletRequest httpRequest
+    ) {
+        String traceId = (String) httpRequest.getAttribute("X-Trace-Id");
+        if (traceId == null || traceId.isBlank()) {
+            traceId = "unknown";
+        }
+
+        req.setBrandId(brandId);
+
+        log.info("[AiInsightController] POST /api/{}/ai/jobs/ask traceId={} projectId={} questionLen={}",
+                brandId, traceId, req.getProjectId(), req.getQuestion() != null ? req.getQuestion().length() : 0);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(aiJobService.submitAsk(req, traceId));
+    }
+
+    @PostMapping("/jobs/generate-solution-report")
+    public ResponseEntity<AiJobDTO> submitSolutionReportJob(
+            @PathVariable Long brandId,
+            @RequestBody SolutionReportRequestDTO req,
+            HttpServletRequest httpRequest
+    ) {
+        String traceId = (String) httpRequest.getAttribute("X-Trace-Id");
+        if (traceId == null || traceId.isBlank()) {
+            traceId = "unknown";
+        }
+
+        req.setBrandId(brandId);
+
+        log.info("[AiInsightController] POST /api/{}/ai/jobs/generate-solution-report traceId={} solutionTitle={}",
+                brandId, traceId, req.getSolutionTitle());
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(aiJobService.submitSolutionReport(req, traceId));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<AiJobDTO> getJob(
+            @PathVariable Long brandId,
+            @PathVariable String jobId
+    ) {
+        return ResponseEntity.ok(aiJobService.getJob(brandId, jobId));
+    }
+
+    // 작업 진행 상황 SSE 스트림 (job-status → job-complete 후 종료)
+    @GetMapping(value = "/jobs/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamJob(
+            @PathVariable Long brandId,
+            @PathVariable String jobId
+    ) {
+        log.info("[AiInsightController] GET /api/{}/ai/jobs/{}/stream", brandId, jobId);
+        return aiJobService.subscribe(brandId, jobId);
+    }
+
     @PostMapping("/save-report")
     public ResponseEntity<JsonNode> saveReport(
             @PathVariable Long brandId,
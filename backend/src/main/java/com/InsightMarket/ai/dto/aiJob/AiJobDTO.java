@@ -0,0 +1,31 @@
+package com.InsightMarket.ai.dto.aiJob;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class AiJobDTO {
+
+    private String jobId;
+    private String type;            // "ask", "solution-report"
+    private Long brandId;
+    private String traceId;
+
+    private AiJobStatus status;
+    private int progress;           // 0 ~ 100
+    private String message;         // 진행 상황 안내 문구 (실패 시 실패 사유)
+    private int version;            // 상태가 바뀔 때마다 1 증가 (SSE 에서 늦게 도착한 이전 상태를 거르는 기준)
+
+    private JsonNode result;        // 완료 시 동기 API 와 같은 응답 본문
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,15 @@
+package com.InsightMarket.ai.dto.aiJob;
+
+// AI 작업 상태 (QUEUED → RUNNING → SUCCEEDED / FAILED)
+public enum AiJobStatus {
+
+    QUEUED,     // 작업 큐에서 실행 대기
+    RUNNING,    // Python(LLM) 호출 중
+    SUCCEEDED,
+    FAILED;
+
+    // 더 이상 바뀌지 않는 상태인지 (SSE 스트림 종료 기준)
+    public boolean isTerminal() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,24 @@
+package com.InsightMarket.ai.dto.resilience;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PythonCircuitStateDTO {
+
+    private String endpoint;        // 엔드포인트 키 (예: "ask-strategy")
+    private String state;           // CLOSED, OPEN, HALF_OPEN ...
+    private float failureRate;      // 실패율 % (최소 호출 수 미만이면 -1)
+    private float slowCallRate;     // 지연 호출 비율 % (최소 호출 수 미만이면 -1)
+    private int bufferedCalls;      // 집계 창에 있는 호출 수
+    private int failedCalls;        // 집계 창의 실패 호출 수
+    private long notPermittedCalls; // 서킷이 열려 거절한 호출 수
+
+    private int maxConcurrentCalls;     // 벌크헤드 최대 동시 호출 수
+    private int availableConcurrentCalls; // 벌크헤드 남은 자리
+}
@@ -0,0 +1,42 @@
+package com.InsightMarket.ai.dto.trends;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+//    역할:
+//    SSE trend-delta 이벤트: 직전 스냅샷(baseVersion) 대비 바뀐 연관 검색어만 담아 전송
+//    클라이언트는 자신이 가진 버전이 baseVersion 과 같을 때만 적용하고, 다르면 전체 스냅샷을 다시 받음
+public class TrendDeltaDTO {
+    private Long version;       // 이 변경을 적용한 뒤의 버전 (SSE 이벤트 id)
+    private Long baseVersion;   // 변경의 기준이 되는 직전 버전
+    private String keyword;
+    private String collectedAt;
+    private ListDelta top;      // 인기 연관 검색어 변경분
+    private ListDelta rising;   // 급상승 연관 검색어 변경분
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ListDelta {
+        private List<String> removed;      // 빠진 검색어
+        private List<RankedItem> changed;  // 새로 들어왔거나 순위/값이 바뀐 검색어
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RankedItem {
+        private String query;
+        private String value;
+        private int rank;                  // 0부터 시작하는 순위 (리스트 위치)
+    }
+}
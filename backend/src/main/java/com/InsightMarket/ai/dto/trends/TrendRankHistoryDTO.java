@@ -0,0 +1,31 @@
+package com.InsightMarket.ai.dto.trends;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+//    역할:
+//    연관 검색어 하나의 시간대별 순위 변화 (압축된 brand_trend 스냅샷을 시/일 단위로 다운샘플링)
+public class TrendRankHistoryDTO {
+    private Long brandId;
+    private String keyword;     // 순위를 추적할 연관 검색어
+    private String listType;    // top / rising
+    private String unit;        // HOUR / DAY
+    private List<Point> points;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Point {
+        private String collectedAt;
+        private Integer rank;   // 1부터 시작, 해당 시점 리스트에 없으면 null
+        private String value;
+    }
+}
@@ -0,0 +1,96 @@
+package com.InsightMarket.ai.scheduler;
+
+import com.InsightMarket.common.event.AnalyticsIngestedEvent;
+import com.InsightMarket.service.analytics.BenchmarkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+//수집으로 바뀐 주차의 브랜드 벤치마크를 커밋 후 모아서 다시 계산하는 스케줄러
+// - 수집 트랜잭션에서는 주차만 기록하므로 벤치마크 재계산 실패/충돌이 수집을 롤백하지 않음
+// - 주기 안에 같은 주차가 여러 번 수집되어도 재계산은 한 번만 수행
+// - 대기 주차는 Redis Set 에 보관하므로 노드가 재시작/배포되어도 남고, SPOP 으로 꺼내 한 노드만 재계산
+// - Redis 오류 시에는 노드 로컬 목록에 두었다가 다음 주기에 Redis 로 다시 옮김
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BenchmarkRebuildScheduler {
+
+    private static final String PENDING_WEEKS_KEY = "analytics:benchmark:pending-weeks";
+
+    private final BenchmarkService benchmarkService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 한 주기에 꺼낼 최대 주차 수 (과거 주차 백필이 한 번에 몰려도 주기당 작업량을 제한)
+    @Value("${analytics.benchmark.rebuild-batch-size:52}")
+    private int batchSize = 52;
+
+    // Redis 에 기록하지 못한 주차 (월요일)
+    private final Set<LocalDate> localPendingWeeks = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAnalyticsIngested(AnalyticsIngestedEvent event) {
+        if (event.getWeekStarts() != null && !event.getWeekStarts().isEmpty()) {
+            addPending(event.getWeekStarts());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.benchmark.rebuild-delay-ms:30000}")
+    public void rebuildPendingWeeks() {
+        if (!localPendingWeeks.isEmpty()) {
+            List<LocalDate> local = new ArrayList<>(localPendingWeeks);
+            localPendingWeeks.removeAll(local);
+            addPending(local);
+        }
+
+        List<LocalDate> weeks = popPending();
+        if (weeks.isEmpty()) {
+            return;
+        }
+
+        try {
+            benchmarkService.rebuildWeeks(weeks);
+            log.info("[BenchmarkRebuild] 벤치마크 재계산 완료 주차 {}개", weeks.size());
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            addPending(weeks);
+            log.error("[BenchmarkRebuild] 벤치마크 재계산 실패 주차 {}개", weeks.size(), e);
+        }
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private void addPending(Collection<LocalDate> weeks) {
+        try {
+            stringRedisTemplate.opsForSet().add(PENDING_WEEKS_KEY,
+                    weeks.stream().map(LocalDate::toString).toArray(String[]::new));
+        } catch (Exception e) {
+            localPendingWeeks.addAll(weeks);
+            log.warn("[BenchmarkRebuild] 재계산 대기 주차 Redis 기록 실패, 노드 로컬에 보관: {}", e.getMessage());
+        }
+    }
+
+    private List<LocalDate> popPending() {
+        try {
+            List<String> values = stringRedisTemplate.opsForSet().pop(PENDING_WEEKS_KEY, batchSize);
+            if (values == null) {
+                return List.of();
+            }
+            return values.stream().map(LocalDate::parse).toList();
+        } catch (Exception e) {
+            log.warn("[BenchmarkRebuild] 재계산 대기 주차 조회 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.InsightMarket.ai.scheduler;
+
+import com.InsightMarket.service.analytics.SimilarBrandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+//야간에 브랜드 간 토큰 분포 유사도를 다시 계산하는 스케줄러
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SimilarBrandScheduler {
+
+    private final SimilarBrandService similarBrandService;
+
+    // 매일 새벽 4시 (수집 배치가 끝난 뒤)
+    @Scheduled(cron = "${analytics.similar-brand.cron:0 0 4 * * ?}")
+    public void rebuildSimilarBrands() {
+        try {
+            log.info("=== 유사 브랜드 재계산 시작 ===");
+            similarBrandService.rebuildAll();
+            log.info("=== 유사 브랜드 재계산 종료 ===");
+        } catch (Exception e) {
+            log.error("유사 브랜드 재계산 실패", e);
+        }
+    }
+}
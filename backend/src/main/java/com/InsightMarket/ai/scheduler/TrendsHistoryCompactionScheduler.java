@@ -0,0 +1,28 @@
+package com.InsightMarket.ai.scheduler;
+
+import com.InsightMarket.ai.service.trends.TrendsHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+//오래된 브랜드 트렌드 스냅샷을 시/일 단위로 압축하는 스케줄러
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendsHistoryCompactionScheduler {
+
+    private final TrendsHistoryService trendsHistoryService;
+
+    // 매일 새벽 3시 30분
+    @Scheduled(cron = "${trends.history.compaction-cron:0 30 3 * * ?}")
+    public void compactTrendHistory() {
+        try {
+            log.info("=== 트렌드 스냅샷 압축 시작 ===");
+            int deleted = trendsHistoryService.compactHistory();
+            log.info("=== 트렌드 스냅샷 압축 종료: {}건 삭제 ===", deleted);
+        } catch (Exception e) {
+            log.error("트렌드 스냅샷 압축 실패", e);
+        }
+    }
+}
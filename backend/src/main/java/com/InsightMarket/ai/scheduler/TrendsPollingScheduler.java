@@ -1,15 +1,35 @@
 package com.InsightMarket.ai.scheduler;
 
+import com.InsightMarket.ai.dto.scheduler.BrandIdNameDTO;
+import com.InsightMarket.ai.service.trends.TrendsRedisService;
 import com.InsightMarket.ai.service.trends.TrendsService;
 import com.InsightMarket.repository.brand.BrandRepository;
-import jakarta.annotation.PostConstruct;
+import com.InsightMarket.service.sse.TrendSseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 
  //정기적으로 Python API 수집을 트리거하는 스케줄러 클래스
+ // - 보고 있는 사용자(SSE 연결)가 있는 브랜드는 짧은 주기, 없는 브랜드는 긴 주기로 갱신
+ // - 요청은 간격 + 지터를 두고 순서대로 내보내며, 동시에 진행 중인 요청 수를 제한
+ // - 다른 노드가 이번 주기 안에 이미 수집한 브랜드는 건너뜀 (대상 브랜드의 마지막 수집 시각을 MGET 1회로 확인)
+ //   스냅샷의 collectedAt 은 내용이 같으면 갱신되지 않으므로 별도로 기록한 수집 시각을 기준으로 함
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -17,6 +37,33 @@ public class TrendsPollingScheduler {
 
     private final TrendsService trendsService;
     private final BrandRepository brandRepository;
+    private final TrendSseService trendSseService;
+    private final TrendsRedisService trendsRedisService;
+
+    // SSE 구독자가 있는 브랜드의 갱신 주기
+    @Value("${trends.polling.active-interval-ms:600000}")
+    private long activeIntervalMs = 600_000L;
+
+    // 구독자가 없는 브랜드의 갱신 주기
+    @Value("${trends.polling.idle-interval-ms:3600000}")
+    private long idleIntervalMs = 3_600_000L;
+
+    // 동시에 진행할 수 있는 Python 트렌드 요청 수
+    @Value("${trends.polling.max-concurrency:4}")
+    private int maxConcurrency = 4;
+
+    // 요청 사이 최소 간격과 추가 무작위 지연
+    @Value("${trends.polling.min-spacing-ms:500}")
+    private long minSpacingMs = 500L;
+
+    @Value("${trends.polling.jitter-ms:2000}")
+    private long jitterMs = 2_000L;
+
+    // 브랜드별 마지막 요청 시각 (브랜드 ID -> epoch ms)
+    private final Map<Long, Long> lastRequestedAt = new ConcurrentHashMap<>();
+
+    // 이전 틱의 요청이 아직 진행 중이면 새 틱은 건너뜀
+    private final AtomicBoolean dispatching = new AtomicBoolean();
 
      // 서버 시작 시 즉시 실행 (빈 초기화 후)
 //     @PostConstruct
@@ -26,13 +73,83 @@ public class TrendsPollingScheduler {
 //         log.info("=== 트렌드 데이터 초기 수집 완료 ===");
 //     }
 
-    // 10분(600,000ms)마다 DB의 모든 브랜드를 순회하며
-    // 최신 구글 연관 검색어 데이터를 수집하도록 요청합니다.
-    @Scheduled(fixedRate = 600000)
+    // 1분마다 갱신 시점이 된 브랜드만 골라 최신 구글 연관 검색어 데이터를 수집하도록 요청합니다.
+    @Scheduled(fixedDelayString = "${trends.polling.tick-ms:60000}")
     public void updateAllBrandTrends() {
-        brandRepository.findAll().forEach(brand -> {
-            trendsService.fetchAndSaveTrends(brand.getId(), brand.getName());
-        });
+        if (!dispatching.compareAndSet(false, true)) {
+            log.debug("[TrendsPolling] 이전 요청이 진행 중이어서 이번 틱은 건너뜀");
+            return;
+        }
+
+        List<BrandIdNameDTO> dueBrands;
+        try {
+            dueBrands = selectDueBrands(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            dispatching.set(false);
+            throw e;
+        }
+        if (dueBrands.isEmpty()) {
+            dispatching.set(false);
+            return;
+        }
+
+        log.info("[TrendsPolling] 트렌드 갱신 대상 브랜드 {}개", dueBrands.size());
+        Flux.fromIterable(dueBrands)
+                // 요청 시작 간격 제한 + 지터 (Python 서버/구글 트렌드 호출이 한꺼번에 몰리지 않도록)
+                .concatMap(brand -> Mono.just(brand).delayElement(nextDelay()))
+                .flatMap(brand -> Mono.fromFuture(() -> trendsService.fetchAndSaveTrends(brand.getBrandId(), brand.getBrandName()))
+                                .onErrorResume(e -> {
+                                    log.warn("[TrendsPolling] 브랜드 {} 트렌드 요청 실패: {}", brand.getBrandId(), e.getMessage());
+                                    return Mono.empty();
+                                }),
+                        maxConcurrency)
+                .doFinally(signal -> dispatching.set(false))
+                .subscribe();
     }
-}
 
+    //내부 함수 -----------------------------------------------------------------------
+
+    private List<BrandIdNameDTO> selectDueBrands(long now) {
+        List<BrandIdNameDTO> brands = brandRepository.findAllBrandIdAndName();
+
+        // 삭제된 브랜드의 기록 정리
+        Set<Long> brandIds = new HashSet<>();
+        brands.forEach(brand -> brandIds.add(brand.getBrandId()));
+        lastRequestedAt.keySet().retainAll(brandIds);
+
+        Map<Long, Long> intervals = new HashMap<>();
+        List<BrandIdNameDTO> candidates = brands.stream()
+                .filter(brand -> {
+                    long interval = trendSseService.getConnectionCount(brand.getBrandId()) > 0 ? activeIntervalMs : idleIntervalMs;
+                    intervals.put(brand.getBrandId(), interval);
+                    Long last = lastRequestedAt.get(brand.getBrandId());
+                    return last == null || now - last >= interval;
+                })
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        // 후보 브랜드의 마지막 수집 시각을 한 번에 조회해 다른 노드가 이미 수집한 브랜드는 제외
+        Map<Long, Long> refreshed = trendsRedisService.getRefreshedAt(
+                candidates.stream().map(BrandIdNameDTO::getBrandId).toList());
+
+        return candidates.stream()
+                .filter(brand -> {
+                    Long refreshedAt = refreshed.get(brand.getBrandId());
+                    if (refreshedAt != null && now - refreshedAt < intervals.get(brand.getBrandId())) {
+                        lastRequestedAt.put(brand.getBrandId(), refreshedAt);
+                        return false;
+                    }
+                    // 요청 시작 시각 기준으로 기록 (실패한 브랜드가 매 틱마다 재시도되지 않도록)
+                    lastRequestedAt.put(brand.getBrandId(), now);
+                    return true;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Duration nextDelay() {
+        long jitter = jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0L;
+        return Duration.ofMillis(minSpacingMs + jitter);
+    }
+}
@@ -1,19 +1,27 @@
 package com.InsightMarket.ai.service;
 
 import com.InsightMarket.ai.PythonClient;
+import com.InsightMarket.common.event.AnalyticsIngestedEvent;
 import com.InsightMarket.domain.analytics.keyword.*;
 import com.InsightMarket.repository.analytics.keyword.*;
 import com.InsightMarket.repository.keyword.ProjectKeywordRepository;
+import com.InsightMarket.service.analytics.SentimentRollupService;
+import com.InsightMarket.service.analytics.TokenGraphService;
+import com.InsightMarket.service.analytics.TokenVelocityService;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -27,6 +35,10 @@ public class AnalyticsProcessingService {
     private final AnalyticsKeywordBaselineStatsRepository baselineStatsRepository;
     private final AnalyticsKeywordInsightResultRepository insightResultRepository;
     private final ProjectKeywordRepository projectKeywordRepository;
+    private final SentimentRollupService sentimentRollupService;
+    private final TokenGraphService tokenGraphService;
+    private final TokenVelocityService tokenVelocityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public JsonNode processAnalysis(String filePath, Long brandId, String traceId) {
@@ -44,20 +56,56 @@ public class AnalyticsProcessingService {
             throw new RuntimeException("분석 실패: " + errorMsg);
         }
 
+        // 저장 단계 시작 시각 (Python/LLM 왕복 시간은 제외해 그래프 갱신 비중이 저장 단계 기준이 되도록 함)
+        long persistStartNanos = System.nanoTime();
+
         // 2. JSON 데이터를 엔티티로 변환 및 저장
-        saveDailyStats(response.get("daily_stats"));
-        saveSentimentStats(response.get("sentiment_stats"));
-        saveTokenStats(response.get("token_stats"));
+        List<AnalyticsKeywordDailyStats> dailyStats = saveDailyStats(response.get("daily_stats"));
+        List<AnalyticsKeywordSentimentDailyStats> sentimentStats = saveSentimentStats(response.get("sentiment_stats"));
+        List<AnalyticsKeywordTokenSentimentStats> tokenStats = saveTokenStats(response.get("token_stats"));
         saveBaselineStats(response.get("baseline_stats"));
         saveInsights(response.get("insights"));
 
+        // 3. 감성 건수 롤업 갱신 (벤치마크 긍정 비율이 롤업을 읽으므로 먼저 수행)
+        sentimentRollupService.refresh(dailyStats, sentimentStats);
+
+        // 4. 이번 수집으로 변경된 주차 (벤치마크 스케치는 커밋 후 BenchmarkRebuildScheduler 가 주차별로 모아서 갱신)
+        Set<LocalDate> touchedWeeks = new HashSet<>();
+        dailyStats.forEach(s -> touchedWeeks.add(s.getStatDate().with(DayOfWeek.MONDAY)));
+        sentimentStats.forEach(s -> touchedWeeks.add(s.getStatDate().with(DayOfWeek.MONDAY)));
+
+        // 5. (브랜드, 토큰)별 감쇠 출현율 갱신 및 급상승 토큰 감지
+        tokenVelocityService.update(tokenStats);
+
+        // 6. 토큰 동시 출현 그래프 증분 갱신 (저장 단계 시간 대비 비중을 함께 기록)
+        long graphStartNanos = System.nanoTime();
+        tokenGraphService.accumulate(tokenStats);
+        long graphNanos = System.nanoTime() - graphStartNanos;
+        long persistNanos = System.nanoTime() - persistStartNanos;
+        double graphShare = persistNanos > 0 ? graphNanos * 100.0 / persistNanos : 0.0;
+        if (graphShare > 10.0) {
+            log.warn("[AnalyticsProcessingService] token graph 갱신 비중 초과 traceId={} graphMs={} persistMs={} share={}%",
+                    traceId, graphNanos / 1_000_000, persistNanos / 1_000_000, String.format("%.1f", graphShare));
+        } else {
+            log.info("[AnalyticsProcessingService] token graph 갱신 완료 traceId={} graphMs={} persistMs={} share={}%",
+                    traceId, graphNanos / 1_000_000, persistNanos / 1_000_000, String.format("%.1f", graphShare));
+        }
+
+        // 7. 새 분석 결과가 반영된 브랜드의 AI 답변 캐시 무효화, 변경 주차의 벤치마크 재계산 예약 (커밋 후 처리)
+        Set<Long> ingestedBrandIds = new HashSet<>();
+        ingestedBrandIds.add(brandId);
+        dailyStats.forEach(s -> ingestedBrandIds.add(s.getBrandId()));
+        sentimentStats.forEach(s -> ingestedBrandIds.add(s.getBrandId()));
+        ingestedBrandIds.remove(null);
+        eventPublisher.publishEvent(new AnalyticsIngestedEvent(this, ingestedBrandIds, touchedWeeks));
+
         log.info("[AnalyticsProcessingService] processAnalysis end traceId={}", traceId);
         return response;
     }
 
-    private void saveDailyStats(JsonNode dailyStatsNode) {
+    private List<AnalyticsKeywordDailyStats> saveDailyStats(JsonNode dailyStatsNode) {
         if (dailyStatsNode == null || !dailyStatsNode.isArray()) {
-            return;
+            return List.of();
         }
 
         List<AnalyticsKeywordDailyStats> entities = new ArrayList<>();
@@ -103,11 +151,12 @@ public class AnalyticsProcessingService {
             dailyStatsRepository.save(entity);
         }
         log.info("[AnalyticsProcessingService] daily_stats 저장 완료: {}개", entities.size());
+        return entities;
     }
 
-    private void saveSentimentStats(JsonNode sentimentStatsNode) {
+    private List<AnalyticsKeywordSentimentDailyStats> saveSentimentStats(JsonNode sentimentStatsNode) {
         if (sentimentStatsNode == null || !sentimentStatsNode.isArray()) {
-            return;
+            return List.of();
         }
 
         List<AnalyticsKeywordSentimentDailyStats> entities = new ArrayList<>();
@@ -148,11 +197,12 @@ public class AnalyticsProcessingService {
             sentimentStatsRepository.save(entity);
         }
         log.info("[AnalyticsProcessingService] sentiment_stats 저장 완료: {}개", entities.size());
+        return entities;
     }
 
-    private void saveTokenStats(JsonNode tokenStatsNode) {
+    private List<AnalyticsKeywordTokenSentimentStats> saveTokenStats(JsonNode tokenStatsNode) {
         if (tokenStatsNode == null || !tokenStatsNode.isArray()) {
-            return;
+            return List.of();
         }
 
         List<AnalyticsKeywordTokenSentimentStats> entities = new ArrayList<>();
@@ -193,6 +243,7 @@ public class AnalyticsProcessingService {
             tokenStatsRepository.save(entity);
         }
         log.info("[AnalyticsProcessingService] token_stats 저장 완료: {}개", entities.size());
+        return entities;
     }
 
     private void saveBaselineStats(JsonNode baselineStatsNode) {
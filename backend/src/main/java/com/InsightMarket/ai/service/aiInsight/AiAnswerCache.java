@@ -0,0 +1,331 @@
+package com.InsightMarket.ai.service.aiInsight;
+
+import com.InsightMarket.common.event.AnalyticsIngestedEvent;
+import com.InsightMarket.common.sketch.MinHashLsh;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AI 답변 캐시 (질문/솔루션 리포트)
+ * - 정확 일치: 정규화한 질문 + 브랜드 + 요청 범위(프로젝트, 정렬한 키워드 id, topK 등)로 키를 만들어 같은 질문은 Python(LLM)을 다시 호출하지 않음
+ * - 유사 질문: 같은 요청 범위 안에서 질문의 MinHash 서명을 LSH 버킷에 등록하고, 추정 유사도가 임계값 이상인 기존 답변을 재사용
+ *   (문자 n-gram 유사도는 "1월/2월", "긍정/부정" 같은 한 단어 차이를 구분하지 못하므로, 서로 다른 단어에 숫자나 반대 의미 단어가 있으면 재사용하지 않음)
+ * - 무효화: 브랜드별 세대 번호를 키에 포함하고 새 분석 결과가 저장되면 세대를 올림 (이전 세대 키는 TTL 로 자연 만료)
+ * - 성공 응답만 저장하며, Redis 오류 시에는 캐시 없이 바로 호출
+ * - 지표: ai.answer.cache.requests{type, result=exact|similar|miss}, ai.answer.cache.llm.saved.seconds{type}
+ */
+@Slf4j
+@Component
+public class AiAnswerCache {
+
+    public static final String TYPE_ASK = "ask";
+    public static final String TYPE_SOLUTION_REPORT = "solution-report";
+
+    private static final String KEY_PREFIX = "ai:answer:";
+    private static final String GENERATION_KEY_PREFIX = "ai:answer:gen:";
+
+    private static final String REQUEST_METRIC = "ai.answer.cache.requests";
+    private static final String SAVED_METRIC = "ai.answer.cache.llm.saved.seconds";
+
+    // 한쪽 질문에만 있으면 뜻이 반대가 되는 단어 쌍 (조사가 붙은 형태도 포함하도록 부분 일치로 비교)
+    private static final List<String[]> OPPOSING_TERMS = List.of(
+            new String[]{"긍정", "부정"},
+            new String[]{"증가", "감소"},
+            new String[]{"상승", "하락"},
+            new String[]{"급증", "급감"},
+            new String[]{"호평", "혹평"},
+            new String[]{"장점", "단점"},
+            new String[]{"최고", "최저"},
+            new String[]{"높", "낮"},
+            new String[]{"좋", "나쁘"},
+            new String[]{"이전", "이후"},
+            new String[]{"positive", "negative"},
+            new String[]{"increase", "decrease"});
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final MinHashLsh minHashLsh;
+
+    private final boolean enabled;
+    private final long ttlMinutes;
+    private final double similarityThreshold;
+    private final int similarMinLength;
+
+    record CacheEntry(String question, int[] signature, long llmMillis, JsonNode answer) {
+    }
+
+    // 조회 결과 (hit 이 null 이면 미스, 나머지는 미스 시 저장에 사용)
+    private record Lookup(String normalized, String exactKey, int[] signature, List<String> bucketKeys, JsonNode hit) {
+    }
+
+    public AiAnswerCache(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ai.answer-cache.enabled:true}") boolean enabled,
+            @Value("${ai.answer-cache.ttl-minutes:360}") long ttlMinutes,
+            @Value("${ai.answer-cache.similarity-threshold:0.85}") double similarityThreshold,
+            // 짧은 질문은 한두 글자 차이로 뜻이 바뀌므로 유사 질문 재사용에서 제외
+            @Value("${ai.answer-cache.similar-min-length:12}") int similarMinLength,
+            @Value("${ai.answer-cache.lsh.bands:16}") int bands,
+            @Value("${ai.answer-cache.lsh.rows:4}") int rows) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ttlMinutes = ttlMinutes;
+        this.similarityThreshold = similarityThreshold;
+        this.similarMinLength = similarMinLength;
+        this.minHashLsh = new MinHashLsh(bands, rows, 3, 0x1A5E_C0DEL);
+    }
+
+    /**
+     * 캐시된 답변을 반환하고, 없으면 loader 로 Python 을 호출해 성공 응답을 저장합니다.
+     * @param scope 질문 외의 요청 범위 (같은 scope 안에서만 답변을 재사용)
+     */
+    public JsonNode getOrLoad(String type, Long brandId, String question, String scope, Supplier<JsonNode> loader) {
+        if (!enabled || question == null || question.isBlank()) {
+            return loader.get();
+        }
+
+        Lookup lookup = lookup(type, brandId, question, scope);
+        if (lookup == null) {
+            return loader.get();
+        }
+        if (lookup.hit() != null) {
+            return lookup.hit();
+        }
+
+        // 3. 미스: Python 호출 후 성공 응답만 저장
+        meterRegistry.counter(REQUEST_METRIC, "type", type, "result", "miss").increment();
+        long startNanos = System.nanoTime();
+        JsonNode answer = loader.get();
+        long llmMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        if (isCacheable(answer)) {
+            write(lookup.exactKey(), lookup.bucketKeys(),
+                    new CacheEntry(lookup.normalized(), lookup.signature(), llmMillis, answer));
+        }
+        return answer;
+    }
+
+    /**
+     * 캐시된 답변만 조회합니다. (없으면 null, Python 은 호출하지 않음)
+     * 비동기 작업이 공정 큐에 들어가기 전에 캐시로 끝낼 수 있는지 확인하는 용도
+     */
+    public JsonNode find(String type, Long brandId, String question, String scope) {
+        if (!enabled || question == null || question.isBlank()) {
+            return null;
+        }
+        Lookup lookup = lookup(type, brandId, question, scope);
+        return lookup != null ? lookup.hit() : null;
+    }
+
+    // 새 분석 결과가 커밋된 뒤 해당 브랜드의 답변 캐시 세대를 올림
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAnalyticsIngested(AnalyticsIngestedEvent event) {
+        for (Long brandId : event.getBrandIds()) {
+            try {
+                Long generation = stringRedisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + brandId);
+                log.info("[AiAnswerCache] 브랜드 {} 답변 캐시 무효화 (세대 {})", brandId, generation);
+            } catch (Exception e) {
+                log.warn("[AiAnswerCache] 브랜드 {} 답변 캐시 무효화 실패: {}", brandId, e.getMessage());
+            }
+        }
+    }
+
+    // 질문 정규화: 유니코드 호환 정규화, 소문자, 문장부호 제거, 공백 정리
+    public static String normalize(String question) {
+        String s = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        s = s.replaceAll("[\\p{P}\\p{S}]", " ");
+        return s.replaceAll("\\s+", " ").trim();
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    // 정확 일치 → 유사 질문 순으로 조회 (키 계산에 실패하면 null: 캐시 없이 진행)
+    private Lookup lookup(String type, Long brandId, String question, String scope) {
+        String normalized = normalize(question);
+        String scopeKey;
+        String exactKey;
+        try {
+            scopeKey = KEY_PREFIX + brandId + ":" + generation(brandId) + ":" + sha256(type + "|" + scope);
+            exactKey = scopeKey + ":q:" + sha256(normalized);
+        } catch (Exception e) {
+            log.warn("[AiAnswerCache] 캐시 조회 실패, 바로 호출 type={} brandId={}: {}", type, brandId, e.getMessage());
+            return null;
+        }
+
+        // 1. 정확 일치
+        CacheEntry exact = read(exactKey);
+        if (exact != null) {
+            return new Lookup(normalized, exactKey, null, null, hit(type, "exact", brandId, exact));
+        }
+
+        // 2. 유사 질문 (LSH 후보 중 추정 유사도가 가장 높은 답변)
+        int[] signature = minHashLsh.signature(normalized);
+        List<String> bucketKeys = minHashLsh.bandKeys(signature).stream()
+                .map(band -> scopeKey + ":lsh:" + band)
+                .toList();
+        if (normalized.length() >= similarMinLength) {
+            CacheEntry similar = findSimilar(bucketKeys, signature, normalized);
+            if (similar != null) {
+                return new Lookup(normalized, exactKey, signature, bucketKeys, hit(type, "similar", brandId, similar));
+            }
+        }
+        return new Lookup(normalized, exactKey, signature, bucketKeys, null);
+    }
+
+    private JsonNode hit(String type, String result, Long brandId, CacheEntry entry) {
+        meterRegistry.counter(REQUEST_METRIC, "type", type, "result", result).increment();
+        meterRegistry.counter(SAVED_METRIC, "type", type).increment(entry.llmMillis() / 1000.0);
+        log.info("[AiAnswerCache] {} 캐시 적중({}) brandId={} 절약 {}ms", type, result, brandId, entry.llmMillis());
+        return entry.answer();
+    }
+
+    private long generation(Long brandId) {
+        String value = stringRedisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + brandId);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private CacheEntry read(String key) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            return json != null ? objectMapper.readValue(json, CacheEntry.class) : null;
+        } catch (Exception e) {
+            log.warn("[AiAnswerCache] 캐시 조회 실패 key={}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheEntry findSimilar(List<String> bucketKeys, int[] signature, String normalized) {
+        try {
+            // 밴드 버킷 조회를 파이프라인 한 번으로
+            List<Object> buckets = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    bucketKeys.forEach(key -> operations.opsForSet().members(key));
+                    return null;
+                }
+            });
+
+            Set<String> candidates = new LinkedHashSet<>();
+            for (Object bucket : buckets) {
+                if (bucket instanceof Set<?> members) {
+                    candidates.addAll((Set<String>) members);
+                }
+            }
+            if (candidates.isEmpty()) {
+                return null;
+            }
+
+            List<String> candidateKeys = new ArrayList<>(candidates);
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(candidateKeys);
+            if (values == null) {
+                return null;
+            }
+
+            CacheEntry best = null;
+            double bestSimilarity = similarityThreshold;
+            for (String json : values) {
+                if (json == null) {
+                    continue;
+                }
+                CacheEntry entry = objectMapper.readValue(json, CacheEntry.class);
+                double similarity = MinHashLsh.similarity(signature, entry.signature());
+                if (similarity >= bestSimilarity && isSameIntent(normalized, entry.question())) {
+                    best = entry;
+                    bestSimilarity = similarity;
+                }
+            }
+            return best;
+        } catch (Exception e) {
+            log.warn("[AiAnswerCache] 유사 질문 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 답변과 LSH 버킷 등록을 파이프라인 한 번으로 저장 (버킷도 같은 TTL)
+    @SuppressWarnings("unchecked")
+    private void write(String exactKey, List<String> bucketKeys, CacheEntry entry) {
+        try {
+            String json = objectMapper.writeValueAsString(entry);
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    operations.opsForValue().set(exactKey, json, ttlMinutes, TimeUnit.MINUTES);
+                    for (String bucketKey : bucketKeys) {
+                        operations.opsForSet().add(bucketKey, exactKey);
+                        operations.expire(bucketKey, ttlMinutes, TimeUnit.MINUTES);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("[AiAnswerCache] 캐시 저장 실패 key={}: {}", exactKey, e.getMessage());
+        }
+    }
+
+    // 유사 질문 2차 확인: 한쪽에만 있는 단어에 숫자(기간/수치)나 반대 의미 단어가 있으면 다른 질문으로 봄
+    private static boolean isSameIntent(String normalized, String cachedQuestion) {
+        Set<String> left = new HashSet<>(Arrays.asList(normalized.split(" ")));
+        Set<String> right = new HashSet<>(Arrays.asList(cachedQuestion.split(" ")));
+        Set<String> diff = new HashSet<>(left);
+        diff.addAll(right);
+        left.retainAll(right);
+        diff.removeAll(left);
+
+        for (String token : diff) {
+            if (token.chars().anyMatch(Character::isDigit)) {
+                return false;
+            }
+            for (String[] pair : OPPOSING_TERMS) {
+                if (token.contains(pair[0]) || token.contains(pair[1])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // 실패 응답(ok=false)은 저장하지 않음
+    private static boolean isCacheable(JsonNode answer) {
+        return answer != null && !(answer.has("ok") && !answer.get("ok").asBoolean());
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
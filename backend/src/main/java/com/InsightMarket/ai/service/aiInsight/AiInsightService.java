@@ -8,6 +8,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 public interface AiInsightService {
     JsonNode askAiInsight(AiAskRequestDTO req, String traceId);
     JsonNode generateSolutionReport(SolutionReportRequestDTO req, String traceId);
+    // 캐시된 답변/리포트만 조회 (없으면 null, Python 호출 없음)
+    JsonNode findCachedAnswer(AiAskRequestDTO req);
+    JsonNode findCachedSolutionReport(SolutionReportRequestDTO req);
     JsonNode saveReportAsSolution(SaveReportRequestDTO req, String traceId);
     long getFreeReportCount(Long memberId);
 }
@@ -3,6 +3,10 @@ package com.InsightMarket.ai.service.aiInsight;
 import com.InsightMarket.ai.dto.aiInsight.AiAskRequestDTO;
 import com.InsightMarket.ai.dto.aiInsight.SolutionReportRequestDTO;
 import com.InsightMarket.ai.PythonClient;
+import com.InsightMarket.ai.PythonResilience;
+import com.InsightMarket.ai.AiTenantResolver;
+import com.InsightMarket.ai.AiWorkloadClass;
+import com.InsightMarket.ai.AiWorkloadScheduler;
 import com.InsightMarket.repository.solution.SolutionRepository;
 import com.InsightMarket.repository.strategy.StrategyRepository;
 import com.InsightMarket.ai.dto.aiInsight.SaveReportRequestDTO;
@@ -52,8 +56,19 @@ public class AiInsightServiceImpl implements AiInsightService {
     private final StrategyRepository strategyRepository;
     private final PaymentRepository paymentRepository;
     private final MemberUtil memberUtil;
+    private final AiAnswerCache aiAnswerCache;
+    private final AiWorkloadScheduler aiWorkloadScheduler;
+    private final AiTenantResolver aiTenantResolver;
 
     private String summarizeReason(Exception e) {
+        // 서킷 브레이커/벌크헤드가 Python 호출 없이 바로 거절한 경우
+        if (PythonResilience.isRejected(e)) {
+            return "AI 서버 혼잡(잠시 후 다시 시도)";
+        }
+        // 공정 스케줄러가 대기열 초과/대기 시간 초과로 거절한 경우
+        if (AiWorkloadScheduler.isRejected(e)) {
+            return "AI 요청 대기열 혼잡(잠시 후 다시 시도)";
+        }
         String msg = (e.getMessage() == null) ? "" : e.getMessage();
         if (msg.contains("TimeoutException") || msg.contains("timed out")) {
             return "AI 응답 지연(Timeout)";
@@ -78,6 +93,18 @@ public class AiInsightServiceImpl implements AiInsightService {
     private double round3(double v) {
         return Math.round(v * 1000.0) / 1000.0;
     }
+
+    // 답변 캐시 범위: 같은 프로젝트/키워드/topK 안에서만 재사용
+    private String askScope(AiAskRequestDTO req, List<Long> projectKeywordIds) {
+        return "project=" + req.getProjectId() + "|keywords=" + projectKeywordIds + "|topK=" + req.getTopK();
+    }
+
+    // 리포트 캐시 범위: 질문을 뺀 요청 내용 전체
+    private String solutionReportScope(SolutionReportRequestDTO req) {
+        ObjectNode scope = objectMapper.valueToTree(req);
+        scope.remove("question");
+        return scope.toString();
+    }
     
     @Override
     public JsonNode askAiInsight(AiAskRequestDTO req, String traceId) {
@@ -98,18 +125,23 @@ public class AiInsightServiceImpl implements AiInsightService {
             List<ProjectKeyword> keywords = projectKeywordRepository.findByProjectId(req.getProjectId());
             List<Long> projectKeywordIds = keywords.stream()
                     .map(ProjectKeyword::getId)
+                    .sorted()
                     .collect(java.util.stream.Collectors.toList());
             
-            // 4. Python 호출
-            JsonNode pythonResponse = pythonClient.askStrategy(
-                    req.getQuestion(),
-                    req.getBrandId(),
-                    brand.getName(),
-                    req.getProjectId(),
-                    projectKeywordIds,
-                    req.getTopK(),
-                    traceId
-            );
+            // 4. Python 호출 (같은 프로젝트 범위의 같은/유사한 질문은 캐시된 답변 사용, 캐시 미스만 회사별 공정 큐를 거침)
+            String scope = askScope(req, projectKeywordIds);
+            String tenant = aiTenantResolver.ofBrand(req.getBrandId());
+            JsonNode pythonResponse = aiAnswerCache.getOrLoad(AiAnswerCache.TYPE_ASK, req.getBrandId(),
+                    req.getQuestion(), scope, () -> aiWorkloadScheduler.execute(AiWorkloadClass.ASK, tenant,
+                            () -> pythonClient.askStrategy(
+                                    req.getQuestion(),
+                                    req.getBrandId(),
+                                    brand.getName(),
+                                    req.getProjectId(),
+                                    projectKeywordIds,
+                                    req.getTopK(),
+                                    traceId
+                            )));
             
             log.info("[AiInsightServiceImpl] askAiInsight end traceId={} ok={}",
                     traceId, pythonResponse != null && pythonResponse.has("ok") && pythonResponse.get("ok").asBoolean());
@@ -127,8 +159,11 @@ public class AiInsightServiceImpl implements AiInsightService {
             log.info("[AiInsightServiceImpl] generateSolutionReport start traceId={} brandId={} solutionTitle={} reportType={}",
                     traceId, req.getBrandId(), req.getSolutionTitle(), req.getReportType());
             
-            // Python 호출
-            JsonNode pythonResponse = pythonClient.generateSolutionReport(req, traceId);
+            // Python 호출 (질문 외 요청 내용이 모두 같은 범위에서 같은/유사한 질문이면 캐시된 리포트 사용)
+            String tenant = aiTenantResolver.ofBrand(req.getBrandId());
+            JsonNode pythonResponse = aiAnswerCache.getOrLoad(AiAnswerCache.TYPE_SOLUTION_REPORT, req.getBrandId(),
+                    req.getQuestion(), solutionReportScope(req), () -> aiWorkloadScheduler.execute(AiWorkloadClass.SOLUTION_REPORT,
+                            tenant, () -> pythonClient.generateSolutionReport(req, traceId)));
             
             log.info("[AiInsightServiceImpl] generateSolutionReport end traceId={} ok={}",
                     traceId, pythonResponse != null && pythonResponse.has("ok") && pythonResponse.get("ok").asBoolean());
@@ -140,6 +175,32 @@ public class AiInsightServiceImpl implements AiInsightService {
         }
     }
     
+    @Override
+    public JsonNode findCachedAnswer(AiAskRequestDTO req) {
+        try {
+            List<Long> projectKeywordIds = projectKeywordRepository.findByProjectId(req.getProjectId()).stream()
+                    .map(ProjectKeyword::getId)
+                    .sorted()
+                    .toList();
+            return aiAnswerCache.find(AiAnswerCache.TYPE_ASK, req.getBrandId(), req.getQuestion(),
+                    askScope(req, projectKeywordIds));
+        } catch (Exception e) {
+            log.warn("[AiInsightServiceImpl] findCachedAnswer 실패 brandId={}: {}", req.getBrandId(), e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public JsonNode findCachedSolutionReport(SolutionReportRequestDTO req) {
+        try {
+            return aiAnswerCache.find(AiAnswerCache.TYPE_SOLUTION_REPORT, req.getBrandId(), req.getQuestion(),
+                    solutionReportScope(req));
+        } catch (Exception e) {
+            log.warn("[AiInsightServiceImpl] findCachedSolutionReport 실패 brandId={}: {}", req.getBrandId(), e.getMessage());
+            return null;
+        }
+    }
+
     @Override
     @Transactional
     public JsonNode saveReportAsSolution(SaveReportRequestDTO req, String traceId) {
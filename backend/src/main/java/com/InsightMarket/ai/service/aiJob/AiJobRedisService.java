@@ -0,0 +1,25 @@
+package com.InsightMarket.ai.service.aiJob;
+
+import com.InsightMarket.ai.dto.aiJob.AiJobDTO;
+
+import java.util.function.Consumer;
+
+// AI 작업 상태의 Redis 저장 및 노드 간 상태 변경 전달을 관리하는 서비스 인터페이스
+public interface AiJobRedisService {
+
+    // 작업 상태 저장 (만료 시간 갱신 포함)
+    void save(AiJobDTO job);
+
+    /**
+     * 작업 상태 조회
+     * @param jobId 작업 식별자
+     * @return 저장된 작업 상태 (없거나 만료된 경우 null)
+     */
+    AiJobDTO find(String jobId);
+
+    // 작업 상태 변경을 다른 노드로 발행
+    void publish(AiJobDTO job);
+
+    // 다른 노드에서 발행한 작업 상태 변경 수신 등록
+    void subscribe(Consumer<AiJobDTO> listener);
+}
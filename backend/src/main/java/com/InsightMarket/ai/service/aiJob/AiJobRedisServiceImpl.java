@@ -0,0 +1,102 @@
+package com.InsightMarket.ai.service.aiJob;
+
+import com.InsightMarket.ai.dto.aiJob.AiJobDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * AI 작업 상태 저장소 (Redis)
+ * - 상태는 JSON 문자열로 ai:job:{jobId} 에 저장하고, 상태가 바뀔 때마다 만료 시간을 갱신
+ * - 작업을 실행하는 노드와 SSE 를 구독한 노드가 다를 수 있으므로 상태 변경을 Pub/Sub 채널로 발행
+ * - 자기 노드가 발행한 메시지는 이미 로컬에 전달했으므로 건너뜀
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiJobRedisServiceImpl implements AiJobRedisService {
+
+    private static final String JOB_KEY_PREFIX = "ai:job:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai.job.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Value("${ai.job.channel:ai:job-updates}")
+    private String channel;
+
+    // 노드 식별자 (프로세스마다 새로 생성)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    record AiJobFanoutMessage(String nodeId, AiJobDTO job) {
+    }
+
+    @Override
+    public void save(AiJobDTO job) {
+        stringRedisTemplate.opsForValue().set(JOB_KEY_PREFIX + job.getJobId(), toJson(job), ttlMinutes, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public AiJobDTO find(String jobId) {
+        String json = stringRedisTemplate.opsForValue().get(JOB_KEY_PREFIX + jobId);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, AiJobDTO.class);
+        } catch (Exception e) {
+            log.warn("[AiJob] 작업 {} 상태 역직렬화 실패: {}", jobId, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void publish(AiJobDTO job) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, toJson(new AiJobFanoutMessage(nodeId, job)));
+        } catch (Exception e) {
+            // 발행에 실패해도 상태는 저장되어 있으므로 다른 노드의 구독자는 조회(폴링)로 확인 가능
+            log.warn("[AiJob] 작업 {} 상태 발행 실패: {}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<AiJobDTO> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            AiJobFanoutMessage fanout;
+            try {
+                fanout = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), AiJobFanoutMessage.class);
+            } catch (Exception e) {
+                log.warn("[AiJob] 잘못된 작업 상태 메시지 무시: {}", e.getMessage());
+                return;
+            }
+            if (!nodeId.equals(fanout.nodeId())) {
+                listener.accept(fanout.job());
+            }
+        }, new ChannelTopic(channel));
+        log.info("[AiJob] 노드 {} 작업 채널 {} 구독", nodeId, channel);
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException("AI 작업 상태 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.InsightMarket.ai.service.aiJob;
+
+import com.InsightMarket.ai.dto.aiInsight.AiAskRequestDTO;
+import com.InsightMarket.ai.dto.aiInsight.SolutionReportRequestDTO;
+import com.InsightMarket.ai.dto.aiJob.AiJobDTO;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+
+// 오래 걸리는 AI 요청(질문/리포트)을 작업으로 접수해 요청 스레드와 분리하는 서비스 인터페이스
+public interface AiJobService {
+
+    /**
+     * AI 질문 작업 접수 (바로 반환하고 실행은 작업 풀에서)
+     * @return QUEUED 상태의 작업 (회사별 대기열이 가득 차면 AI_WORKLOAD_QUEUE_FULL)
+     */
+    AiJobDTO submitAsk(AiAskRequestDTO req, String traceId);
+
+    // 솔루션 리포트 생성 작업 접수
+    AiJobDTO submitSolutionReport(SolutionReportRequestDTO req, String traceId);
+
+    // 작업 상태 조회 (폴링용, 없거나 다른 브랜드의 작업이면 AI_JOB_NOT_FOUND)
+    AiJobDTO getJob(Long brandId, String jobId);
+
+    /**
+     * 작업 진행 상황 SSE 스트림 구독
+     * 현재 상태를 먼저 보내고 상태가 바뀔 때마다 job-status, 완료/실패 시 job-complete 를 보낸 뒤 종료
+     */
+    Flux<ServerSentEvent<String>> subscribe(Long brandId, String jobId);
+}
@@ -0,0 +1,292 @@
+package com.InsightMarket.ai.service.aiJob;
+
+import com.InsightMarket.ai.AiTenantResolver;
+import com.InsightMarket.ai.AiWorkloadClass;
+import com.InsightMarket.ai.AiWorkloadScheduler;
+import com.InsightMarket.ai.dto.aiInsight.AiAskRequestDTO;
+import com.InsightMarket.ai.dto.aiInsight.SolutionReportRequestDTO;
+import com.InsightMarket.ai.dto.aiJob.AiJobDTO;
+import com.InsightMarket.ai.dto.aiJob.AiJobStatus;
+import com.InsightMarket.ai.service.aiInsight.AiInsightService;
+import com.InsightMarket.common.exception.ApiException;
+import com.InsightMarket.common.exception.ErrorCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * AI 작업 서비스
+ * - 접수 시 작업 상태(QUEUED)만 저장하고 jobId 를 바로 반환, Python(LLM) 호출은 크기가 정해진 작업 풀에서 실행
+ *   → LLM 응답이 아무리 느려도 Tomcat 요청 스레드를 점유하지 않음
+ * - 대기는 작업 풀 큐가 아니라 AiWorkloadScheduler 의 회사별 공정 큐에서 하고, 순서를 받은 작업만 풀 스레드에 넘김
+ *   → 한 회사가 작업을 몰아 넣어도 다른 회사 작업이 번갈아 실행되고, 풀 스레드는 대기하지 않고 실행만 함
+ * - 캐시된 답변이 있으면 공정 큐에 넣지 않고 접수 시점에 바로 완료
+ * - 대기열이 가득 차면 AI_WORKLOAD_QUEUE_FULL(429), 최대 대기 시간을 넘기면 작업을 실패로 기록
+ * - 상태는 Redis 에 TTL 과 함께 저장하므로 어느 노드에서든 조회 가능 (jobId 는 추측할 수 없는 UUID)
+ * - 대기열/실행 스레드는 노드 로컬이므로 노드가 재시작되면 작업이 사라짐
+ *   → 최대 대기 시간 + Python 타임아웃이 지나도록 상태가 바뀌지 않은 작업은 조회 시 실패로 기록
+ * - SSE 구독자에게는 노드 로컬 싱크로 상태 변경을 전달하고, 다른 노드에서 실행 중인 작업은 Pub/Sub 으로 받아 전달
+ */
+@Slf4j
+@Service
+public class AiJobServiceImpl implements AiJobService {
+
+    private static final String EVENT_STATUS = "job-status";
+    private static final String EVENT_COMPLETE = "job-complete";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final AiInsightService aiInsightService;
+    private final AiJobRedisService aiJobRedisService;
+    private final ObjectMapper objectMapper;
+    private final AiWorkloadScheduler aiWorkloadScheduler;
+    private final AiTenantResolver aiTenantResolver;
+
+    // AI 작업 실행 풀 (Executor 빈으로 등록하면 스프링 부트 기본 applicationTaskExecutor 가 비활성화되므로 내부에서만 관리)
+    // 순서를 받은 작업만 들어오므로 큐 길이는 스케줄러의 종류별 동시 실행 수로 제한됨
+    private final ThreadPoolTaskExecutor jobExecutor = new ThreadPoolTaskExecutor();
+
+    // 작업별 로컬 SSE 싱크 (마지막 상태를 하나 보관해 늦게 붙은 구독자도 최신 상태를 받음)
+    private final Map<String, Sinks.Many<AiJobDTO>> jobSinks = new ConcurrentHashMap<>();
+
+    private final Duration streamTimeout;
+    private final Duration heartbeatInterval;
+    // 이 시간 동안 상태가 바뀌지 않은 미완료 작업은 실행 노드가 사라진 것으로 봄
+    private final Duration staleAfter;
+
+    public AiJobServiceImpl(
+            AiInsightService aiInsightService,
+            AiJobRedisService aiJobRedisService,
+            ObjectMapper objectMapper,
+            AiWorkloadScheduler aiWorkloadScheduler,
+            AiTenantResolver aiTenantResolver,
+            @Value("${ai.job.pool-size:12}") int poolSize,
+            @Value("${ai.job.ttl-minutes:60}") long ttlMinutes,
+            @Value("${sse.heartbeat.interval-ms:15000}") long heartbeatIntervalMs,
+            @Value("${ai.scheduler.max-wait-sec:300}") long maxWaitSec,
+            @Value("${python.rag.timeout-sec:650}") long pythonTimeoutSec) {
+        this.aiInsightService = aiInsightService;
+        this.aiJobRedisService = aiJobRedisService;
+        this.objectMapper = objectMapper;
+        this.aiWorkloadScheduler = aiWorkloadScheduler;
+        this.aiTenantResolver = aiTenantResolver;
+        this.streamTimeout = Duration.ofMinutes(ttlMinutes);
+        this.heartbeatInterval = Duration.ofMillis(heartbeatIntervalMs);
+        this.staleAfter = Duration.ofSeconds(maxWaitSec + pythonTimeoutSec);
+
+        jobExecutor.setThreadNamePrefix("ai-job-");
+        jobExecutor.setCorePoolSize(poolSize);
+        jobExecutor.setMaxPoolSize(poolSize);
+        jobExecutor.initialize();
+    }
+
+    @PostConstruct
+    public void subscribeRemoteUpdates() {
+        aiJobRedisService.subscribe(this::deliverLocal);
+    }
+
+    @PreDestroy
+    public void shutdownJobExecutor() {
+        jobExecutor.shutdown();
+    }
+
+    @Override
+    public AiJobDTO submitAsk(AiAskRequestDTO req, String traceId) {
+        return submit(AiWorkloadClass.ASK, req.getBrandId(), traceId,
+                () -> aiInsightService.findCachedAnswer(req), () -> aiInsightService.askAiInsight(req, traceId));
+    }
+
+    @Override
+    public AiJobDTO submitSolutionReport(SolutionReportRequestDTO req, String traceId) {
+        return submit(AiWorkloadClass.SOLUTION_REPORT, req.getBrandId(), traceId,
+                () -> aiInsightService.findCachedSolutionReport(req),
+                () -> aiInsightService.generateSolutionReport(req, traceId));
+    }
+
+    @Override
+    public AiJobDTO getJob(Long brandId, String jobId) {
+        AiJobDTO job = aiJobRedisService.find(jobId);
+        if (job == null || !job.getBrandId().equals(brandId)) {
+            throw new ApiException(ErrorCode.AI_JOB_NOT_FOUND);
+        }
+        if (isOrphaned(job)) {
+            log.warn("[AiJob] 오래 갱신되지 않은 작업 실패 처리 jobId={} status={} updatedAt={}",
+                    jobId, job.getStatus(), job.getUpdatedAt());
+            return update(job, AiJobStatus.FAILED, 100, "AI 작업이 중단되었습니다. 다시 시도해주세요.", null);
+        }
+        return job;
+    }
+
+    @Override
+    public Flux<ServerSentEvent<String>> subscribe(Long brandId, String jobId) {
+        // 싱크를 먼저 만든 뒤 현재 상태를 읽어야 그 사이에 바뀐 상태를 놓치지 않음
+        Sinks.Many<AiJobDTO> sink = jobSinks.computeIfAbsent(jobId, id -> Sinks.many().replay().latest());
+
+        AiJobDTO current;
+        try {
+            current = getJob(brandId, jobId);
+        } catch (ApiException e) {
+            releaseSink(jobId, sink);
+            throw e;
+        }
+
+        Flux<AiJobDTO> updates = current.getStatus().isTerminal() ? Flux.empty() : sink.asFlux();
+        AtomicInteger lastVersion = new AtomicInteger(-1);
+
+        Flux<ServerSentEvent<String>> jobEvents = Flux.concat(Mono.just(current), updates)
+                // 스냅샷과 싱크에 같은 상태가 겹치거나 늦게 도착한 이전 상태는 건너뜀
+                .filter(job -> lastVersion.getAndAccumulate(job.getVersion(), Math::max) < job.getVersion())
+                .map(this::toEvent);
+        Flux<ServerSentEvent<String>> heartbeats = Flux.interval(heartbeatInterval)
+                .map(tick -> ServerSentEvent.<String>builder().comment(HEARTBEAT_COMMENT).build());
+
+        return Flux.merge(jobEvents, heartbeats)
+                .takeUntil(event -> EVENT_COMPLETE.equals(event.event()))
+                .take(streamTimeout)
+                .doFinally(signal -> releaseSink(jobId, sink));
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private AiJobDTO submit(AiWorkloadClass workloadClass, Long brandId, String traceId,
+                            Supplier<JsonNode> cached, Supplier<JsonNode> call) {
+        String type = workloadClass.getKey();
+        LocalDateTime now = LocalDateTime.now();
+        AiJobDTO queued = AiJobDTO.builder()
+                .jobId(UUID.randomUUID().toString())
+                .type(type)
+                .brandId(brandId)
+                .traceId(traceId)
+                .status(AiJobStatus.QUEUED)
+                .progress(0)
+                .message("작업 대기 중")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        // 캐시된 답변이 있으면 공정 큐를 거치지 않고 바로 완료 (LLM 호출 뒤에서 기다리거나 대기열 초과로 거절되지 않도록)
+        JsonNode cachedResult = cached.get();
+        if (cachedResult != null) {
+            log.info("[AiJob] 캐시된 답변으로 바로 완료 jobId={} type={} brandId={} traceId={}",
+                    queued.getJobId(), type, brandId, traceId);
+            return update(queued, AiJobStatus.SUCCEEDED, 100, "완료", cachedResult);
+        }
+
+        // 실행 스레드가 먼저 RUNNING 을 저장해도 덮어쓰지 않도록 실행 전에 저장
+        aiJobRedisService.save(queued);
+
+        try {
+            aiWorkloadScheduler.submit(workloadClass, aiTenantResolver.ofBrand(brandId), () -> run(queued, call),
+                    jobExecutor, e -> update(queued, AiJobStatus.FAILED, 100, e.getMessage(), null));
+        } catch (ApiException e) {
+            log.warn("[AiJob] 작업 대기열 가득 참 type={} brandId={} traceId={}", type, brandId, traceId);
+            update(queued, AiJobStatus.FAILED, 100, e.getMessage(), null);
+            throw e;
+        }
+
+        log.info("[AiJob] 작업 접수 jobId={} type={} brandId={} traceId={}", queued.getJobId(), type, brandId, traceId);
+        return queued;
+    }
+
+    private void run(AiJobDTO queued, Supplier<JsonNode> call) {
+        AiJobDTO running = update(queued, AiJobStatus.RUNNING, 10, "AI 응답 생성 중", null);
+
+        JsonNode result = null;
+        try {
+            result = call.get();
+        } catch (Exception e) {
+            log.error("[AiJob] 작업 실행 오류 jobId={} traceId={}", queued.getJobId(), queued.getTraceId(), e);
+        }
+
+        // AiInsightService 는 실패 시 ok=false 응답을 돌려주므로 그 사유를 작업 실패 사유로 사용
+        if (result == null) {
+            update(running, AiJobStatus.FAILED, 100, "AI 처리 중 오류", null);
+        } else if (result.has("ok") && !result.get("ok").asBoolean()) {
+            update(running, AiJobStatus.FAILED, 100, result.path("reason").asText("AI 처리 중 오류"), result);
+        } else {
+            update(running, AiJobStatus.SUCCEEDED, 100, "완료", result);
+        }
+    }
+
+    // 상태 변경: 저장 → 로컬 구독자 전달 → 다른 노드로 발행
+    private AiJobDTO update(AiJobDTO job, AiJobStatus status, int progress, String message, JsonNode result) {
+        AiJobDTO next = job.toBuilder()
+                .status(status)
+                .progress(progress)
+                .message(message)
+                .version(job.getVersion() + 1)
+                .result(result)
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        try {
+            aiJobRedisService.save(next);
+        } catch (Exception e) {
+            // 저장에 실패해도 이미 연결된 SSE 구독자에게는 전달
+            log.warn("[AiJob] 작업 {} 상태 저장 실패: {}", job.getJobId(), e.getMessage());
+        }
+        deliverLocal(next);
+        aiJobRedisService.publish(next);
+
+        log.info("[AiJob] 작업 상태 변경 jobId={} status={} progress={}", next.getJobId(), status, progress);
+        return next;
+    }
+
+    private boolean isOrphaned(AiJobDTO job) {
+        return !job.getStatus().isTerminal()
+                && job.getUpdatedAt() != null
+                && job.getUpdatedAt().plus(staleAfter).isBefore(LocalDateTime.now());
+    }
+
+    private void deliverLocal(AiJobDTO job) {
+        Sinks.Many<AiJobDTO> sink = jobSinks.get(job.getJobId());
+        if (sink == null) {
+            return;
+        }
+        // 실행 스레드와 Pub/Sub 수신 스레드가 동시에 보낼 수 있으므로 싱크 단위로 직렬화
+        synchronized (sink) {
+            sink.tryEmitNext(job);
+        }
+        if (job.getStatus().isTerminal()) {
+            jobSinks.remove(job.getJobId(), sink);
+        }
+    }
+
+    // 구독자가 모두 떠난 싱크 정리
+    private void releaseSink(String jobId, Sinks.Many<AiJobDTO> sink) {
+        if (sink.currentSubscriberCount() == 0) {
+            jobSinks.remove(jobId, sink);
+        }
+    }
+
+    private ServerSentEvent<String> toEvent(AiJobDTO job) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(job);
+        } catch (Exception e) {
+            log.error("[AiJob] JSON 변환 실패 jobId={}", job.getJobId(), e);
+            throw new RuntimeException("JSON 변환 실패", e);
+        }
+        return ServerSentEvent.<String>builder()
+                .id(String.valueOf(job.getVersion()))
+                .event(job.getStatus().isTerminal() ? EVENT_COMPLETE : EVENT_STATUS)
+                .data(data)
+                .build();
+    }
+}
@@ -1,20 +1,25 @@
 package com.InsightMarket.ai.service.imageAnalysis;
 
+import com.InsightMarket.ai.AiTenantResolver;
+import com.InsightMarket.ai.AiWorkloadClass;
+import com.InsightMarket.ai.AiWorkloadScheduler;
 import com.InsightMarket.ai.PythonClient;
+import com.InsightMarket.common.exception.ApiException;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.Base64;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ImageAnalysisServiceImpl implements ImageAnalysisService {
 
     private final PythonClient pythonClient;
+    private final AiWorkloadScheduler aiWorkloadScheduler;
+    private final AiTenantResolver aiTenantResolver;
 
     @Override
     public JsonNode analyzeImage(Long brandId, MultipartFile imageFile, String provider, String traceId) {
@@ -36,21 +41,25 @@ public class ImageAnalysisServiceImpl implements ImageAnalysisService {
                 throw new IllegalArgumentException("이미지 파일 크기는 10MB 이하여야 합니다. 현재 크기: " + imageFile.getSize() + " bytes");
             }
 
-            // MultipartFile을 Base64로 변환
-            byte[] imageBytes = imageFile.getBytes();
-            String base64Image = Base64.getEncoder().encodeToString(imageBytes);
-
             log.info("[ImageAnalysisServiceImpl] analyzeImage start traceId={} brandId={} imageSize={} bytes contentType={} provider={}",
-                    traceId, brandId, imageBytes.length, contentType, provider);
+                    traceId, brandId, imageFile.getSize(), contentType, provider);
 
-            // Python API 호출
-            JsonNode response = pythonClient.analyzeImage(base64Image, brandId, provider, traceId);
+            // Python API 호출: 업로드 임시 파일을 multipart 로 그대로 스트리밍 (getBytes()/Base64 변환 없음)
+            // 임시 파일은 요청이 끝나면 삭제되므로 요청 스레드 안에서 전송을 마침
+            // 회사별 공정 큐에서 순서가 오면 전송 (이미지 분석이 몰려도 다른 종류의 AI 요청 자리는 차지하지 않음)
+            JsonNode response = aiWorkloadScheduler.execute(AiWorkloadClass.IMAGE_ANALYZE, aiTenantResolver.ofBrand(brandId),
+                    () -> pythonClient.analyzeImage(imageFile.getResource(), imageFile.getOriginalFilename(),
+                            MediaType.parseMediaType(contentType), brandId, provider, traceId));
 
             log.info("[ImageAnalysisServiceImpl] analyzeImage end traceId={} success={}",
                     traceId, response != null && response.has("extractedText"));
 
             return response;
 
+        } catch (ApiException e) {
+            // 공정 스케줄러 거절(429/503)은 상태 코드를 그대로 전달
+            log.warn("[ImageAnalysisServiceImpl] analyzeImage rejected traceId={} error={}", traceId, e.getErrorCode());
+            throw e;
         } catch (IllegalArgumentException e) {
             log.error("[ImageAnalysisServiceImpl] analyzeImage validation error traceId={} error={}", traceId, e.getMessage());
             throw e;
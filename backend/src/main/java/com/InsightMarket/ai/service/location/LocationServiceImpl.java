@@ -1,5 +1,8 @@
 package com.InsightMarket.ai.service.location;
 
+import com.InsightMarket.ai.AiTenantResolver;
+import com.InsightMarket.ai.AiWorkloadClass;
+import com.InsightMarket.ai.AiWorkloadScheduler;
 import com.InsightMarket.ai.PythonClient;
 import com.InsightMarket.ai.dto.locationchatbot.Insight.LocationInsightResponseDTO;
 import com.InsightMarket.ai.dto.locationchatbot.LocationRequestDTO;
@@ -23,6 +26,8 @@ public class LocationServiceImpl implements LocationService {
 
     private final ObjectMapper objectMapper;
     private final PythonClient pythonClient;
+    private final AiWorkloadScheduler aiWorkloadScheduler;
+    private final AiTenantResolver aiTenantResolver;
 
     @Override
     public LocationComparisonResponseDTO getOneLocation(LocationRequestDTO locationRequestDTO) {
@@ -166,7 +171,10 @@ public class LocationServiceImpl implements LocationService {
         LocationDocumentRowDTO bestStore = sortedDocs.get(sortedDocs.size() - 1);
         bestStore.setContenttype("BEST");
 
-        LocationLLmResponseDTO locationLLmResponseDTO = pythonClient.generateLocationReport(bestStore,worstStore,traceId,locationRequestDTO.getRadius());
+        // 브랜드가 없는 요청이므로 로그인 회원의 회사 기준으로 공정 큐에 넣음
+        LocationLLmResponseDTO locationLLmResponseDTO = aiWorkloadScheduler.execute(AiWorkloadClass.LOCATION_REPORT,
+                aiTenantResolver.ofCurrentMember(),
+                () -> pythonClient.generateLocationReport(bestStore,worstStore,traceId,locationRequestDTO.getRadius()));
 
         return locationLLmResponseDTO;
     }
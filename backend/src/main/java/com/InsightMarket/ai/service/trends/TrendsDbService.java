@@ -9,10 +9,12 @@ public interface TrendsDbService {
 
     /**
      * 브랜드별 트렌드 데이터를 DB에 저장
+     * 직전 스냅샷과 내용(콘텐츠 해시)이 같으면 새 행을 만들지 않고 마지막 확인 시각(lastSeenAt)만 갱신
      * @param brandId 브랜드 ID
      * @param data 트렌드 데이터
+     * @return 새 스냅샷이 저장되었으면 true, 내용이 같아 마지막 확인 시각만 갱신했으면 false
      */
-    void saveTrendData(Long brandId, PythonTrendResponseDTO data);
+    boolean saveTrendData(Long brandId, PythonTrendResponseDTO data);
 
     /**
      * DB에서 브랜드별 트렌드 데이터 조회
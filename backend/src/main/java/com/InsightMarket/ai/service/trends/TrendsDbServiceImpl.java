@@ -9,11 +9,17 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -29,26 +35,38 @@ public class TrendsDbServiceImpl implements TrendsDbService {
 
     @Override
     @Transactional
-    public void saveTrendData(Long brandId, PythonTrendResponseDTO data) {
+    public boolean saveTrendData(Long brandId, PythonTrendResponseDTO data) {
         try {
-            Brand brand = brandRepository.findById(brandId)
-                    .orElseThrow(() -> new IllegalArgumentException("Brand not found: " + brandId));
-
             // data 객체를 JSON 문자열로 변환
             String dataJson = objectMapper.writeValueAsString(data.getData());
+            String contentHash = sha256(dataJson);
 
             // collectedAt 문자열을 LocalDateTime으로 변환
             LocalDateTime collectedAt = LocalDateTime.parse(data.getCollectedAt(), DATE_TIME_FORMATTER);
 
+            // 직전 스냅샷과 내용이 같으면 마지막 확인 시각만 갱신 (원래 수집 시각 유지, JSON 행 추가 없음)
+            List<Object[]> latest = brandTrendRepository.findLatestContentHash(brandId, PageRequest.of(0, 1));
+            if (!latest.isEmpty() && contentHash.equals(latest.get(0)[1])) {
+                brandTrendRepository.updateLastSeenAt((Long) latest.get(0)[0], collectedAt);
+                log.info("브랜드 {} 트렌드 데이터 변경 없음, 마지막 확인 시각만 갱신", brandId);
+                return false;
+            }
+
+            Brand brand = brandRepository.findById(brandId)
+                    .orElseThrow(() -> new IllegalArgumentException("Brand not found: " + brandId));
+
             BrandTrend brandTrend = BrandTrend.builder()
                     .brand(brand)
                     .keyword(data.getKeyword())
                     .collectedAt(collectedAt)
+                    .lastSeenAt(collectedAt)
                     .dataJson(dataJson)
+                    .contentHash(contentHash)
                     .build();
 
             brandTrendRepository.save(brandTrend);
             log.info("브랜드 {} 트렌드 데이터 DB 저장 성공", brandId);
+            return true;
         } catch (JsonProcessingException e) {
             log.error("브랜드 {} 트렌드 데이터 JSON 변환 실패: {}", brandId, e.getMessage());
             throw new RuntimeException("Failed to convert trend data to JSON", e);
@@ -92,4 +110,15 @@ public class TrendsDbServiceImpl implements TrendsDbService {
             throw new RuntimeException("Failed to get trend data from DB", e);
         }
     }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
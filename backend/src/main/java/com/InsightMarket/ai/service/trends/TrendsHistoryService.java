@@ -0,0 +1,30 @@
+package com.InsightMarket.ai.service.trends;
+
+import com.InsightMarket.ai.dto.trends.TrendRankHistoryDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * 브랜드 트렌드 스냅샷 이력의 보관 정책(압축)과 이력 조회를 담당하는 서비스 인터페이스
+ */
+public interface TrendsHistoryService {
+
+    /**
+     * 오래된 스냅샷을 압축합니다. (1일 이후: 시간당 1건, 30일 이후: 하루 1건)
+     * @return 삭제된 행 수
+     */
+    int compactHistory();
+
+    /**
+     * 연관 검색어 하나의 기간 내 순위 변화를 조회합니다.
+     * 내용이 같아 새 스냅샷 없이 다시 확인된 구간(collectedAt ~ lastSeenAt)은 직전 순위로 채웁니다.
+     * @param brandId 브랜드 ID
+     * @param keyword 연관 검색어
+     * @param listType top / rising
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (제외)
+     * @param unit HOUR / DAY (null 이면 기간에 따라 자동 선택)
+     */
+    TrendRankHistoryDTO getKeywordRankHistory(Long brandId, String keyword, String listType,
+                                              LocalDateTime from, LocalDateTime to, String unit);
+}
@@ -0,0 +1,163 @@
+package com.InsightMarket.ai.service.trends;
+
+import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
+import com.InsightMarket.ai.dto.trends.TrendItemDTO;
+import com.InsightMarket.ai.dto.trends.TrendRankHistoryDTO;
+import com.InsightMarket.common.exception.ApiException;
+import com.InsightMarket.common.exception.ErrorCode;
+import com.InsightMarket.repository.trends.BrandTrendRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendsHistoryServiceImpl implements TrendsHistoryService {
+
+    private static final String UNIT_HOUR = "HOUR";
+    private static final String UNIT_DAY = "DAY";
+    private static final String LIST_TOP = "top";
+    private static final String LIST_RISING = "rising";
+
+    // 단위를 지정하지 않았을 때 이 기간을 넘으면 일 단위로 다운샘플링
+    private static final Duration HOURLY_MAX_RANGE = Duration.ofDays(7);
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final BrandTrendRepository brandTrendRepository;
+    private final ObjectMapper objectMapper;
+
+    // 이 기간이 지난 스냅샷은 시간당 1건만 보관
+    @Value("${trends.history.hourly-after-days:1}")
+    private int hourlyAfterDays;
+
+    // 이 기간이 지난 스냅샷은 하루 1건만 보관
+    @Value("${trends.history.daily-after-days:30}")
+    private int dailyAfterDays;
+
+    // 한 번에 삭제할 행 수 (긴 잠금을 피하기 위해 나누어 커밋)
+    @Value("${trends.history.delete-batch-size:500}")
+    private int deleteBatchSize;
+
+    @Override
+    public int compactHistory() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime hourlyBefore = now.minusDays(hourlyAfterDays);
+        LocalDateTime dailyBefore = now.minusDays(dailyAfterDays);
+
+        int hourlyDeleted = deleteInBatches(() ->
+                brandTrendRepository.findHourlyCompactableIds(hourlyBefore, dailyBefore, deleteBatchSize));
+        int dailyDeleted = deleteInBatches(() ->
+                brandTrendRepository.findDailyCompactableIds(dailyBefore, deleteBatchSize));
+
+        log.info("[TrendsHistory] 트렌드 스냅샷 압축 완료: 시간 단위 {}건, 일 단위 {}건 삭제", hourlyDeleted, dailyDeleted);
+        return hourlyDeleted + dailyDeleted;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TrendRankHistoryDTO getKeywordRankHistory(Long brandId, String keyword, String listType,
+                                                     LocalDateTime from, LocalDateTime to, String unit) {
+        if (keyword == null || keyword.isBlank() || from == null || to == null || !from.isBefore(to)) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST);
+        }
+        String list = listType != null ? listType.toLowerCase() : LIST_TOP;
+        if (!LIST_TOP.equals(list) && !LIST_RISING.equals(list)) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST);
+        }
+        String bucketUnit = unit != null ? unit.toUpperCase()
+                : (Duration.between(from, to).compareTo(HOURLY_MAX_RANGE) > 0 ? UNIT_DAY : UNIT_HOUR);
+        if (!UNIT_HOUR.equals(bucketUnit) && !UNIT_DAY.equals(bucketUnit)) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST);
+        }
+        ChronoUnit truncateUnit = UNIT_DAY.equals(bucketUnit) ? ChronoUnit.DAYS : ChronoUnit.HOURS;
+
+        // 기간 시작 전에 수집되어 기간 안까지 유지된 스냅샷도 포함
+        List<Object[]> rows = new ArrayList<>(brandTrendRepository.findLatestBefore(brandId, from, PageRequest.of(0, 1)));
+        rows.addAll(brandTrendRepository.findHistory(brandId, from, to));
+
+        // 구간별 마지막 스냅샷만 사용 (수집 시각 오름차순이므로 덮어쓰기)
+        Map<LocalDateTime, TrendRankHistoryDTO.Point> buckets = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            LocalDateTime collectedAt = (LocalDateTime) row[0];
+            LocalDateTime lastSeenAt = row[1] != null ? (LocalDateTime) row[1] : collectedAt;
+            TrendRankHistoryDTO.Point point = toPoint(collectedAt, readList((String) row[2], list), keyword);
+
+            LocalDateTime fillFrom;
+            if (collectedAt.isBefore(from)) {
+                if (lastSeenAt.isBefore(from)) {
+                    continue;
+                }
+                fillFrom = from.truncatedTo(truncateUnit);
+            } else {
+                buckets.put(collectedAt.truncatedTo(truncateUnit), point);
+                fillFrom = collectedAt.truncatedTo(truncateUnit).plus(1, truncateUnit);
+            }
+            // 내용이 같아 새 행 없이 다시 확인된 구간은 같은 순위로 채움 (시각은 구간 시작)
+            LocalDateTime fillUntil = lastSeenAt.isBefore(to) ? lastSeenAt : to.minusNanos(1);
+            for (LocalDateTime bucket = fillFrom; !bucket.isAfter(fillUntil); bucket = bucket.plus(1, truncateUnit)) {
+                LocalDateTime pointAt = bucket.isBefore(from) ? from : bucket;
+                buckets.put(bucket, new TrendRankHistoryDTO.Point(pointAt.format(DATE_TIME_FORMATTER), point.getRank(), point.getValue()));
+            }
+        }
+
+        return TrendRankHistoryDTO.builder()
+                .brandId(brandId)
+                .keyword(keyword)
+                .listType(list)
+                .unit(bucketUnit)
+                .points(new ArrayList<>(buckets.values()))
+                .build();
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private int deleteInBatches(Supplier<List<Long>> nextBatch) {
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = nextBatch.get();
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            deleted += brandTrendRepository.deleteByIds(ids);
+            if (ids.size() < deleteBatchSize) {
+                return deleted;
+            }
+        }
+    }
+
+    private List<TrendItemDTO> readList(String dataJson, String list) {
+        try {
+            PythonTrendResponseDTO.TrendData data = objectMapper.readValue(dataJson, PythonTrendResponseDTO.TrendData.class);
+            List<TrendItemDTO> items = LIST_RISING.equals(list) ? data.getRising() : data.getTop();
+            return items != null ? items : List.of();
+        } catch (Exception e) {
+            log.warn("[TrendsHistory] 트렌드 스냅샷 JSON 파싱 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private TrendRankHistoryDTO.Point toPoint(LocalDateTime collectedAt, List<TrendItemDTO> items, String keyword) {
+        for (int i = 0; i < items.size(); i++) {
+            if (keyword.equals(items.get(i).getQuery())) {
+                return new TrendRankHistoryDTO.Point(collectedAt.format(DATE_TIME_FORMATTER), i + 1, items.get(i).getValue());
+            }
+        }
+        return new TrendRankHistoryDTO.Point(collectedAt.format(DATE_TIME_FORMATTER), null, null);
+    }
+}
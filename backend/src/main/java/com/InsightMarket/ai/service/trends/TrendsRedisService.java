@@ -2,17 +2,41 @@ package com.InsightMarket.ai.service.trends;
 
 import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
 
+import java.util.Collection;
+import java.util.Map;
+
 // 구글 트렌드 데이터의 Redis 캐싱을 관리하는 서비스 인터페이스
 public interface TrendsRedisService {
 
     // 브랜드별 트렌드 데이터를 Redis에 저장
     void saveTrendData(Long brandId, PythonTrendResponseDTO data);
 
+    // 여러 브랜드의 트렌드 데이터를 파이프라인으로 한 번에 저장
+    void saveAll(Map<Long, PythonTrendResponseDTO> dataByBrandId);
+
+    // 내용이 바뀌지 않은 재수집: 값을 다시 쓰지 않고 만료 시간만 연장
+    void touchTrendData(Long brandId);
+
+    // Python 에서 새로 수집한 시각 기록 (내용 변경 여부와 무관, 노드 간 중복 수집 판단용)
+    void markRefreshed(Long brandId, long refreshedAtMillis);
+
+    /**
+     * 여러 브랜드의 마지막 수집 시각을 MGET 한 번으로 조회
+     * @return 브랜드 ID -> epoch ms (기록이 없는 브랜드는 포함되지 않음)
+     */
+    Map<Long, Long> getRefreshedAt(Collection<Long> brandIds);
+
     /**
      * Redis에서 브랜드별 트렌드 데이터 조회
      * @param brandId 브랜드 식별자
      * @return 캐싱된 트렌드 데이터 (없을 경우 null)
      */
     PythonTrendResponseDTO getTrendData(Long brandId);
-}
 
+    /**
+     * 여러 브랜드의 트렌드 데이터를 MGET 한 번으로 조회
+     * @param brandIds 브랜드 식별자 목록
+     * @return 브랜드 ID -> 캐싱된 트렌드 데이터 (캐시에 없는 브랜드는 포함되지 않음)
+     */
+    Map<Long, PythonTrendResponseDTO> getTrendData(Collection<Long> brandIds);
+}
@@ -1,10 +1,21 @@
 package com.InsightMarket.ai.service.trends;
 
 import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -13,27 +24,102 @@ import java.util.concurrent.TimeUnit;
 public class TrendsRedisServiceImpl implements TrendsRedisService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
     private static final String CACHE_KEY_PREFIX = "brand:trend:";
+    // 마지막 수집 시각 (스냅샷의 collectedAt 은 내용이 같으면 갱신되지 않으므로 별도 키로 관리)
+    private static final String REFRESHED_KEY_PREFIX = "brand:trend:refreshed:";
+    private static final long CACHE_TTL_MINUTES = 600;
+
+    // Redis 쓰기 지표 (저장 직후 다시 읽어 확인하던 디버깅용 조회를 대체)
+    private static final String WRITE_METRIC = "trends.redis.write";
 
 
-//  Redis에 데이터를 저장하며 10분의 유효기간을 설정
-//  5분마다 갱신되므로 10분은 데이터 정합성을 유지하기에 충분한 시간임
+//  Redis에 데이터를 저장하며 600분의 유효기간을 설정
+//  수집 주기보다 충분히 길어 갱신이 한두 번 늦어져도 캐시가 비지 않음
     @Override
     public void saveTrendData(Long brandId, PythonTrendResponseDTO data) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             String key = CACHE_KEY_PREFIX + brandId;
-            redisTemplate.opsForValue().set(key, data, 600, TimeUnit.MINUTES);
+            redisTemplate.opsForValue().set(key, data, CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+            sample.stop(writeTimer("single", "success"));
             log.info("Redis 저장 성공 - Key: {}, BrandId: {}", key, brandId);
-            
-            // 저장 후 확인 (디버깅용)
-            Object saved = redisTemplate.opsForValue().get(key);
-            log.info("Redis 저장 확인 - Key: {}, 데이터 존재: {}", key, saved != null);
         } catch (Exception e) {
+            sample.stop(writeTimer("single", "failure"));
             log.error("Redis 저장 실패 - BrandId: {}, Error: {}", brandId, e.getMessage(), e);
             throw new RuntimeException("Redis 저장 실패", e);
         }
     }
 
+//  여러 브랜드를 한 번의 왕복으로 저장 (SET EX 명령을 파이프라인으로 묶음)
+    @Override
+    public void saveAll(Map<Long, PythonTrendResponseDTO> dataByBrandId) {
+        if (dataByBrandId.isEmpty()) {
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    dataByBrandId.forEach((brandId, data) -> operations.opsForValue()
+                            .set(CACHE_KEY_PREFIX + brandId, data, CACHE_TTL_MINUTES, TimeUnit.MINUTES));
+                    return null;
+                }
+            });
+            sample.stop(writeTimer("pipelined", "success"));
+            log.info("Redis 일괄 저장 성공 - 브랜드 {}개", dataByBrandId.size());
+        } catch (Exception e) {
+            sample.stop(writeTimer("pipelined", "failure"));
+            log.error("Redis 일괄 저장 실패 - 브랜드 {}개, Error: {}", dataByBrandId.size(), e.getMessage(), e);
+            throw new RuntimeException("Redis 저장 실패", e);
+        }
+    }
+
+    @Override
+    public void touchTrendData(Long brandId) {
+        try {
+            redisTemplate.expire(CACHE_KEY_PREFIX + brandId, CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            log.error("Redis 만료 시간 연장 실패 - BrandId: {}, Error: {}", brandId, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void markRefreshed(Long brandId, long refreshedAtMillis) {
+        try {
+            redisTemplate.opsForValue().set(REFRESHED_KEY_PREFIX + brandId, refreshedAtMillis, CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            log.error("Redis 수집 시각 기록 실패 - BrandId: {}, Error: {}", brandId, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Map<Long, Long> getRefreshedAt(Collection<Long> brandIds) {
+        Map<Long, Long> result = new HashMap<>();
+        if (brandIds.isEmpty()) {
+            return result;
+        }
+
+        List<Long> ids = new ArrayList<>(brandIds);
+        List<String> keys = ids.stream().map(id -> REFRESHED_KEY_PREFIX + id).toList();
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return result;
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                if (values.get(i) instanceof Number refreshedAt) {
+                    result.put(ids.get(i), refreshedAt.longValue());
+                }
+            }
+        } catch (Exception e) {
+            log.error("Redis 수집 시각 일괄 조회 실패 - 브랜드 {}개, Error: {}", ids.size(), e.getMessage(), e);
+        }
+        return result;
+    }
+
 //  캐시된 데이터를 반환하여 Python 서버의 부하를 줄이고 응답 속도를 높임
     @Override
     public PythonTrendResponseDTO getTrendData(Long brandId) {
@@ -47,5 +133,40 @@ public class TrendsRedisServiceImpl implements TrendsRedisService {
             return null;
         }
     }
-}
 
+//  여러 브랜드를 MGET 한 번으로 조회 (브랜드 수와 관계없이 왕복 1회)
+    @Override
+    public Map<Long, PythonTrendResponseDTO> getTrendData(Collection<Long> brandIds) {
+        Map<Long, PythonTrendResponseDTO> result = new HashMap<>();
+        if (brandIds.isEmpty()) {
+            return result;
+        }
+
+        List<Long> ids = new ArrayList<>(brandIds);
+        List<String> keys = ids.stream().map(id -> CACHE_KEY_PREFIX + id).toList();
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return result;
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                if (values.get(i) instanceof PythonTrendResponseDTO data) {
+                    result.put(ids.get(i), data);
+                }
+            }
+            log.debug("Redis 일괄 조회 - 요청 {}개, 존재 {}개", ids.size(), result.size());
+        } catch (Exception e) {
+            log.error("Redis 일괄 조회 실패 - 브랜드 {}개, Error: {}", ids.size(), e.getMessage(), e);
+        }
+        return result;
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private Timer writeTimer(String mode, String result) {
+        return Timer.builder(WRITE_METRIC)
+                .tag("mode", mode)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
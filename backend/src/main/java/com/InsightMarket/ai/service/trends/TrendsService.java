@@ -1,11 +1,35 @@
 package com.InsightMarket.ai.service.trends;
 
+import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 // 외부 Python 수집 엔진과의 통신 및 데이터 처리를 담당하는 서비스 인터페이스
 public interface TrendsService {
     /**
      * @param brandId 브랜드 ID
      * @param keyword 검색할 브랜드명 (키워드)
+     * @return 응답 처리(저장/이벤트 발행)가 끝나면 완료되는 Future (실패해도 예외 없이 완료)
+     */
+    CompletableFuture<Void> fetchAndSaveTrends(Long brandId, String keyword);
+
+    /**
+     * 브랜드의 최신 트렌드 데이터를 조회합니다.
+     * Redis 에 없으면 DB 에서 읽어 Redis 에 다시 저장하며, 같은 브랜드의 동시 요청은 DB 조회 한 번을 공유합니다.
+     * DB 에도 없는 브랜드는 잠시 동안 조회 없이 null 을 반환합니다.
+     * @param brandId 브랜드 ID
+     * @return 트렌드 데이터 (없으면 null)
+     */
+    PythonTrendResponseDTO getTrendData(Long brandId);
+
+    /**
+     * 여러 브랜드의 최신 트렌드 데이터를 조회합니다.
+     * Redis 를 한 번에 조회하고, 캐시에 없는 브랜드만 DB 에서 읽어 Redis 에 일괄 저장합니다.
+     * @param brandIds 브랜드 ID 목록
+     * @return 브랜드 ID -> 트렌드 데이터 (데이터가 없는 브랜드는 포함되지 않음)
      */
-    void fetchAndSaveTrends(Long brandId, String keyword);
+    Map<Long, PythonTrendResponseDTO> getTrendData(Collection<Long> brandIds);
 }
 
@@ -1,12 +1,23 @@
 package com.InsightMarket.ai.service.trends;
 
 import com.InsightMarket.ai.PythonClient;
+import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
+import com.InsightMarket.common.cache.SingleFlightLoader;
 import com.InsightMarket.common.event.TrendDataUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -17,55 +28,155 @@ public class TrendsServiceImpl implements TrendsService {
     private final TrendsDbService trendsDbService;
     private final ApplicationEventPublisher eventPublisher;
 
+    // 캐시 미스 시 같은 브랜드의 DB 조회/Redis 재저장을 한 번으로 합치는 로더
+    private final SingleFlightLoader<Long, PythonTrendResponseDTO> snapshotLoader = new SingleFlightLoader<>();
+
+    // DB 에도 데이터가 없는 브랜드 (브랜드 ID -> 만료 시각 epoch ms)
+    private final Map<Long, Long> missingUntil = new ConcurrentHashMap<>();
+
+    // 데이터 없음 결과를 기억하는 시간 (0 이하이면 기억하지 않음)
+    @Value("${trends.cache.negative-ttl-ms:30000}")
+    private long negativeTtlMs = 30_000L;
+
     /**
      * PythonRagClient를 사용하여 비동기로 Python 서버에 트렌드 데이터를 요청합니다.
      * 규격: POST http://localhost:8000/api/trends/generate-related
      * 바디: { "brandId": 1, "brandName": "아이폰" }
      */
     @Override
-    public void fetchAndSaveTrends(Long brandId, String keyword) {
+    public CompletableFuture<Void> fetchAndSaveTrends(Long brandId, String keyword) {
         log.info("Python 트렌드 수집 요청 시작 - Brand: {}, Keyword: {}", brandId, keyword);
 
+        CompletableFuture<Void> done = new CompletableFuture<>();
+
         pythonClient.generateTrends(
                 brandId,
                 keyword,
                 data -> {
-                    log.info("Python API 응답 수신 - Brand: {}, Data 존재: {}, data필드 존재: {}", 
-                            brandId, data != null, data != null && data.getData() != null);
+                    try {
+                        log.info("Python API 응답 수신 - Brand: {}, Data 존재: {}, data필드 존재: {}", 
+                                brandId, data != null, data != null && data.getData() != null);
                     
-                    // 성공 콜백
-                    if (data != null && data.getData() != null) {
-                        log.info("데이터 상세 - Keyword: {}, CollectedAt: {}", data.getKeyword(), data.getCollectedAt());
+                        // 성공 콜백
+                        if (data != null && data.getData() != null) {
+                            log.info("데이터 상세 - Keyword: {}, CollectedAt: {}", data.getKeyword(), data.getCollectedAt());
                         
-                        // Redis에 저장
-                        try {
-                            trendsRedisService.saveTrendData(brandId, data);
-                            log.info("브랜드 {} 트렌드 데이터 Redis 저장 성공", brandId);
-                        } catch (Exception e) {
-                            log.error("브랜드 {} 트렌드 데이터 Redis 저장 실패: {}", brandId, e.getMessage(), e);
-                        }
+                            // DB에 저장 (직전 스냅샷과 내용이 같으면 마지막 확인 시각만 갱신)
+                            boolean changed = true;
+                            try {
+                                changed = trendsDbService.saveTrendData(brandId, data);
+                            } catch (Exception e) {
+                                // 비교에 실패하면 기존처럼 갱신된 것으로 보고 Redis 저장/브로드캐스트 진행
+                                log.error("브랜드 {} 트렌드 데이터 DB 저장 실패: {}", brandId, e.getMessage(), e);
+                            }
+
+                            // 내용이 같아도 새로 수집한 것이므로 다른 노드가 같은 주기에 다시 수집하지 않도록 기록
+                            trendsRedisService.markRefreshed(brandId, System.currentTimeMillis());
+
+                            if (!changed) {
+                                // 같은 데이터: Redis 재기록과 SSE 브로드캐스트 생략
+                                trendsRedisService.touchTrendData(brandId);
+                                log.info("브랜드 {} 트렌드 데이터 변경 없음, Redis 저장/브로드캐스트 생략", brandId);
+                                return;
+                            }
+
+                            // 데이터 없음 기록 해제 후 Redis에 저장
+                            missingUntil.remove(brandId);
+                            try {
+                                trendsRedisService.saveTrendData(brandId, data);
+                                log.info("브랜드 {} 트렌드 데이터 Redis 저장 성공", brandId);
+                            } catch (Exception e) {
+                                log.error("브랜드 {} 트렌드 데이터 Redis 저장 실패: {}", brandId, e.getMessage(), e);
+                            }
                         
-                        // DB에 저장
-                        try {
-                            trendsDbService.saveTrendData(brandId, data);
-                            log.info("브랜드 {} 트렌드 데이터 DB 저장 성공", brandId);
-                        } catch (Exception e) {
-                            log.error("브랜드 {} 트렌드 데이터 DB 저장 실패: {}", brandId, e.getMessage(), e);
+                            // SSE 브로드캐스트를 위한 이벤트 발행
+                            eventPublisher.publishEvent(new TrendDataUpdatedEvent(this, brandId, data));
+                            log.info("브랜드 {} 트렌드 데이터 업데이트 이벤트 발행", brandId);
+                        } else {
+                            log.warn("브랜드 {} 트렌드 데이터가 null이거나 data 필드가 없습니다. 응답객체={}, data필드={}", 
+                                    brandId, data != null ? "존재" : "null", data != null && data.getData() != null ? "존재" : "null");
                         }
-                        
-                        // SSE 브로드캐스트를 위한 이벤트 발행
-                        eventPublisher.publishEvent(new TrendDataUpdatedEvent(this, brandId, data));
-                        log.info("브랜드 {} 트렌드 데이터 업데이트 이벤트 발행", brandId);
-                    } else {
-                        log.warn("브랜드 {} 트렌드 데이터가 null이거나 data 필드가 없습니다. 응답객체={}, data필드={}", 
-                                brandId, data != null ? "존재" : "null", data != null && data.getData() != null ? "존재" : "null");
+                    } finally {
+                        // 응답 처리 중 예외가 나도 호출자가 완료를 기다리다 멈추지 않도록 항상 완료
+                        done.complete(null);
                     }
                 },
                 error -> {
                     // 에러 콜백
                     log.error("파이썬 호출 실패 (브랜드 {}): {}", brandId, error.getMessage(), error);
+                    done.complete(null);
                 }
         );
+        return done;
     }
-}
 
+    @Override
+    public PythonTrendResponseDTO getTrendData(Long brandId) {
+        PythonTrendResponseDTO cached = trendsRedisService.getTrendData(brandId);
+        if (cached != null) {
+            return cached;
+        }
+        return loadMissing(brandId, data -> {
+            try {
+                trendsRedisService.saveTrendData(brandId, data);
+            } catch (Exception e) {
+                log.error("브랜드 {} 트렌드 데이터 Redis 재저장 실패: {}", brandId, e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public Map<Long, PythonTrendResponseDTO> getTrendData(Collection<Long> brandIds) {
+        Map<Long, PythonTrendResponseDTO> result = new HashMap<>(trendsRedisService.getTrendData(new LinkedHashSet<>(brandIds)));
+
+        // 캐시에 없는 브랜드만 DB 에서 조회하고, 다음 요청을 위해 파이프라인으로 한 번에 캐시
+        // (다른 요청이 이미 조회 중인 브랜드는 그 결과를 받으며, 재저장은 그 요청이 담당)
+        Map<Long, PythonTrendResponseDTO> loaded = new HashMap<>();
+        for (Long brandId : new LinkedHashSet<>(brandIds)) {
+            if (result.containsKey(brandId)) {
+                continue;
+            }
+            PythonTrendResponseDTO data = loadMissing(brandId, d -> loaded.put(brandId, d));
+            if (data != null) {
+                result.put(brandId, data);
+            }
+        }
+        if (!loaded.isEmpty()) {
+            try {
+                trendsRedisService.saveAll(loaded);
+            } catch (Exception e) {
+                log.error("트렌드 데이터 Redis 일괄 캐시 실패: {}", e.getMessage(), e);
+            }
+        }
+        return result;
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    /**
+     * Redis 캐시 미스인 브랜드를 DB 에서 읽습니다.
+     * 동시에 들어온 요청은 조회 한 번을 공유하고, repopulate 는 실제로 조회한 요청에서만 실행됩니다.
+     */
+    private PythonTrendResponseDTO loadMissing(Long brandId, Consumer<PythonTrendResponseDTO> repopulate) {
+        Long until = missingUntil.get(brandId);
+        if (until != null) {
+            if (until > System.currentTimeMillis()) {
+                return null;
+            }
+            missingUntil.remove(brandId, until);
+        }
+
+        return snapshotLoader.load(brandId, () -> {
+            PythonTrendResponseDTO data = trendsDbService.getTrendData(brandId);
+            if (data == null) {
+                if (negativeTtlMs > 0) {
+                    missingUntil.put(brandId, System.currentTimeMillis() + negativeTtlMs);
+                }
+                log.debug("브랜드 {} 트렌드 데이터 없음, {}ms 동안 조회 생략", brandId, negativeTtlMs);
+                return null;
+            }
+            repopulate.accept(data);
+            return data;
+        });
+    }
+}
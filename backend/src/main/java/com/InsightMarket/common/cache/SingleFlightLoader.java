@@ -0,0 +1,57 @@
+package com.InsightMarket.common.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 키별 단일 실행(single-flight) 로더
+ * - 같은 키로 동시에 들어온 요청 중 첫 요청만 loader 를 실행하고, 나머지는 그 결과를 함께 받음
+ * - 결과를 보관하지 않으므로 실행이 끝난 뒤의 요청은 다시 loader 를 실행함 (캐시는 호출 측 책임)
+ * - loader 예외는 대기 중인 모든 요청에 그대로 전달되고, 다음 요청은 새로 실행함
+ */
+public class SingleFlightLoader<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // 현재 실행 중인 키 수 (모니터링/테스트용)
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.InsightMarket.common.collection;
+
+import java.util.Arrays;
+
+/**
+ * int → float 전용 오픈 어드레싱 해시맵
+ * - 박싱 없이 희소 벡터(토큰 ID → 가중치)를 담기 위해 사용
+ * - 키 -1 은 빈 슬롯 표시로 예약되어 있으므로 음수 키는 허용하지 않음
+ */
+public class IntFloatHashMap {
+
+    private static final int EMPTY = -1;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private int[] keys;
+    private float[] values;
+    private int size;
+    private int threshold;
+
+    public IntFloatHashMap() {
+        this(16);
+    }
+
+    public IntFloatHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public float get(int key) {
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : 0f;
+    }
+
+    public void put(int key, float value) {
+        checkKey(key);
+        int slot = slotFor(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+        if (size > threshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    public void add(int key, float delta) {
+        checkKey(key);
+        int slot = slotFor(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            values[slot] = delta;
+            size++;
+            if (size > threshold) {
+                rehash(keys.length << 1);
+            }
+        } else {
+            values[slot] += delta;
+        }
+    }
+
+    /**
+     * 저장된 항목을 순회합니다. 순서는 보장되지 않습니다.
+     */
+    public void forEach(IntFloatConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface IntFloatConsumer {
+        void accept(int key, float value);
+    }
+
+    //내부 구현 -------------------------------------------------------------
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new float[capacity];
+        Arrays.fill(keys, EMPTY);
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void checkKey(int key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("key must be >= 0: " + key);
+        }
+    }
+
+    private int find(int key) {
+        if (key < 0) {
+            return -1;
+        }
+        int slot = slotFor(key);
+        return keys[slot] == key ? slot : -1;
+    }
+
+    // 선형 탐사: 키가 있는 슬롯 또는 처음 만나는 빈 슬롯을 반환
+    private int slotFor(int key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        float[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotFor(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
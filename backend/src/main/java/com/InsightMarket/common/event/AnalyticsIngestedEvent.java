@@ -0,0 +1,25 @@
+package com.InsightMarket.common.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 수집 분석 결과(일별/감성/토큰 통계, 인사이트)가 저장되었을 때 발생하는 이벤트
+ */
+@Getter
+public class AnalyticsIngestedEvent extends ApplicationEvent {
+
+    private final Set<Long> brandIds;
+
+    // 이번 수집으로 값이 바뀐 주차 (월요일 기준)
+    private final Set<LocalDate> weekStarts;
+
+    public AnalyticsIngestedEvent(Object source, Set<Long> brandIds, Set<LocalDate> weekStarts) {
+        super(source);
+        this.brandIds = brandIds;
+        this.weekStarts = weekStarts;
+    }
+}
@@ -0,0 +1,23 @@
+package com.InsightMarket.common.event;
+
+import com.InsightMarket.dto.dashboard.RisingTokenDTO;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * 수집 중 브랜드의 급상승 토큰 목록이 갱신되었을 때 발생하는 이벤트
+ */
+@Getter
+public class RisingTokensDetectedEvent extends ApplicationEvent {
+
+    private final Long brandId;
+    private final List<RisingTokenDTO> risingTokens;
+
+    public RisingTokensDetectedEvent(Object source, Long brandId, List<RisingTokenDTO> risingTokens) {
+        super(source);
+        this.brandId = brandId;
+        this.risingTokens = risingTokens;
+    }
+}
@@ -58,6 +58,11 @@ public enum ErrorCode {
     SELF_ROLE_CHANGE_FORBIDDEN(HttpStatus.BAD_REQUEST, "본인 권한은 변경할 수 없습니다."),
     SELF_EXPIRE_FORBIDDEN(HttpStatus.BAD_REQUEST, "본인 계정은 탈퇴 처리할 수 없습니다."),
 
+    // ===== AI Job =====
+    AI_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "AI 작업을 찾을 수 없습니다."),
+    AI_WORKLOAD_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "AI 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+    AI_WORKLOAD_WAIT_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "AI 요청 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+
     // ===== Social / OAuth =====
     INVALID_ACCESS_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 Access Token입니다."),
 
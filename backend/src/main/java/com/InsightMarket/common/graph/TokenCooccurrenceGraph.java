@@ -0,0 +1,176 @@
+package com.InsightMarket.common.graph;
+
+import com.InsightMarket.common.collection.IntFloatHashMap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 토큰 동시 출현 그래프 (무방향, 가중치)
+ * - 노드: 토큰과 누적 출현 수, 간선: 같은 버킷에 함께 등장한 정도
+ * - 노드별 인접 리스트는 int → float 맵으로 유지하고, 저장 시 상위 이웃만 남긴 압축 바이트로 직렬화
+ */
+public class TokenCooccurrenceGraph {
+
+    private static final byte SERIAL_VERSION = 1;
+
+    private final Map<String, Integer> index = new HashMap<>();
+    private final List<String> tokens = new ArrayList<>();
+    private final List<long[]> nodeWeights = new ArrayList<>();
+    private final List<IntFloatHashMap> adjacency = new ArrayList<>();
+
+    public int nodeCount() {
+        return tokens.size();
+    }
+
+    public int edgeCount() {
+        long degreeSum = 0;
+        for (IntFloatHashMap neighbors : adjacency) {
+            degreeSum += neighbors.size();
+        }
+        return (int) (degreeSum / 2);
+    }
+
+    public String token(int node) {
+        return tokens.get(node);
+    }
+
+    public long nodeWeight(int node) {
+        return nodeWeights.get(node)[0];
+    }
+
+    /**
+     * 한 버킷(같은 날짜·소스)의 토큰 빈도를 반영합니다.
+     * 빈도 상위 maxTokens개만 사용하며, 두 토큰의 간선 가중치는 min(빈도) 만큼 증가합니다.
+     */
+    public void addBucket(Map<String, Integer> tokenCounts, int maxTokens) {
+        List<Map.Entry<String, Integer>> top = tokenCounts.entrySet().stream()
+                .filter(e -> e.getValue() != null && e.getValue() > 0)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(maxTokens)
+                .toList();
+
+        int[] nodes = new int[top.size()];
+        int[] counts = new int[top.size()];
+        for (int i = 0; i < top.size(); i++) {
+            nodes[i] = nodeOf(top.get(i).getKey());
+            counts[i] = top.get(i).getValue();
+            nodeWeights.get(nodes[i])[0] += counts[i];
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            for (int j = i + 1; j < nodes.length; j++) {
+                float weight = Math.min(counts[i], counts[j]);
+                adjacency.get(nodes[i]).add(nodes[j], weight);
+                adjacency.get(nodes[j]).add(nodes[i], weight);
+            }
+        }
+    }
+
+    /**
+     * 노드별 상위 k개 이웃을 가중치 내림차순으로 반환합니다. (결과: [이웃 노드, 가중치 비트])
+     */
+    public int[][] topNeighbors(int node, int k) {
+        IntFloatHashMap neighbors = adjacency.get(node);
+        long[] packed = new long[neighbors.size()];
+        int[] n = {0};
+        neighbors.forEach((neighbor, weight) ->
+                packed[n[0]++] = ((long) Float.floatToIntBits(weight) << 32) | neighbor);
+        Arrays.sort(packed, 0, n[0]);
+
+        int size = Math.min(k, n[0]);
+        int[][] result = new int[size][2];
+        for (int i = 0; i < size; i++) {
+            long p = packed[n[0] - 1 - i];
+            result[i][0] = (int) p;
+            result[i][1] = (int) (p >>> 32);
+        }
+        return result;
+    }
+
+    /**
+     * 노드별로 상위 maxNeighbors개 이웃만 남기고, 한쪽에서라도 유지된 간선은 양쪽 모두에 남깁니다.
+     */
+    public void prune(int maxNeighbors) {
+        List<IntFloatHashMap> pruned = new ArrayList<>(adjacency.size());
+        for (int node = 0; node < adjacency.size(); node++) {
+            pruned.add(new IntFloatHashMap());
+        }
+        for (int node = 0; node < adjacency.size(); node++) {
+            for (int[] edge : topNeighbors(node, maxNeighbors)) {
+                float weight = Float.intBitsToFloat(edge[1]);
+                pruned.get(node).put(edge[0], weight);
+                pruned.get(edge[0]).put(node, weight);
+            }
+        }
+        for (int node = 0; node < adjacency.size(); node++) {
+            adjacency.set(node, pruned.get(node));
+        }
+    }
+
+    public byte[] toBytes() {
+        List<byte[]> encoded = new ArrayList<>(tokens.size());
+        int size = 1 + 4;
+        for (int node = 0; node < tokens.size(); node++) {
+            byte[] bytes = tokens.get(node).getBytes(StandardCharsets.UTF_8);
+            encoded.add(bytes);
+            size += 2 + bytes.length + 8 + 4 + adjacency.get(node).size() * 8;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(SERIAL_VERSION);
+        buffer.putInt(tokens.size());
+        for (int node = 0; node < tokens.size(); node++) {
+            buffer.putShort((short) encoded.get(node).length);
+            buffer.put(encoded.get(node));
+            buffer.putLong(nodeWeights.get(node)[0]);
+        }
+        for (IntFloatHashMap neighbors : adjacency) {
+            buffer.putInt(neighbors.size());
+            neighbors.forEach((neighbor, weight) -> {
+                buffer.putInt(neighbor);
+                buffer.putFloat(weight);
+            });
+        }
+        return buffer.array();
+    }
+
+    public static TokenCooccurrenceGraph fromBytes(byte[] bytes) {
+        TokenCooccurrenceGraph graph = new TokenCooccurrenceGraph();
+        if (bytes == null || bytes.length == 0) {
+            return graph;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != SERIAL_VERSION) {
+            throw new IllegalArgumentException("Unsupported TokenCooccurrenceGraph version: " + version);
+        }
+        int nodes = buffer.getInt();
+        for (int node = 0; node < nodes; node++) {
+            byte[] token = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(token);
+            int id = graph.nodeOf(new String(token, StandardCharsets.UTF_8));
+            graph.nodeWeights.get(id)[0] = buffer.getLong();
+        }
+        for (int node = 0; node < nodes; node++) {
+            int degree = buffer.getInt();
+            IntFloatHashMap neighbors = new IntFloatHashMap(degree);
+            for (int i = 0; i < degree; i++) {
+                neighbors.put(buffer.getInt(), buffer.getFloat());
+            }
+            graph.adjacency.set(node, neighbors);
+        }
+        return graph;
+    }
+
+    //내부 구현 -------------------------------------------------------------
+
+    private int nodeOf(String token) {
+        return index.computeIfAbsent(token, t -> {
+            tokens.add(t);
+            nodeWeights.add(new long[1]);
+            adjacency.add(new IntFloatHashMap());
+            return tokens.size() - 1;
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package com.InsightMarket.common.redis;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Redis 값 직렬화기 (Smile 바이너리 + 선택적 deflate 압축)
+ * - 저장 형식: [형식 버전 1바이트][코덱 1바이트][본문]
+ * - 본문은 Smile 로 인코딩하고 타입 정보(@class)는 GenericJackson2JsonRedisSerializer 와 같은 방식으로 포함
+ *   → 기존처럼 redisTemplate 결과를 (PythonTrendResponseDTO) 로 바로 캐스팅 가능
+ * - 본문이 임계값 이상이면 deflate 로 압축하고, 압축 결과가 더 작을 때만 압축본을 저장
+ * - 첫 바이트가 형식 버전이 아니면 기존 JSON 값으로 보고 JSON 으로 읽음 (배포 중 구/신 형식 혼재 허용)
+ * - compact=false 이면 기존 JSON 으로 쓰되 Smile 값도 읽을 수 있어, 모든 노드 배포 후 쓰기 형식만 전환하면 됨
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    // JSON 텍스트는 공백/{/[/"/숫자 등으로 시작하므로 0x01~0x08 은 JSON 과 겹치지 않음
+    static final byte FORMAT_VERSION = 0x01;
+    private static final byte MAX_RESERVED_VERSION = 0x08;
+
+    static final byte CODEC_NONE = 0x00;
+    static final byte CODEC_DEFLATE = 0x01;
+
+    private static final int HEADER_SIZE = 2;
+
+    private final ObjectMapper smileMapper;
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final boolean compact;
+    private final int compressThresholdBytes;
+
+    public CompactRedisSerializer(boolean compact, int compressThresholdBytes) {
+        this.compact = compact;
+        this.compressThresholdBytes = compressThresholdBytes;
+        this.smileMapper = createSmileMapper();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!compact) {
+            return jsonSerializer.serialize(value);
+        }
+
+        byte[] body;
+        try {
+            body = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Smile 직렬화 실패: " + e.getMessage(), e);
+        }
+
+        byte codec = CODEC_NONE;
+        if (compressThresholdBytes > 0 && body.length >= compressThresholdBytes) {
+            byte[] deflated = deflate(body);
+            if (deflated.length < body.length) {
+                body = deflated;
+                codec = CODEC_DEFLATE;
+            }
+        }
+
+        byte[] result = new byte[HEADER_SIZE + body.length];
+        result[0] = FORMAT_VERSION;
+        result[1] = codec;
+        System.arraycopy(body, 0, result, HEADER_SIZE, body.length);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        byte version = bytes[0];
+        if (version < 0x01 || version > MAX_RESERVED_VERSION) {
+            // 형식 버전 헤더가 없는 기존 JSON 값
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (version != FORMAT_VERSION || bytes.length < HEADER_SIZE) {
+            // 이후 버전이 쓴 값: 예외를 던져 호출 측에서 캐시 미스로 처리하도록 함
+            throw new SerializationException("지원하지 않는 Redis 값 형식 버전: " + version);
+        }
+
+        byte codec = bytes[1];
+        try {
+            return switch (codec) {
+                case CODEC_NONE -> smileMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, Object.class);
+                case CODEC_DEFLATE -> smileMapper.readValue(inflate(bytes), Object.class);
+                default -> throw new SerializationException("지원하지 않는 Redis 값 압축 코덱: " + codec);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Smile 역직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private static ObjectMapper createSmileMapper() {
+        SmileFactory factory = SmileFactory.builder()
+                // @class 등 반복되는 문자열 값은 역참조로 한 번만 저장
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+
+        ObjectMapper mapper = new ObjectMapper(factory);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder().allowIfBaseType(Object.class).build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        // 스프링 캐시의 null 값(NullValue) 저장 지원
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(mapper, null);
+        return mapper;
+    }
+
+    private static byte[] deflate(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 16);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(body);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값 압축 실패: " + e.getMessage(), e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] bytes) throws IOException {
+        try (InflaterInputStream in = new InflaterInputStream(
+                new ByteArrayInputStream(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE))) {
+            return in.readAllBytes();
+        }
+    }
+}
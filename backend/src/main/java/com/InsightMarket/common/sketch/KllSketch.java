@@ -0,0 +1,246 @@
+package com.InsightMarket.common.sketch;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 병합 가능한 분위수 스케치 (KLL: Karnin-Lang-Liberty)
+ * - 레벨 h의 원소는 가중치 2^h 를 가지며, 레벨이 용량을 넘으면 정렬 후 절반만 상위 레벨로 승격
+ * - 표본 수가 k 이하이면 정확한 분포를 유지하고, 그 이상에서는 O(k) 공간으로 근사
+ * - merge()로 주차/카테고리별 스케치를 합칠 수 있음
+ */
+public class KllSketch {
+
+    private static final byte SERIAL_VERSION = 1;
+    private static final int DEFAULT_K = 200;
+    private static final double LEVEL_DECAY = 2.0 / 3.0;
+    private static final int MIN_LEVEL_CAPACITY = 8;
+
+    private final int k;
+    private final SplittableRandom random = new SplittableRandom();
+
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    private long n;
+
+    public KllSketch() {
+        this(DEFAULT_K);
+    }
+
+    public KllSketch(int k) {
+        if (k < MIN_LEVEL_CAPACITY) {
+            throw new IllegalArgumentException("k must be >= " + MIN_LEVEL_CAPACITY);
+        }
+        this.k = k;
+        this.levels[0] = new double[k];
+    }
+
+    public long getN() {
+        return n;
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public void update(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        append(0, value);
+        n++;
+        compress();
+    }
+
+    public void merge(KllSketch other) {
+        if (other == null || other.isEmpty()) {
+            return;
+        }
+        for (int h = 0; h < other.levels.length; h++) {
+            for (int i = 0; i < other.sizes[h]; i++) {
+                append(h, other.levels[h][i]);
+            }
+        }
+        n += other.n;
+        compress();
+    }
+
+    /**
+     * value 보다 작은 표본 비율과 같은 표본 비율의 중간값(mid-rank)을 0~1로 반환
+     */
+    public double rank(double value) {
+        if (n == 0) {
+            return 0.0;
+        }
+        long less = 0;
+        long equal = 0;
+        for (int h = 0; h < levels.length; h++) {
+            long weight = 1L << h;
+            for (int i = 0; i < sizes[h]; i++) {
+                double item = levels[h][i];
+                if (item < value) {
+                    less += weight;
+                } else if (item == value) {
+                    equal += weight;
+                }
+            }
+        }
+        return (less + equal / 2.0) / totalWeight();
+    }
+
+    /**
+     * q(0~1) 분위수에 해당하는 값을 반환 (비어 있으면 NaN)
+     */
+    public double quantile(double q) {
+        if (n == 0) {
+            return Double.NaN;
+        }
+        int retained = retainedItems();
+        double[] items = new double[retained];
+        long[] weights = new long[retained];
+        int idx = 0;
+        for (int h = 0; h < levels.length; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                items[idx] = levels[h][i];
+                weights[idx] = 1L << h;
+                idx++;
+            }
+        }
+        Integer[] order = new Integer[retained];
+        for (int i = 0; i < retained; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(items[a], items[b]));
+
+        double target = Math.max(0.0, Math.min(1.0, q)) * totalWeight();
+        long cumulative = 0;
+        for (Integer i : order) {
+            cumulative += weights[i];
+            if (cumulative >= target) {
+                return items[i];
+            }
+        }
+        return items[order[retained - 1]];
+    }
+
+    public byte[] toBytes() {
+        int retained = retainedItems();
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 4 + 8 + 4 + levels.length * 4 + retained * 8);
+        buffer.put(SERIAL_VERSION);
+        buffer.putInt(k);
+        buffer.putLong(n);
+        buffer.putInt(levels.length);
+        for (int h = 0; h < levels.length; h++) {
+            buffer.putInt(sizes[h]);
+            for (int i = 0; i < sizes[h]; i++) {
+                buffer.putDouble(levels[h][i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    public static KllSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != SERIAL_VERSION) {
+            throw new IllegalArgumentException("Unsupported KllSketch version: " + version);
+        }
+        KllSketch sketch = new KllSketch(buffer.getInt());
+        sketch.n = buffer.getLong();
+        int levelCount = buffer.getInt();
+        sketch.levels = new double[levelCount][];
+        sketch.sizes = new int[levelCount];
+        for (int h = 0; h < levelCount; h++) {
+            int size = buffer.getInt();
+            sketch.levels[h] = new double[Math.max(size, sketch.capacity(h))];
+            for (int i = 0; i < size; i++) {
+                sketch.levels[h][i] = buffer.getDouble();
+            }
+            sketch.sizes[h] = size;
+        }
+        return sketch;
+    }
+
+    //내부 구현 -------------------------------------------------------------
+
+    private long totalWeight() {
+        long total = 0;
+        for (int h = 0; h < levels.length; h++) {
+            total += (long) sizes[h] << h;
+        }
+        return total;
+    }
+
+    private int retainedItems() {
+        int total = 0;
+        for (int size : sizes) {
+            total += size;
+        }
+        return total;
+    }
+
+    // 레벨 h의 용량: 상위 레벨일수록 k에 가깝고, 하위 레벨은 (2/3)^depth 만큼 줄어듦
+    private int capacity(int h) {
+        int depth = levels.length - 1 - h;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(LEVEL_DECAY, depth)));
+    }
+
+    private void append(int h, double value) {
+        ensureLevel(h);
+        if (sizes[h] == levels[h].length) {
+            levels[h] = Arrays.copyOf(levels[h], Math.max(levels[h].length * 2, MIN_LEVEL_CAPACITY));
+        }
+        levels[h][sizes[h]++] = value;
+    }
+
+    private void ensureLevel(int h) {
+        if (h < levels.length) {
+            return;
+        }
+        int oldLength = levels.length;
+        levels = Arrays.copyOf(levels, h + 1);
+        sizes = Arrays.copyOf(sizes, h + 1);
+        for (int i = oldLength; i <= h; i++) {
+            levels[i] = new double[MIN_LEVEL_CAPACITY];
+        }
+    }
+
+    private void compress() {
+        boolean compacted = true;
+        while (compacted) {
+            compacted = false;
+            for (int h = 0; h < levels.length; h++) {
+                if (sizes[h] >= capacity(h)) {
+                    compact(h);
+                    compacted = true;
+                    break;
+                }
+            }
+        }
+    }
+
+    // 레벨 h를 정렬하고 짝/홀 위치 중 하나를 무작위로 골라 상위 레벨로 승격
+    private void compact(int h) {
+        int size = sizes[h];
+        double[] level = levels[h];
+        Arrays.sort(level, 0, size);
+
+        // 홀수 개면 마지막 원소 하나는 현재 레벨에 남김
+        int pairs = size / 2;
+        boolean keepLast = (size % 2) == 1;
+        double leftover = keepLast ? level[size - 1] : 0.0;
+        int offset = random.nextBoolean() ? 1 : 0;
+
+        ensureLevel(h + 1);
+        for (int i = 0; i < pairs; i++) {
+            append(h + 1, level[2 * i + offset]);
+        }
+
+        sizes[h] = 0;
+        if (keepLast) {
+            levels[h][0] = leftover;
+            sizes[h] = 1;
+        }
+    }
+}
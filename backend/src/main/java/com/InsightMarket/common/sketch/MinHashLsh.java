@@ -0,0 +1,120 @@
+package com.InsightMarket.common.sketch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 문자 n-gram 슁글 기반 MinHash 서명 + LSH 밴드 키
+ * - 서명 원소 i 는 해시 함수 i 로 해시한 슁글 중 최솟값. 두 서명에서 같은 원소의 비율이 자카드 유사도의 추정치
+ * - 서명을 bands 개 구간(각 rows 개)으로 나눠 구간별 키를 만들면, 한 구간이라도 같은 텍스트만 후보로 좁힐 수 있음
+ *   (후보가 될 확률이 절반이 되는 유사도 ≈ (1/bands)^(1/rows))
+ * - 한국어 질문은 띄어쓰기/조사 차이가 많아 단어 대신 문자 n-gram 을 슁글로 사용
+ * - 해시 시드는 seed 로 고정하므로 같은 설정이면 노드/재시작과 관계없이 같은 서명이 나옴
+ */
+public class MinHashLsh {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int bands;
+    private final int rows;
+    private final int shingleSize;
+    private final long[] seeds;
+
+    public MinHashLsh(int bands, int rows, int shingleSize, long seed) {
+        if (bands < 1 || rows < 1 || shingleSize < 1) {
+            throw new IllegalArgumentException("bands, rows, shingleSize must be >= 1");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.shingleSize = shingleSize;
+        this.seeds = new SplittableRandom(seed).longs(bands * rows).toArray();
+    }
+
+    public int getNumHashes() {
+        return seeds.length;
+    }
+
+    // 텍스트의 MinHash 서명 (슁글 크기보다 짧은 텍스트는 전체를 슁글 하나로 취급)
+    public int[] signature(String text) {
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        for (long shingle : shingles(text)) {
+            for (int i = 0; i < seeds.length; i++) {
+                // 부호 없는 비교 대신 상위 비트를 버린 31비트 값을 사용
+                int h = (int) (mix64(shingle ^ seeds[i]) >>> 33);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // 두 서명의 추정 자카드 유사도 (0 ~ 1)
+    public static double similarity(int[] a, int[] b) {
+        if (a.length != b.length || a.length == 0) {
+            return 0.0;
+        }
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / a.length;
+    }
+
+    // 밴드별 버킷 키 ("{밴드 번호}:{구간 해시}")
+    public List<String> bandKeys(int[] signature) {
+        if (signature.length != seeds.length) {
+            throw new IllegalArgumentException("signature length mismatch");
+        }
+        List<String> keys = new ArrayList<>(bands);
+        for (int band = 0; band < bands; band++) {
+            long h = FNV_OFFSET;
+            for (int row = 0; row < rows; row++) {
+                h = (h ^ signature[band * rows + row]) * FNV_PRIME;
+            }
+            keys.add(band + ":" + Long.toHexString(mix64(h)));
+        }
+        return keys;
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private Set<Long> shingles(String text) {
+        Set<Long> shingles = new HashSet<>();
+        if (text.length() <= shingleSize) {
+            shingles.add(hash(text, 0, text.length()));
+            return shingles;
+        }
+        for (int i = 0; i + shingleSize <= text.length(); i++) {
+            shingles.add(hash(text, i, i + shingleSize));
+        }
+        return shingles;
+    }
+
+    private static long hash(String text, int from, int to) {
+        long h = FNV_OFFSET;
+        for (int i = from; i < to; i++) {
+            h = (h ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return h;
+    }
+
+    // 64비트 해시 혼합 (MurmurHash3 fmix64)
+    private static long mix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93e53fe5a1bL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,5 +1,7 @@
 package com.InsightMarket.config;
 
+import com.InsightMarket.common.redis.CompactRedisSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -8,8 +10,9 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -18,33 +21,62 @@ import java.time.Duration;
 @EnableCaching // 스프링 캐시 기능 활성화
 public class RedisConfig {
 
+    // 값 쓰기 형식: smile(바이너리) 또는 json(기존 형식). 읽기는 두 형식 모두 지원
+    @Value("${redis.serializer.format:smile}")
+    private String serializerFormat;
+
+    // 이 크기(바이트) 이상인 값은 deflate 압축 (0 이하이면 압축하지 않음)
+    @Value("${redis.serializer.compress-threshold-bytes:1024}")
+    private int compressThresholdBytes;
+
+    /**
+     * redisTemplate 과 캐시 매니저가 함께 쓰는 값 직렬화기입니다.
+     * 배포 중에는 json 으로 두고 모든 노드가 올라온 뒤 smile 로 전환하면 구/신 노드가 서로의 값을 읽을 수 있습니다.
+     */
+    @Bean
+    public RedisSerializer<Object> redisValueSerializer() {
+        return new CompactRedisSerializer(!"json".equalsIgnoreCase(serializerFormat), compressThresholdBytes);
+    }
+
     /**
      * 우리가 수동으로 redisTemplate.opsForValue() 등을 쓸 때 사용하는 빈입니다.
-     * JSON 직렬화 설정을 하여 Redis CLI에서 데이터를 읽기 쉽게 만듭니다.
+     * Key는 문자열로 두어 Redis CLI에서 조회하기 쉽게 하고, Value는 redisValueSerializer로 저장합니다.
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       RedisSerializer<Object> redisValueSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        // Key는 String, Value는 JSON으로 저장
+        // Key는 String, Value는 바이너리(Smile) 또는 JSON으로 저장
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(redisValueSerializer);
 
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setHashValueSerializer(redisValueSerializer);
 
         return template;
     }
 
+    /**
+     * Redis Pub/Sub 구독용 리스너 컨테이너입니다. (노드 간 SSE 트렌드 전달에 사용)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     /**
      * 나중에 @Cacheable 어노테이션을 사용할 때 동작하는 설정입니다.
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisSerializer<Object> redisValueSerializer) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(redisValueSerializer))
                 .entryTtl(Duration.ofMinutes(60)); // 기본 캐시 유지 시간 60분
 
         return RedisCacheManager.builder(connectionFactory)
@@ -1,7 +1,11 @@
 package com.InsightMarket.config;
 
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.InsightMarket.common.formatter.LocalDateFormatter;
@@ -9,9 +13,31 @@ import com.InsightMarket.common.formatter.LocalDateFormatter;
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    // 비동기 응답(SSE 스트림) 쓰기 전용 풀
+    // Executor 빈으로 등록하면 스프링 부트 기본 applicationTaskExecutor 가 비활성화되므로 내부에서만 관리
+    private final ThreadPoolTaskExecutor asyncWriterExecutor = new ThreadPoolTaskExecutor();
+
+    public WebMvcConfig(@Value("${sse.writer.pool-size:16}") int writerPoolSize) {
+        asyncWriterExecutor.setThreadNamePrefix("sse-writer-");
+        asyncWriterExecutor.setCorePoolSize(writerPoolSize);
+        asyncWriterExecutor.setMaxPoolSize(writerPoolSize);
+        asyncWriterExecutor.initialize();
+    }
+
     @Override
     public void addFormatters(FormatterRegistry registry) {
 
         registry.addFormatter(new LocalDateFormatter());
     }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // Flux 응답의 각 이벤트 쓰기는 이 풀에서 수행 (브로드캐스트 스레드와 분리)
+        configurer.setTaskExecutor(asyncWriterExecutor);
+    }
+
+    @PreDestroy
+    public void shutdownWriterExecutor() {
+        asyncWriterExecutor.shutdown();
+    }
 }
@@ -1,5 +1,7 @@
 package com.InsightMarket.controller;
 
+import com.InsightMarket.ai.PythonResilience;
+import com.InsightMarket.ai.dto.resilience.PythonCircuitStateDTO;
 import com.InsightMarket.dto.member.*;
 import com.InsightMarket.service.member.MemberService;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ import java.util.List;
 public class AdminController {
 
     private final MemberService memberService;
+    private final PythonResilience pythonResilience;
     
     //가입 승인 대기 목록
     @GetMapping("/approvals")
@@ -68,4 +71,19 @@ public class AdminController {
         log.info("Expire request isExpired={}", request.isExpired());
         memberService.changeExpired(memberDTO, memberId, request.isExpired());
     }
+
+    // Python 호출 서킷 브레이커/벌크헤드 상태 (시스템 관리자 전용)
+    @GetMapping("/python/circuit-breakers")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<PythonCircuitStateDTO> pythonCircuitBreakers() {
+        return pythonResilience.getStates();
+    }
+
+    // 서킷 브레이커 수동 초기화 (Python 서버 복구 후 대기 시간 없이 바로 재개)
+    @PostMapping("/python/circuit-breakers/{endpoint}/reset")
+    @PreAuthorize("hasRole('ADMIN')")
+    public PythonCircuitStateDTO resetPythonCircuitBreaker(@PathVariable String endpoint) {
+        log.info("Reset python circuit breaker endpoint={}", endpoint);
+        return pythonResilience.reset(endpoint);
+    }
 }
@@ -1,17 +1,27 @@
 package com.InsightMarket.controller;
 
 import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
-import com.InsightMarket.ai.service.trends.TrendsPerformanceService;
-import com.InsightMarket.ai.service.trends.TrendsRedisService;
+import com.InsightMarket.ai.dto.trends.TrendRankHistoryDTO;
+import com.InsightMarket.ai.service.trends.TrendsHistoryService;
+import com.InsightMarket.ai.service.trends.TrendsService;
 import com.InsightMarket.dto.dashboard.*;
+import com.InsightMarket.service.analytics.BenchmarkService;
+import com.InsightMarket.service.analytics.TokenVelocityService;
 import com.InsightMarket.service.dashboard.DashBoardService;
 import com.InsightMarket.service.sse.TrendSseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -20,9 +30,11 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class DashBoardController {
 
     private final DashBoardService dashBoardService;
-    private final TrendsRedisService trendsRedisService;
-    private final TrendsPerformanceService trendsPerformanceService;
+    private final TrendsService trendsService;
     private final TrendSseService trendSseService;
+    private final TrendsHistoryService trendsHistoryService;
+    private final BenchmarkService benchmarkService;
+    private final TokenVelocityService tokenVelocityService;
 
 
     @GetMapping("/mention/analysis")
@@ -76,45 +88,84 @@ public class DashBoardController {
         return ResponseEntity.ok(response);
     }
 
+    // 플랫폼 전체 브랜드 대비 주간 언급량/긍정 비율 백분위
+    @GetMapping("/benchmark")
+    public ResponseEntity<BrandBenchmarkResponseDTO> getBrandBenchmark(
+            DashBoardRequestDTO requestDTO,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart) {
+
+        log.info("브랜드 벤치마크 조회 요청 - BrandID: {}, WeekStart: {}", requestDTO.getBrandId(), weekStart);
+
+        BrandBenchmarkResponseDTO response = benchmarkService.getBrandBenchmark(requestDTO.getBrandId(), weekStart);
+
+        return ResponseEntity.ok(response);
+    }
+
+    // SNS 토큰 중 최근 출현율이 급격히 오른 토큰 (수집 시 미리 계산된 결과)
+    @GetMapping("/rising-tokens")
+    public ResponseEntity<List<RisingTokenDTO>> getRisingTokens(DashBoardRequestDTO requestDTO) {
+
+        log.info("급상승 토큰 조회 요청 - BrandID: {}", requestDTO.getBrandId());
+
+        return ResponseEntity.ok(tokenVelocityService.getRisingTokens(requestDTO.getBrandId()));
+    }
+
     // 브랜드별 실시간 구글 연관 검색어 트렌드 조회
     @GetMapping("/trends")
     public ResponseEntity<PythonTrendResponseDTO> getBrandTrends(DashBoardRequestDTO requestDTO) {
         log.info("실시간 트렌드 조회 요청 - BrandID: {}", requestDTO.getBrandId());
 
-        // Redis에서 최신 데이터를 가져옴
-        PythonTrendResponseDTO response = trendsRedisService.getTrendData(requestDTO.getBrandId());
+        // Redis에서 최신 데이터를 가져옴 (없으면 DB 조회 후 Redis 재저장, 동시 요청은 조회 한 번을 공유)
+        PythonTrendResponseDTO response = trendsService.getTrendData(requestDTO.getBrandId());
 
         if (response == null) {
             // 아직 데이터가 수집되지 않은 경우 204 No Content 또는 빈 객체 반환
-            log.warn("Brand {} 에 대한 트렌드 데이터가 Redis에 없습니다.", requestDTO.getBrandId());
+            log.warn("Brand {} 에 대한 트렌드 데이터가 없습니다.", requestDTO.getBrandId());
             return ResponseEntity.noContent().build();
         }
 
         return ResponseEntity.ok(response);
     }
 
-    // DB 조회 vs Redis 조회 성능 비교 테스트
-    @GetMapping("/trends/performance")
-    public ResponseEntity<String> compareTrendsPerformance(DashBoardRequestDTO requestDTO) {
-        log.info("성능 비교 테스트 요청 - BrandID: {}", requestDTO.getBrandId());
-
-        try {
-            trendsPerformanceService.comparePerformance(requestDTO.getBrandId());
-            return ResponseEntity.ok("성능 비교 완료. 로그를 확인하세요.");
-        } catch (Exception e) {
-            log.error("성능 비교 테스트 실패 - BrandID: {}", requestDTO.getBrandId(), e);
-            return ResponseEntity.internalServerError()
-                    .body("성능 비교 테스트 실패: " + e.getMessage());
-        }
+    // 여러 브랜드의 실시간 트렌드를 한 번에 조회 (Redis MGET 1회, 캐시에 없는 브랜드만 DB 조회)
+    @GetMapping("/trends/batch")
+    public ResponseEntity<Map<Long, PythonTrendResponseDTO>> getBrandTrendsBatch(@RequestParam List<Long> brandIds) {
+        log.info("실시간 트렌드 일괄 조회 요청 - BrandIDs: {}", brandIds);
+
+        return ResponseEntity.ok(trendsService.getTrendData(brandIds));
     }
-    
+
+    // 연관 검색어 하나의 순위 변화 (압축된 스냅샷 이력, 시/일 단위)
+    @GetMapping("/trends/history")
+    public ResponseEntity<TrendRankHistoryDTO> getTrendRankHistory(
+            DashBoardRequestDTO requestDTO,
+            @RequestParam String keyword,
+            @RequestParam(required = false, defaultValue = "top") String listType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String unit) {
+
+        log.info("트렌드 순위 이력 조회 요청 - BrandID: {}, Keyword: {}, List: {}", requestDTO.getBrandId(), keyword, listType);
+
+        // 기본 조회 기간: 최근 7일
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(7);
+
+        return ResponseEntity.ok(trendsHistoryService.getKeywordRankHistory(
+                requestDTO.getBrandId(), keyword, listType, start, end, unit));
+    }
+
     // 브랜드별 실시간 구글 연관 검색어 트렌드 SSE 스트림 구독
+    // EventSource 자동 재연결은 Last-Event-ID 헤더로, 수동 재연결은 lastEventId 파라미터로 이어받을 위치를 전달
     @GetMapping(value = "/trends/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamTrends(@RequestParam Long brandId) {
+    public Flux<ServerSentEvent<String>> streamTrends(
+            @RequestParam Long brandId,
+            @RequestParam(required = false) Long lastEventId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader) {
         log.info("[SSE] 브랜드 {} 트렌드 SSE 스트림 구독 요청", brandId);
 
-        // SSE 연결 생성, 등록 및 초기 데이터 전송 (서비스에서 처리)
-        return trendSseService.subscribeWithInitialData(brandId);
+        // 브랜드 채널 구독 (초기 데이터/이어받기는 서비스에서 처리)
+        return trendSseService.subscribe(brandId, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
     }
 }
 
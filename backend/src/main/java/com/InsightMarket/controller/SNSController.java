@@ -18,6 +18,8 @@ import com.InsightMarket.repository.brand.BrandRepository;
 import com.InsightMarket.domain.company.Competitor;
 import com.InsightMarket.domain.brand.Brand;
 import com.InsightMarket.dto.competitor.CompetitorResponseDTO;
+import com.InsightMarket.service.analytics.SimilarBrandService;
+import com.InsightMarket.service.analytics.TokenGraphService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -42,6 +44,8 @@ public class SNSController {
     private final ProjectKeywordRepository projectKeywordRepository;
     private final CompetitorRepository competitorRepository;
     private final BrandRepository brandRepository;
+    private final SimilarBrandService similarBrandService;
+    private final TokenGraphService tokenGraphService;
 
     @GetMapping("/insights")
     public ResponseEntity<List<InsightSummaryDTO>> getInsights(
@@ -197,6 +201,29 @@ public class SNSController {
         return ResponseEntity.ok(dtos);
     }
 
+    @GetMapping("/similar-brands")
+    public ResponseEntity<List<SimilarBrandDTO>> getSimilarBrands(
+            @PathVariable Long brandId,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.info("[SNSController] GET /similar-brands brandId={}, limit={}", brandId, limit);
+
+        return ResponseEntity.ok(similarBrandService.getSimilarBrands(brandId, limit));
+    }
+
+    @GetMapping("/token-graph")
+    public ResponseEntity<TokenGraphDTO> getTokenGraph(
+            @PathVariable Long brandId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart,
+            @RequestParam(defaultValue = "5") int k,
+            @RequestParam(defaultValue = "50") int maxNodes
+    ) {
+        log.info("[SNSController] GET /token-graph brandId={}, weekStart={}, k={}, maxNodes={}",
+                brandId, weekStart, k, maxNodes);
+
+        return ResponseEntity.ok(tokenGraphService.getTokenGraph(brandId, weekStart, k, maxNodes));
+    }
+
     private InsightSummaryDTO toInsightDTO(AnalyticsKeywordInsightResult entity) {
         return InsightSummaryDTO.builder()
                 .insightId(entity.getInsightId())
@@ -0,0 +1,64 @@
+package com.InsightMarket.domain.analytics.benchmark;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.antlr.v4.runtime.misc.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 주차/코호트별 브랜드 지표 분포를 담은 KLL 분위수 스케치
+ * - 수집(ingestion) 시점에 갱신되며, 벤치마크 조회 시에는 역직렬화만 수행
+ */
+@Entity
+@Table(
+        name = "analytics_benchmark_sketch",
+        uniqueConstraints = @UniqueConstraint(
+                columnNames = {"metric", "week_start", "cohort"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AnalyticsBenchmarkSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long benchmarkSketchId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private BenchmarkMetric metric;
+
+    /** 해당 주의 월요일 */
+    @NotNull
+    @Column(nullable = false)
+    private LocalDate weekStart;
+
+    /** 비교 집단 (브랜드 카테고리가 없으므로 현재는 플랫폼 전체 "ALL") */
+    @NotNull
+    @Column(nullable = false, length = 50)
+    private String cohort;
+
+    @NotNull
+    @Column(nullable = false)
+    private Long sampleCount;
+
+    @NotNull
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] sketchData;
+
+    @NotNull
+    @Column(nullable = false)
+    private LocalDateTime computedAt;
+
+    public void changeSketch(byte[] sketchData, long sampleCount) {
+        this.sketchData = sketchData;
+        this.sampleCount = sampleCount;
+        this.computedAt = LocalDateTime.now();
+    }
+}
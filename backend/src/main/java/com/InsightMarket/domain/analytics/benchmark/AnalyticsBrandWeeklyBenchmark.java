@@ -0,0 +1,55 @@
+package com.InsightMarket.domain.analytics.benchmark;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.antlr.v4.runtime.misc.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * 브랜드의 주간 지표 값과 코호트 내 백분위 (수집 시점에 미리 계산)
+ */
+@Entity
+@Table(
+        name = "analytics_brand_weekly_benchmark",
+        uniqueConstraints = @UniqueConstraint(
+                columnNames = {"brand_id", "week_start", "metric"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AnalyticsBrandWeeklyBenchmark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long brandWeeklyBenchmarkId;
+
+    @NotNull
+    @Column(nullable = false)
+    private Long brandId;
+
+    @NotNull
+    @Column(nullable = false)
+    private LocalDate weekStart;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private BenchmarkMetric metric;
+
+    @NotNull
+    @Column(nullable = false)
+    private Double metricValue;
+
+    /** 코호트 내 백분위 (0~100) */
+    @NotNull
+    @Column(nullable = false, columnDefinition = "DECIMAL(5,2)")
+    private Double percentile;
+
+    public void changeValue(Double metricValue, Double percentile) {
+        this.metricValue = metricValue;
+        this.percentile = percentile;
+    }
+}
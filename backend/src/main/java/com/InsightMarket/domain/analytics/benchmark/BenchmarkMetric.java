@@ -0,0 +1,6 @@
+package com.InsightMarket.domain.analytics.benchmark;
+
+public enum BenchmarkMetric {
+    WEEKLY_MENTIONS,   // 주간 언급량 합계
+    POSITIVE_RATIO     // 주간 긍정 비율(%)
+}
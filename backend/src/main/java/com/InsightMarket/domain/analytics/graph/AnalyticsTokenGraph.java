@@ -0,0 +1,68 @@
+package com.InsightMarket.domain.analytics.graph;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.antlr.v4.runtime.misc.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 브랜드/주차별 토큰 동시 출현 그래프 (수집 시점에 증분 갱신)
+ * - graphData: TokenCooccurrenceGraph 직렬화 바이트 (노드별 상위 이웃만 유지한 인접 리스트)
+ * - mergedBuckets: 이미 반영한 "날짜|소스" 버킷 목록 (재수집 시 중복 누적 방지)
+ */
+@Entity
+@Table(
+        name = "analytics_token_graph",
+        uniqueConstraints = @UniqueConstraint(
+                columnNames = {"brand_id", "week_start"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AnalyticsTokenGraph {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long tokenGraphId;
+
+    @NotNull
+    @Column(nullable = false)
+    private Long brandId;
+
+    /** 해당 주의 월요일 */
+    @NotNull
+    @Column(nullable = false)
+    private LocalDate weekStart;
+
+    @NotNull
+    @Column(nullable = false)
+    private Integer nodeCount;
+
+    @NotNull
+    @Column(nullable = false)
+    private Integer edgeCount;
+
+    @NotNull
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] graphData;
+
+    @Column(columnDefinition = "TEXT")
+    private String mergedBuckets;
+
+    @NotNull
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public void changeGraph(byte[] graphData, int nodeCount, int edgeCount, String mergedBuckets) {
+        this.graphData = graphData;
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+        this.mergedBuckets = mergedBuckets;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,63 @@
+package com.InsightMarket.domain.analytics.keyword;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.antlr.v4.runtime.misc.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 브랜드 단위 일별 긍/부정/중립 건수 롤업
+ * - 감성 비율 × 같은 날짜·소스의 언급량으로 건수를 만들어 두어, 주간/다채널 합산이 SUM 한 번으로 정확해지도록 함
+ * - 수집 시 브랜드/기간 단위로 네이티브 upsert 로 갱신
+ */
+@Entity
+@Table(
+        name = "analytics_sentiment_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                columnNames = {"brand_id", "stat_date", "source"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AnalyticsSentimentDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long sentimentRollupId;
+
+    @NotNull
+    @Column(nullable = false)
+    private Long brandId;
+
+    @NotNull
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @NotNull
+    @Column(nullable = false, length = 50)
+    private String source;
+
+    @NotNull
+    @Column(nullable = false)
+    private Long mentionCount;
+
+    @NotNull
+    @Column(nullable = false)
+    private Long positiveCount;
+
+    @NotNull
+    @Column(nullable = false)
+    private Long negativeCount;
+
+    @NotNull
+    @Column(nullable = false)
+    private Long neutralCount;
+
+    @NotNull
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,54 @@
+package com.InsightMarket.domain.analytics.similarity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.antlr.v4.runtime.misc.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토큰 분포(TF-IDF) 코사인 유사도 기준 유사 브랜드 (야간 배치로 전체 재계산)
+ */
+@Entity
+@Table(
+        name = "analytics_similar_brand",
+        uniqueConstraints = @UniqueConstraint(
+                columnNames = {"brand_id", "similar_brand_id"}
+        ),
+        indexes = @Index(name = "idx_similar_brand_rank", columnList = "brand_id, similarity_rank")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AnalyticsSimilarBrand {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long similarBrandStatsId;
+
+    @NotNull
+    @Column(nullable = false)
+    private Long brandId;
+
+    @NotNull
+    @Column(nullable = false)
+    private Long similarBrandId;
+
+    /** 코사인 유사도 (0~1) */
+    @NotNull
+    @Column(nullable = false)
+    private Double similarity;
+
+    @NotNull
+    @Column(nullable = false)
+    private Integer similarityRank;
+
+    /** 유사도에 가장 크게 기여한 공통 토큰 (쉼표 구분) */
+    @Column(length = 500)
+    private String sharedTokens;
+
+    @NotNull
+    @Column(nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,64 @@
+package com.InsightMarket.domain.analytics.velocity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.antlr.v4.runtime.misc.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 브랜드별 급상승 토큰 (수집 시점에 교체, 대시보드는 집계 없이 그대로 조회)
+ */
+@Entity
+@Table(
+        name = "analytics_rising_token",
+        uniqueConstraints = @UniqueConstraint(
+                columnNames = {"brand_id", "token"}
+        ),
+        indexes = @Index(name = "idx_rising_token_rank", columnList = "brand_id, rising_rank")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AnalyticsRisingToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long risingTokenId;
+
+    @NotNull
+    @Column(nullable = false)
+    private Long brandId;
+
+    @NotNull
+    @Column(nullable = false, length = 100)
+    private String token;
+
+    /** fastRate / slowRate (평활화 적용) */
+    @NotNull
+    @Column(nullable = false)
+    private Double velocity;
+
+    @NotNull
+    @Column(nullable = false)
+    private Double fastRate;
+
+    @NotNull
+    @Column(nullable = false)
+    private Double slowRate;
+
+    @NotNull
+    @Column(nullable = false)
+    private Integer risingRank;
+
+    /** 감쇠 기준 날짜 (해당 브랜드의 최신 통계 날짜) */
+    @NotNull
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @NotNull
+    @Column(nullable = false)
+    private LocalDateTime detectedAt;
+}
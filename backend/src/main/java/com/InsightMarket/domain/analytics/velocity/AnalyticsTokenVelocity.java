@@ -0,0 +1,72 @@
+package com.InsightMarket.domain.analytics.velocity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.antlr.v4.runtime.misc.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * (브랜드, 토큰)별 지수 감쇠 출현율 상태
+ * - fastRate: 짧은 반감기 이동 평균, slowRate: 긴 반감기 이동 평균
+ * - 마지막으로 반영한 날짜와 그날의 빈도를 함께 보관해 같은 날짜 재수집 시 차이만 반영
+ * - 처음 관측한 날짜를 보관해 관측 기간이 짧은 토큰의 이동 평균을 보정 (처음 본 토큰이 급상승으로 잡히지 않도록)
+ */
+@Entity
+@Table(
+        name = "analytics_token_velocity",
+        uniqueConstraints = @UniqueConstraint(
+                columnNames = {"brand_id", "token"}
+        ),
+        indexes = @Index(name = "idx_token_velocity_fast_rate", columnList = "brand_id, fast_rate")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AnalyticsTokenVelocity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long tokenVelocityId;
+
+    @NotNull
+    @Column(nullable = false)
+    private Long brandId;
+
+    @NotNull
+    @Column(nullable = false, length = 100)
+    private String token;
+
+    @NotNull
+    @Column(nullable = false)
+    private Double fastRate;
+
+    @NotNull
+    @Column(nullable = false)
+    private Double slowRate;
+
+    /** 처음 관측한 날짜 (컬럼 추가 전 생성된 행은 null → 충분히 오래 관측한 것으로 봄) */
+    private LocalDate firstStatDate;
+
+    @NotNull
+    @Column(nullable = false)
+    private LocalDate lastStatDate;
+
+    @NotNull
+    @Column(nullable = false)
+    private Integer lastDayCount;
+
+    @NotNull
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public void changeRates(double fastRate, double slowRate, LocalDate lastStatDate, int lastDayCount) {
+        this.fastRate = fastRate;
+        this.slowRate = slowRate;
+        this.lastStatDate = lastStatDate;
+        this.lastDayCount = lastDayCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
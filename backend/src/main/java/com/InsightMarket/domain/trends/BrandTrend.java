@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "brand_trend")
+@Table(
+        name = "brand_trend",
+        indexes = @Index(name = "idx_brand_trend_brand_collected", columnList = "brand_id, collected_at")
+)
 public class BrandTrend extends BaseEntity {
 
     @Id
@@ -30,8 +33,16 @@ public class BrandTrend extends BaseEntity {
     @Column(name = "collected_at", nullable = false)
     private LocalDateTime collectedAt;
 
+    // 같은 내용이 마지막으로 다시 수집된 시각 (collectedAt ~ lastSeenAt 동안 스냅샷 유지, 도입 이전 행은 null)
+    @Column(name = "last_seen_at")
+    private LocalDateTime lastSeenAt;
+
     // 트렌드 데이터 (top/rising 리스트)를 JSON 문자열로 저장
     @Lob
     @Column(name = "data_json", nullable = false, columnDefinition = "JSON")
     private String dataJson;
+
+    // dataJson 의 SHA-256 (이전 스냅샷과 같은지 비교용, 도입 이전 행은 null)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 }
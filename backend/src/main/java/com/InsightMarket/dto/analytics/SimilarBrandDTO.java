@@ -0,0 +1,22 @@
+package com.InsightMarket.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SimilarBrandDTO {
+    private Long brandId;
+    private String brandName;
+    private Double similarity;
+    private Integer rank;
+    private List<String> sharedTokens;
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,20 @@
+package com.InsightMarket.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenGraphDTO {
+    private Long brandId;
+    private LocalDate weekStart;
+    private List<TokenGraphNodeDTO> nodes;
+    private List<TokenGraphEdgeDTO> edges;
+}
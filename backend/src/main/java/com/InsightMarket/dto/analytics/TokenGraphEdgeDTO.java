@@ -0,0 +1,16 @@
+package com.InsightMarket.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenGraphEdgeDTO {
+    private String source;
+    private String target;
+    private Double weight;
+}
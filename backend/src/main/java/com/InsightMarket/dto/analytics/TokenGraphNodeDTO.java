@@ -0,0 +1,15 @@
+package com.InsightMarket.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenGraphNodeDTO {
+    private String token;
+    private Long weight;
+}
@@ -0,0 +1,27 @@
+package com.InsightMarket.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BrandBenchmarkResponseDTO {
+
+    private Long brandId;
+    private String weekStart; //기준 주차(월요일)
+    private Long cohortSize; //비교 대상 브랜드 수
+
+    //주간 언급량
+    private Double mentionCount;
+    private Double mentionPercentile; //상위 몇 %인지 (0~100, 높을수록 상위)
+    private Double cohortMedianMentionCount;
+
+    //주간 긍정 비율
+    private Double positiveRatio;
+    private Double positivePercentile;
+    private Double cohortMedianPositiveRatio;
+}
@@ -0,0 +1,22 @@
+package com.InsightMarket.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RisingTokenDTO {
+
+    private String token; //토큰
+    private Double velocity; //단기/장기 출현율 비율
+    private Double fastRate; //단기 일평균 출현 수
+    private Double slowRate; //장기 일평균 출현 수
+    private Integer rank; //순위
+    private LocalDate statDate; //기준 날짜
+}
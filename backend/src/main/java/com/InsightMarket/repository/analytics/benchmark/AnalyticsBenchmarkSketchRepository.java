@@ -0,0 +1,33 @@
+package com.InsightMarket.repository.analytics.benchmark;
+
+import com.InsightMarket.domain.analytics.benchmark.AnalyticsBenchmarkSketch;
+import com.InsightMarket.domain.analytics.benchmark.BenchmarkMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface AnalyticsBenchmarkSketchRepository extends JpaRepository<AnalyticsBenchmarkSketch, Long> {
+
+    Optional<AnalyticsBenchmarkSketch> findByMetricAndWeekStartAndCohort(BenchmarkMetric metric, LocalDate weekStart, String cohort);
+
+    // 주차/코호트 스케치 upsert (여러 노드가 같은 주차를 동시에 재계산해도 유니크 키 충돌 없이 마지막 값으로 덮어씀)
+    @Modifying
+    @Query(value = "INSERT INTO analytics_benchmark_sketch " +
+            "(metric, week_start, cohort, sample_count, sketch_data, computed_at) " +
+            "VALUES (:metric, :weekStart, :cohort, :sampleCount, :sketchData, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "sample_count = VALUES(sample_count), " +
+            "sketch_data = VALUES(sketch_data), " +
+            "computed_at = VALUES(computed_at)",
+            nativeQuery = true)
+    int upsertSketch(
+            @Param("metric") String metric,
+            @Param("weekStart") LocalDate weekStart,
+            @Param("cohort") String cohort,
+            @Param("sampleCount") long sampleCount,
+            @Param("sketchData") byte[] sketchData);
+}
@@ -0,0 +1,36 @@
+package com.InsightMarket.repository.analytics.benchmark;
+
+import com.InsightMarket.domain.analytics.benchmark.AnalyticsBrandWeeklyBenchmark;
+import com.InsightMarket.domain.analytics.benchmark.BenchmarkMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface AnalyticsBrandWeeklyBenchmarkRepository extends JpaRepository<AnalyticsBrandWeeklyBenchmark, Long> {
+
+    // 브랜드 주간 지표/백분위 upsert (동시 재계산 시 유니크 키 충돌 방지)
+    @Modifying
+    @Query(value = "INSERT INTO analytics_brand_weekly_benchmark " +
+            "(brand_id, week_start, metric, metric_value, percentile) " +
+            "VALUES (:brandId, :weekStart, :metric, :metricValue, :percentile) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "metric_value = VALUES(metric_value), " +
+            "percentile = VALUES(percentile)",
+            nativeQuery = true)
+    int upsertValue(
+            @Param("brandId") Long brandId,
+            @Param("weekStart") LocalDate weekStart,
+            @Param("metric") String metric,
+            @Param("metricValue") double metricValue,
+            @Param("percentile") double percentile);
+
+    List<AnalyticsBrandWeeklyBenchmark> findByBrandIdAndWeekStart(Long brandId, LocalDate weekStart);
+
+    // 요청한 주차 데이터가 없을 때 가장 최근 주차로 대체
+    Optional<AnalyticsBrandWeeklyBenchmark> findTopByBrandIdAndMetricOrderByWeekStartDesc(Long brandId, BenchmarkMetric metric);
+}
@@ -0,0 +1,15 @@
+package com.InsightMarket.repository.analytics.graph;
+
+import com.InsightMarket.domain.analytics.graph.AnalyticsTokenGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface AnalyticsTokenGraphRepository extends JpaRepository<AnalyticsTokenGraph, Long> {
+
+    Optional<AnalyticsTokenGraph> findByBrandIdAndWeekStart(Long brandId, LocalDate weekStart);
+
+    // 요청한 주차 그래프가 없을 때 가장 최근 주차로 대체
+    Optional<AnalyticsTokenGraph> findTopByBrandIdOrderByWeekStartDesc(Long brandId);
+}
@@ -81,6 +81,19 @@ public interface AnalyticsKeywordDailyStatsRepository extends JpaRepository<Anal
             @Param("sources") List<String> sources);
 
 
+    //벤치마크: 기간 내 브랜드별 언급량 합계 [brandId, SUM(mentionCount)]
+    @Query("SELECT s.brandId, SUM(s.mentionCount) " +
+            "FROM AnalyticsKeywordDailyStats s " +
+            "WHERE s.statDate BETWEEN :startDate AND :endDate " +
+            "AND s.analysisTargetType = 'BRAND' " +
+            "AND s.competitorId IS NULL " +
+            "AND s.projectId IS NULL " +
+            "AND s.keywordId IS NULL " +
+            "GROUP BY s.brandId")
+    List<Object[]> sumMentionCountGroupByBrand(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     //----------------------------------------------------------------------------------------
 
 
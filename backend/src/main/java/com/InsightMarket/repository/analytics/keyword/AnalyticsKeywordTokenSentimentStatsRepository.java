@@ -1,12 +1,15 @@
 package com.InsightMarket.repository.analytics.keyword;
 
 import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordTokenSentimentStats;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AnalyticsKeywordTokenSentimentStatsRepository extends JpaRepository<AnalyticsKeywordTokenSentimentStats, Long> {
 
@@ -46,5 +49,17 @@ public interface AnalyticsKeywordTokenSentimentStatsRepository extends JpaReposi
             @Param("source") String source,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
-}
 
+    // 유사 브랜드 배치용: 브랜드별 토큰 빈도를 스트리밍으로 읽음 (호출 측 트랜잭션 안에서 close 필요)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "5000"))
+    @Query(value = "SELECT s.brand_id, s.token, SUM(s.token_count) " +
+            "FROM analytics_keyword_token_sentiment_stats s " +
+            "WHERE s.stat_date >= :startDate " +
+            "AND s.analysis_target_type = 'BRAND' " +
+            "AND s.competitor_id IS NULL " +
+            "AND s.project_id IS NULL " +
+            "AND s.keyword_id IS NULL " +
+            "GROUP BY s.brand_id, s.token",
+            nativeQuery = true)
+    Stream<Object[]> streamBrandTokenCounts(@Param("startDate") LocalDate startDate);
+}
@@ -0,0 +1,85 @@
+package com.InsightMarket.repository.analytics.keyword;
+
+import com.InsightMarket.domain.analytics.keyword.AnalyticsSentimentDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AnalyticsSentimentDailyRollupRepository extends JpaRepository<AnalyticsSentimentDailyRollup, Long> {
+
+    // 브랜드 단위 감성 비율 × 언급량으로 건수 롤업 upsert (brandId가 null이면 전체 브랜드)
+    // 같은 키가 여러 번 수집된 경우 가장 마지막 행(최대 PK)을 사용
+    @Modifying
+    @Query(value = "INSERT INTO analytics_sentiment_daily_rollup " +
+            "(brand_id, stat_date, source, mention_count, positive_count, negative_count, neutral_count, updated_at) " +
+            "SELECT s.brand_id, s.stat_date, s.source, d.mention_count, " +
+            "ROUND(d.mention_count * s.positive_ratio / 100), " +
+            "ROUND(d.mention_count * s.negative_ratio / 100), " +
+            "GREATEST(d.mention_count - ROUND(d.mention_count * s.positive_ratio / 100) - ROUND(d.mention_count * s.negative_ratio / 100), 0), " +
+            "NOW() " +
+            "FROM analytics_keyword_sentiment_daily_stats s " +
+            "JOIN analytics_keyword_daily_stats d ON d.keyword_daily_stats_id = (" +
+            "  SELECT MAX(d2.keyword_daily_stats_id) FROM analytics_keyword_daily_stats d2 " +
+            "  WHERE d2.brand_id = s.brand_id AND d2.stat_date = s.stat_date AND d2.source = s.source " +
+            "  AND d2.analysis_target_type = 'BRAND' " +
+            "  AND d2.competitor_id IS NULL AND d2.project_id IS NULL AND d2.keyword_id IS NULL) " +
+            "WHERE s.sentiment_daily_stats_id IN (" +
+            "  SELECT MAX(s2.sentiment_daily_stats_id) FROM analytics_keyword_sentiment_daily_stats s2 " +
+            "  WHERE (:brandId IS NULL OR s2.brand_id = :brandId) " +
+            "  AND s2.stat_date BETWEEN :startDate AND :endDate " +
+            "  AND s2.analysis_target_type = 'BRAND' " +
+            "  AND s2.competitor_id IS NULL AND s2.project_id IS NULL AND s2.keyword_id IS NULL " +
+            "  GROUP BY s2.brand_id, s2.stat_date, s2.source) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "mention_count = VALUES(mention_count), " +
+            "positive_count = VALUES(positive_count), " +
+            "negative_count = VALUES(negative_count), " +
+            "neutral_count = VALUES(neutral_count), " +
+            "updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    int upsertRollup(
+            @Param("brandId") Long brandId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    //대시보드: 일별 건수 합계 [statDate, SUM(mention), SUM(pos), SUM(neg), SUM(neu)]
+    @Query("SELECT r.statDate, SUM(r.mentionCount), SUM(r.positiveCount), SUM(r.negativeCount), SUM(r.neutralCount) " +
+            "FROM AnalyticsSentimentDailyRollup r " +
+            "WHERE r.brandId = :brandId " +
+            "AND r.statDate BETWEEN :startDate AND :endDate " +
+            "AND r.source IN :sources " +
+            "GROUP BY r.statDate " +
+            "ORDER BY r.statDate ASC")
+    List<Object[]> sumCountsGroupByDate(
+            @Param("brandId") Long brandId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("sources") List<String> sources);
+
+    //대시보드: 소스별 건수 합계 [source, SUM(mention), SUM(pos), SUM(neg), SUM(neu)]
+    @Query("SELECT r.source, SUM(r.mentionCount), SUM(r.positiveCount), SUM(r.negativeCount), SUM(r.neutralCount) " +
+            "FROM AnalyticsSentimentDailyRollup r " +
+            "WHERE r.brandId = :brandId " +
+            "AND r.statDate BETWEEN :startDate AND :endDate " +
+            "AND r.source IN :sources " +
+            "GROUP BY r.source")
+    List<Object[]> sumCountsGroupBySource(
+            @Param("brandId") Long brandId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("sources") List<String> sources);
+
+    //벤치마크: 기간 내 브랜드별 언급량 가중 긍정 비율 [brandId, 긍정 비율(0~100)]
+    @Query("SELECT r.brandId, SUM(r.positiveCount) * 100.0 / SUM(r.mentionCount) " +
+            "FROM AnalyticsSentimentDailyRollup r " +
+            "WHERE r.statDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.brandId " +
+            "HAVING SUM(r.mentionCount) > 0")
+    List<Object[]> positiveRatioGroupByBrand(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,18 @@
+package com.InsightMarket.repository.analytics.similarity;
+
+import com.InsightMarket.domain.analytics.similarity.AnalyticsSimilarBrand;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface AnalyticsSimilarBrandRepository extends JpaRepository<AnalyticsSimilarBrand, Long> {
+
+    List<AnalyticsSimilarBrand> findByBrandIdOrderBySimilarityRankAsc(Long brandId);
+
+    // 야간 배치는 전체 결과를 교체하므로 기존 행을 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM AnalyticsSimilarBrand s")
+    int deleteAllRows();
+}
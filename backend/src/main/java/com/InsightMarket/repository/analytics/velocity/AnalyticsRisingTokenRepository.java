@@ -0,0 +1,18 @@
+package com.InsightMarket.repository.analytics.velocity;
+
+import com.InsightMarket.domain.analytics.velocity.AnalyticsRisingToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface AnalyticsRisingTokenRepository extends JpaRepository<AnalyticsRisingToken, Long> {
+
+    List<AnalyticsRisingToken> findByBrandIdOrderByRisingRankAsc(Long brandId);
+
+    @Modifying
+    @Query("DELETE FROM AnalyticsRisingToken r WHERE r.brandId = :brandId")
+    int deleteByBrandId(@Param("brandId") Long brandId);
+}
@@ -0,0 +1,15 @@
+package com.InsightMarket.repository.analytics.velocity;
+
+import com.InsightMarket.domain.analytics.velocity.AnalyticsTokenVelocity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AnalyticsTokenVelocityRepository extends JpaRepository<AnalyticsTokenVelocity, Long> {
+
+    List<AnalyticsTokenVelocity> findByBrandIdAndTokenIn(Long brandId, Collection<String> tokens);
+
+    // 급상승 후보: 단기 출현율이 최소 기준 이상인 토큰만 조회
+    List<AnalyticsTokenVelocity> findByBrandIdAndFastRateGreaterThanEqual(Long brandId, Double minFastRate);
+}
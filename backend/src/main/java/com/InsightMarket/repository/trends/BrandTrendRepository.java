@@ -1,8 +1,15 @@
 package com.InsightMarket.repository.trends;
 
 import com.InsightMarket.domain.trends.BrandTrend;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface BrandTrendRepository extends JpaRepository<BrandTrend, Long> {
@@ -14,6 +21,81 @@ public interface BrandTrendRepository extends JpaRepository<BrandTrend, Long> {
      */
     Optional<BrandTrend> findTopByBrandIdOrderByCollectedAtDesc(Long brandId);
 
+    /**
+     * 브랜드별 가장 최근 트렌드의 id 와 콘텐츠 해시만 조회 (JSON 본문은 읽지 않음)
+     * @return [brandTrendId, contentHash] (PageRequest.of(0, 1) 로 1건만 조회)
+     */
+    @Query("SELECT bt.id, bt.contentHash FROM BrandTrend bt " +
+            "WHERE bt.brand.id = :brandId " +
+            "ORDER BY bt.collectedAt DESC, bt.id DESC")
+    List<Object[]> findLatestContentHash(@Param("brandId") Long brandId, Pageable pageable);
+
+    /**
+     * 내용이 같은 재수집일 때 마지막 확인 시각만 갱신 (원래 수집 시각은 유지, 더 늦은 시각으로만 이동)
+     */
+    @Modifying
+    @Query("UPDATE BrandTrend bt SET bt.lastSeenAt = :seenAt " +
+            "WHERE bt.id = :brandTrendId AND (bt.lastSeenAt IS NULL OR bt.lastSeenAt < :seenAt)")
+    int updateLastSeenAt(@Param("brandTrendId") Long brandTrendId, @Param("seenAt") LocalDateTime seenAt);
+
+    /**
+     * 브랜드의 기간 내 스냅샷 (수집 시각 오름차순, (brand_id, collected_at) 인덱스 사용)
+     * @return [collectedAt, lastSeenAt, dataJson]
+     */
+    @Query("SELECT bt.collectedAt, bt.lastSeenAt, bt.dataJson FROM BrandTrend bt " +
+            "WHERE bt.brand.id = :brandId " +
+            "AND bt.collectedAt >= :from AND bt.collectedAt < :to " +
+            "ORDER BY bt.collectedAt ASC, bt.id ASC")
+    List<Object[]> findHistory(@Param("brandId") Long brandId,
+                               @Param("from") LocalDateTime from,
+                               @Param("to") LocalDateTime to);
+
+    /**
+     * 기간 시작 직전의 스냅샷 (기간 안까지 유지된 경우 앞부분을 채우기 위함, PageRequest.of(0, 1) 로 1건만 조회)
+     * @return [collectedAt, lastSeenAt, dataJson]
+     */
+    @Query("SELECT bt.collectedAt, bt.lastSeenAt, bt.dataJson FROM BrandTrend bt " +
+            "WHERE bt.brand.id = :brandId AND bt.collectedAt < :from " +
+            "ORDER BY bt.collectedAt DESC, bt.id DESC")
+    List<Object[]> findLatestBefore(@Param("brandId") Long brandId,
+                                    @Param("from") LocalDateTime from,
+                                    Pageable pageable);
+
+    /**
+     * [dailyBefore, hourlyBefore) 구간에서 같은 브랜드/같은 시(hour)에 더 최신 스냅샷이 있는 행 id (시간당 마지막 1건만 남김)
+     */
+    @Query(value = "SELECT bt.brand_trend_id FROM brand_trend bt " +
+            "WHERE bt.collected_at >= :dailyBefore AND bt.collected_at < :hourlyBefore " +
+            "AND EXISTS (SELECT 1 FROM brand_trend n " +
+            "            WHERE n.brand_id = bt.brand_id " +
+            "            AND n.collected_at >= bt.collected_at " +
+            "            AND n.collected_at < TIMESTAMP(DATE_FORMAT(bt.collected_at, '%Y-%m-%d %H:00:00')) + INTERVAL 1 HOUR " +
+            "            AND (n.collected_at > bt.collected_at OR n.brand_trend_id > bt.brand_trend_id)) " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Long> findHourlyCompactableIds(@Param("hourlyBefore") LocalDateTime hourlyBefore,
+                                        @Param("dailyBefore") LocalDateTime dailyBefore,
+                                        @Param("limit") int limit);
+
+    /**
+     * dailyBefore 이전 구간에서 같은 브랜드/같은 날에 더 최신 스냅샷이 있는 행 id (하루 마지막 1건만 남김)
+     */
+    @Query(value = "SELECT bt.brand_trend_id FROM brand_trend bt " +
+            "WHERE bt.collected_at < :dailyBefore " +
+            "AND EXISTS (SELECT 1 FROM brand_trend n " +
+            "            WHERE n.brand_id = bt.brand_id " +
+            "            AND n.collected_at >= bt.collected_at " +
+            "            AND n.collected_at < DATE(bt.collected_at) + INTERVAL 1 DAY " +
+            "            AND (n.collected_at > bt.collected_at OR n.brand_trend_id > bt.brand_trend_id)) " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Long> findDailyCompactableIds(@Param("dailyBefore") LocalDateTime dailyBefore,
+                                       @Param("limit") int limit);
+
+    // 압축 대상 일괄 삭제 (배치마다 별도 트랜잭션으로 짧게 커밋)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BrandTrend bt WHERE bt.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
     /**
      * 브랜드의 모든 트렌드 데이터 삭제
      * @param brandId 브랜드 ID
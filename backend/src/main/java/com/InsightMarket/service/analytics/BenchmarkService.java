@@ -0,0 +1,29 @@
+package com.InsightMarket.service.analytics;
+
+import com.InsightMarket.dto.dashboard.BrandBenchmarkResponseDTO;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 브랜드 간 백분위 벤치마크 서비스
+ * - 수집 커밋 후 변경된 주차를 모아 주차별 분위수 스케치와 브랜드별 백분위를 미리 계산 (BenchmarkRebuildScheduler)
+ * - 조회 시에는 저장된 값만 읽음
+ */
+public interface BenchmarkService {
+
+    /**
+     * 주어진 주차(월요일 기준)들의 스케치와 브랜드 백분위를 다시 계산합니다.
+     *
+     * @param weekStarts 다시 계산할 주차의 월요일 날짜 목록
+     */
+    void rebuildWeeks(Collection<LocalDate> weekStarts);
+
+    /**
+     * 브랜드의 주간 벤치마크를 조회합니다. 해당 주차 데이터가 없으면 가장 최근 주차를 반환합니다.
+     *
+     * @param brandId 브랜드 ID
+     * @param weekStart 기준 주차 (null이면 이번 주)
+     */
+    BrandBenchmarkResponseDTO getBrandBenchmark(Long brandId, LocalDate weekStart);
+}
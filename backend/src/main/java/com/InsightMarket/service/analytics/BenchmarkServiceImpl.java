@@ -0,0 +1,133 @@
+package com.InsightMarket.service.analytics;
+
+import com.InsightMarket.common.sketch.KllSketch;
+import com.InsightMarket.domain.analytics.benchmark.AnalyticsBenchmarkSketch;
+import com.InsightMarket.domain.analytics.benchmark.AnalyticsBrandWeeklyBenchmark;
+import com.InsightMarket.domain.analytics.benchmark.BenchmarkMetric;
+import com.InsightMarket.dto.dashboard.BrandBenchmarkResponseDTO;
+import com.InsightMarket.repository.analytics.benchmark.AnalyticsBenchmarkSketchRepository;
+import com.InsightMarket.repository.analytics.benchmark.AnalyticsBrandWeeklyBenchmarkRepository;
+import com.InsightMarket.repository.analytics.keyword.AnalyticsKeywordDailyStatsRepository;
+import com.InsightMarket.repository.analytics.keyword.AnalyticsSentimentDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BenchmarkServiceImpl implements BenchmarkService {
+
+    // 브랜드 카테고리가 도입되기 전까지는 플랫폼 전체를 하나의 비교 집단으로 사용
+    private static final String COHORT_ALL = "ALL";
+
+    private final AnalyticsKeywordDailyStatsRepository dailyStatsRepository;
+    private final AnalyticsSentimentDailyRollupRepository sentimentRollupRepository;
+    private final AnalyticsBenchmarkSketchRepository sketchRepository;
+    private final AnalyticsBrandWeeklyBenchmarkRepository brandWeeklyBenchmarkRepository;
+
+    @Override
+    @Transactional
+    public void rebuildWeeks(Collection<LocalDate> weekStarts) {
+        for (LocalDate weekStart : new TreeSet<>(weekStarts)) {
+            LocalDate monday = weekStart.with(DayOfWeek.MONDAY);
+            LocalDate sunday = monday.plusDays(6);
+
+            rebuildMetric(monday, BenchmarkMetric.WEEKLY_MENTIONS,
+                    toValueMap(dailyStatsRepository.sumMentionCountGroupByBrand(monday, sunday)));
+            rebuildMetric(monday, BenchmarkMetric.POSITIVE_RATIO,
+                    toValueMap(sentimentRollupRepository.positiveRatioGroupByBrand(monday, sunday)));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BrandBenchmarkResponseDTO getBrandBenchmark(Long brandId, LocalDate weekStart) {
+        LocalDate monday = (weekStart != null ? weekStart : LocalDate.now()).with(DayOfWeek.MONDAY);
+
+        List<AnalyticsBrandWeeklyBenchmark> rows = brandWeeklyBenchmarkRepository.findByBrandIdAndWeekStart(brandId, monday);
+        if (rows.isEmpty()) {
+            // 이번 주 집계가 아직 없으면 가장 최근 주차로 대체
+            Optional<AnalyticsBrandWeeklyBenchmark> latest = brandWeeklyBenchmarkRepository
+                    .findTopByBrandIdAndMetricOrderByWeekStartDesc(brandId, BenchmarkMetric.WEEKLY_MENTIONS);
+            if (latest.isEmpty()) {
+                return BrandBenchmarkResponseDTO.builder()
+                        .brandId(brandId)
+                        .weekStart(monday.toString())
+                        .cohortSize(0L)
+                        .build();
+            }
+            monday = latest.get().getWeekStart();
+            rows = brandWeeklyBenchmarkRepository.findByBrandIdAndWeekStart(brandId, monday);
+        }
+
+        Map<BenchmarkMetric, AnalyticsBrandWeeklyBenchmark> byMetric = rows.stream()
+                .collect(Collectors.toMap(AnalyticsBrandWeeklyBenchmark::getMetric, Function.identity()));
+        AnalyticsBrandWeeklyBenchmark mention = byMetric.get(BenchmarkMetric.WEEKLY_MENTIONS);
+        AnalyticsBrandWeeklyBenchmark positive = byMetric.get(BenchmarkMetric.POSITIVE_RATIO);
+
+        Optional<AnalyticsBenchmarkSketch> mentionSketch = sketchRepository
+                .findByMetricAndWeekStartAndCohort(BenchmarkMetric.WEEKLY_MENTIONS, monday, COHORT_ALL);
+        Optional<AnalyticsBenchmarkSketch> positiveSketch = sketchRepository
+                .findByMetricAndWeekStartAndCohort(BenchmarkMetric.POSITIVE_RATIO, monday, COHORT_ALL);
+
+        return BrandBenchmarkResponseDTO.builder()
+                .brandId(brandId)
+                .weekStart(monday.toString())
+                .cohortSize(mentionSketch.map(AnalyticsBenchmarkSketch::getSampleCount).orElse(0L))
+                .mentionCount(mention != null ? mention.getMetricValue() : null)
+                .mentionPercentile(mention != null ? mention.getPercentile() : null)
+                .cohortMedianMentionCount(mentionSketch.map(this::median).orElse(null))
+                .positiveRatio(positive != null ? round2(positive.getMetricValue()) : null)
+                .positivePercentile(positive != null ? positive.getPercentile() : null)
+                .cohortMedianPositiveRatio(positiveSketch.map(this::median).map(this::round2).orElse(null))
+                .build();
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    // 주차 전체 값을 다시 읽어 스케치를 새로 만듦
+    // (브랜드의 주간 값은 수집마다 바뀌고 KLL 스케치는 이전 값을 뺄 수 없으므로 병합 대신 재계산, 호출은 주차별로 모아서 수행)
+    private void rebuildMetric(LocalDate monday, BenchmarkMetric metric, Map<Long, Double> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        KllSketch sketch = new KllSketch();
+        values.values().forEach(sketch::update);
+        sketchRepository.upsertSketch(metric.name(), monday, COHORT_ALL, sketch.getN(), sketch.toBytes());
+
+        // 브랜드별 백분위를 미리 계산해 두어 조회 시 단건 조회로 끝나도록 함
+        values.forEach((brandId, value) -> brandWeeklyBenchmarkRepository.upsertValue(
+                brandId, monday, metric.name(), value, round2(sketch.rank(value) * 100.0)));
+
+        log.info("[BenchmarkService] {} 주차 {} 스케치 갱신 완료: 브랜드 {}개", monday, metric, values.size());
+    }
+
+    private Map<Long, Double> toValueMap(List<Object[]> rows) {
+        Map<Long, Double> values = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[0] == null || row[1] == null) {
+                continue;
+            }
+            values.put(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue());
+        }
+        return values;
+    }
+
+    private Double median(AnalyticsBenchmarkSketch sketchEntity) {
+        KllSketch sketch = KllSketch.fromBytes(sketchEntity.getSketchData());
+        return sketch.isEmpty() ? null : sketch.quantile(0.5);
+    }
+
+    private double round2(double v) {
+        return Math.round(v * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,19 @@
+package com.InsightMarket.service.analytics;
+
+import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordDailyStats;
+import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordSentimentDailyStats;
+
+import java.util.List;
+
+/**
+ * 브랜드 단위 일별 감성 건수 롤업 서비스
+ * - 감성 비율을 같은 날짜·소스의 언급량과 곱해 긍/부정/중립 건수로 저장
+ * - 대시보드 감성 분석/차트와 벤치마크 긍정 비율이 이 롤업을 읽음
+ */
+public interface SentimentRollupService {
+
+    /**
+     * 이번 수집에서 저장된 언급량/감성 통계가 걸친 브랜드·기간의 롤업을 다시 계산합니다.
+     */
+    void refresh(List<AnalyticsKeywordDailyStats> dailyStats, List<AnalyticsKeywordSentimentDailyStats> sentimentStats);
+}
@@ -0,0 +1,64 @@
+package com.InsightMarket.service.analytics;
+
+import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordDailyStats;
+import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordSentimentDailyStats;
+import com.InsightMarket.repository.analytics.keyword.AnalyticsSentimentDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SentimentRollupServiceImpl implements SentimentRollupService {
+
+    // 롤업 테이블이 비어 있을 때 전체 이력을 채우기 위한 시작일
+    private static final LocalDate BACKFILL_START_DATE = LocalDate.of(2000, 1, 1);
+
+    private final AnalyticsSentimentDailyRollupRepository rollupRepository;
+
+    @Override
+    @Transactional
+    public void refresh(List<AnalyticsKeywordDailyStats> dailyStats, List<AnalyticsKeywordSentimentDailyStats> sentimentStats) {
+        // 브랜드별로 이번 수집이 걸친 기간 [min, max] 만 다시 계산
+        Map<Long, LocalDate[]> ranges = new HashMap<>();
+        dailyStats.forEach(s -> widen(ranges, s.getBrandId(), s.getStatDate()));
+        sentimentStats.forEach(s -> widen(ranges, s.getBrandId(), s.getStatDate()));
+
+        ranges.forEach((brandId, range) -> {
+            int rows = rollupRepository.upsertRollup(brandId, range[0], range[1]);
+            log.info("[SentimentRollupService] 브랜드 {} 감성 롤업 갱신: {} ~ {}, {}행", brandId, range[0], range[1], rows);
+        });
+    }
+
+    // 기존 데이터 이관: 롤업이 비어 있으면 서버 시작 시 한 번 전체를 채움
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (rollupRepository.count() > 0) {
+            return;
+        }
+        int rows = rollupRepository.upsertRollup(null, BACKFILL_START_DATE, LocalDate.now());
+        log.info("[SentimentRollupService] 감성 롤업 초기 적재 완료: {}행", rows);
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private void widen(Map<Long, LocalDate[]> ranges, Long brandId, LocalDate date) {
+        LocalDate[] range = ranges.computeIfAbsent(brandId, id -> new LocalDate[]{date, date});
+        if (date.isBefore(range[0])) {
+            range[0] = date;
+        }
+        if (date.isAfter(range[1])) {
+            range[1] = date;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.InsightMarket.service.analytics;
+
+import com.InsightMarket.dto.analytics.SimilarBrandDTO;
+
+import java.util.List;
+
+/**
+ * 대화(토큰) 분포가 비슷한 브랜드 탐색 서비스
+ * - 야간 배치에서 브랜드별 TF-IDF 희소 벡터를 만들고 역색인으로 코사인 상위 N개를 계산
+ * - 조회 시에는 저장된 결과만 읽음
+ */
+public interface SimilarBrandService {
+
+    /**
+     * 모든 브랜드의 유사 브랜드 목록을 다시 계산해 교체합니다.
+     */
+    void rebuildAll();
+
+    /**
+     * 브랜드와 대화 분포가 비슷한 브랜드 목록을 조회합니다.
+     *
+     * @param brandId 기준 브랜드 ID
+     * @param limit 최대 개수
+     */
+    List<SimilarBrandDTO> getSimilarBrands(Long brandId, int limit);
+}
@@ -0,0 +1,294 @@
+package com.InsightMarket.service.analytics;
+
+import com.InsightMarket.common.collection.IntFloatHashMap;
+import com.InsightMarket.domain.analytics.similarity.AnalyticsSimilarBrand;
+import com.InsightMarket.domain.brand.Brand;
+import com.InsightMarket.dto.analytics.SimilarBrandDTO;
+import com.InsightMarket.repository.analytics.keyword.AnalyticsKeywordTokenSentimentStatsRepository;
+import com.InsightMarket.repository.analytics.similarity.AnalyticsSimilarBrandRepository;
+import com.InsightMarket.repository.brand.BrandRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SimilarBrandServiceImpl implements SimilarBrandService {
+
+    // 브랜드당 유지할 최대 토큰 수 (가중치 상위만 남겨 역색인 크기를 제한)
+    private static final int MAX_TERMS_PER_BRAND = 300;
+    // 절반 이상의 브랜드에 등장하는 토큰은 변별력이 없고 포스팅 리스트만 길게 만듦
+    private static final double MAX_DOC_FREQ_RATIO = 0.5;
+    private static final int MIN_BRANDS_FOR_DF_CUT = 10;
+    private static final int SHARED_TOKEN_COUNT = 5;
+
+    private final AnalyticsKeywordTokenSentimentStatsRepository tokenStatsRepository;
+    private final AnalyticsSimilarBrandRepository similarBrandRepository;
+    private final BrandRepository brandRepository;
+
+    @Value("${analytics.similar-brand.lookback-days:90}")
+    private int lookbackDays;
+
+    @Value("${analytics.similar-brand.top-n:10}")
+    private int topN;
+
+    @Override
+    @Transactional
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+
+        // 1) 브랜드별 토큰 빈도 적재 (토큰 문자열은 int ID로 사전화)
+        Map<String, Integer> tokenIds = new HashMap<>();
+        List<String> tokens = new ArrayList<>();
+        Map<Long, Integer> brandIndex = new HashMap<>();
+        List<Long> brandIds = new ArrayList<>();
+        List<IntFloatHashMap> termFreqs = new ArrayList<>();
+
+        try (Stream<Object[]> rows = tokenStatsRepository.streamBrandTokenCounts(LocalDate.now().minusDays(lookbackDays))) {
+            rows.forEach(row -> {
+                if (row[0] == null || row[1] == null || row[2] == null) {
+                    return;
+                }
+                Long brandId = ((Number) row[0]).longValue();
+                String token = (String) row[1];
+                float count = ((Number) row[2]).floatValue();
+
+                int b = brandIndex.computeIfAbsent(brandId, id -> {
+                    brandIds.add(id);
+                    termFreqs.add(new IntFloatHashMap());
+                    return brandIds.size() - 1;
+                });
+                int t = tokenIds.computeIfAbsent(token, tk -> {
+                    tokens.add(tk);
+                    return tokens.size() - 1;
+                });
+                termFreqs.get(b).add(t, count);
+            });
+        }
+
+        int brandCount = brandIds.size();
+        if (brandCount < 2) {
+            log.info("[SimilarBrandService] 비교할 브랜드가 부족하여 건너뜀: 브랜드 {}개", brandCount);
+            return;
+        }
+
+        // 2) TF-IDF 희소 벡터 (L2 정규화)
+        int[] docFreq = new int[tokens.size()];
+        for (IntFloatHashMap tf : termFreqs) {
+            tf.forEach((t, count) -> docFreq[t]++);
+        }
+        int maxDocFreq = brandCount >= MIN_BRANDS_FOR_DF_CUT
+                ? (int) (brandCount * MAX_DOC_FREQ_RATIO)
+                : brandCount;
+
+        SparseVector[] vectors = new SparseVector[brandCount];
+        for (int b = 0; b < brandCount; b++) {
+            vectors[b] = toTfIdfVector(termFreqs.get(b), docFreq, brandCount, maxDocFreq);
+        }
+        termFreqs.clear();
+
+        // 3) 역색인 (CSR: 토큰별 [브랜드, 가중치] 목록)
+        int[] postingStart = new int[tokens.size() + 1];
+        for (SparseVector v : vectors) {
+            for (int t : v.terms) {
+                postingStart[t + 1]++;
+            }
+        }
+        for (int t = 0; t < tokens.size(); t++) {
+            postingStart[t + 1] += postingStart[t];
+        }
+        int[] postingBrand = new int[postingStart[tokens.size()]];
+        float[] postingWeight = new float[postingBrand.length];
+        int[] cursor = Arrays.copyOf(postingStart, tokens.size());
+        for (int b = 0; b < brandCount; b++) {
+            SparseVector v = vectors[b];
+            for (int i = 0; i < v.terms.length; i++) {
+                int pos = cursor[v.terms[i]]++;
+                postingBrand[pos] = b;
+                postingWeight[pos] = v.weights[i];
+            }
+        }
+
+        // 4) 브랜드마다 공통 토큰이 있는 브랜드만 내적을 누적해 상위 N개 선택
+        float[] scores = new float[brandCount];
+        int[] touched = new int[brandCount];
+        LocalDateTime computedAt = LocalDateTime.now();
+        List<AnalyticsSimilarBrand> results = new ArrayList<>();
+
+        for (int a = 0; a < brandCount; a++) {
+            SparseVector va = vectors[a];
+            int touchedCount = 0;
+            for (int i = 0; i < va.terms.length; i++) {
+                int t = va.terms[i];
+                float wa = va.weights[i];
+                for (int p = postingStart[t]; p < postingStart[t + 1]; p++) {
+                    int b = postingBrand[p];
+                    if (b == a) {
+                        continue;
+                    }
+                    if (scores[b] == 0f) {
+                        touched[touchedCount++] = b;
+                    }
+                    scores[b] += wa * postingWeight[p];
+                }
+            }
+
+            int[] top = selectTop(scores, touched, touchedCount, topN);
+            for (int rank = 0; rank < top.length; rank++) {
+                int b = top[rank];
+                results.add(AnalyticsSimilarBrand.builder()
+                        .brandId(brandIds.get(a))
+                        .similarBrandId(brandIds.get(b))
+                        .similarity(Math.min(1.0, Math.round(scores[b] * 10000.0) / 10000.0))
+                        .similarityRank(rank + 1)
+                        .sharedTokens(sharedTokens(va, vectors[b], tokens))
+                        .computedAt(computedAt)
+                        .build());
+            }
+
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0f;
+            }
+        }
+
+        // 5) 전체 교체
+        similarBrandRepository.deleteAllRows();
+        similarBrandRepository.saveAll(results);
+
+        log.info("[SimilarBrandService] 유사 브랜드 재계산 완료: 브랜드 {}개, 토큰 {}개, 결과 {}건, {}ms",
+                brandCount, tokens.size(), results.size(), System.currentTimeMillis() - start);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SimilarBrandDTO> getSimilarBrands(Long brandId, int limit) {
+        List<AnalyticsSimilarBrand> rows = similarBrandRepository.findByBrandIdOrderBySimilarityRankAsc(brandId).stream()
+                .limit(Math.max(limit, 0))
+                .toList();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> brandNames = brandRepository.findAllById(
+                        rows.stream().map(AnalyticsSimilarBrand::getSimilarBrandId).toList()).stream()
+                .collect(Collectors.toMap(Brand::getId, Brand::getName));
+
+        return rows.stream()
+                .map(row -> SimilarBrandDTO.builder()
+                        .brandId(row.getSimilarBrandId())
+                        .brandName(brandNames.get(row.getSimilarBrandId()))
+                        .similarity(row.getSimilarity())
+                        .rank(row.getSimilarityRank())
+                        .sharedTokens(row.getSharedTokens() == null || row.getSharedTokens().isEmpty()
+                                ? List.of()
+                                : List.of(row.getSharedTokens().split(",")))
+                        .computedAt(row.getComputedAt())
+                        .build())
+                .toList();
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    // 토큰 ID 오름차순으로 정렬된 희소 벡터
+    private record SparseVector(int[] terms, float[] weights) {
+    }
+
+    private SparseVector toTfIdfVector(IntFloatHashMap tf, int[] docFreq, int brandCount, int maxDocFreq) {
+        // 가중치(양수)의 float 비트와 토큰 ID를 long 하나에 담아 박싱 없이 정렬
+        long[] packed = new long[tf.size()];
+        int[] n = {0};
+        tf.forEach((t, count) -> {
+            if (docFreq[t] > maxDocFreq) {
+                return;
+            }
+            float weight = (float) ((1.0 + Math.log(count)) * Math.log((double) brandCount / docFreq[t]));
+            if (weight > 0f) {
+                packed[n[0]++] = ((long) Float.floatToIntBits(weight) << 32) | t;
+            }
+        });
+
+        int keep = Math.min(n[0], MAX_TERMS_PER_BRAND);
+        Arrays.sort(packed, 0, n[0]);
+
+        long[] kept = Arrays.copyOfRange(packed, n[0] - keep, n[0]);
+        // 상·하위 32비트를 맞바꿔 토큰 ID 순으로 다시 정렬 (공통 토큰 계산 시 병합 탐색용)
+        for (int i = 0; i < keep; i++) {
+            kept[i] = (kept[i] & 0xFFFFFFFFL) << 32 | (kept[i] >>> 32);
+        }
+        Arrays.sort(kept);
+
+        int[] terms = new int[keep];
+        float[] weights = new float[keep];
+        double norm = 0.0;
+        for (int i = 0; i < keep; i++) {
+            terms[i] = (int) (kept[i] >>> 32);
+            weights[i] = Float.intBitsToFloat((int) kept[i]);
+            norm += (double) weights[i] * weights[i];
+        }
+        float inv = norm > 0 ? (float) (1.0 / Math.sqrt(norm)) : 0f;
+        for (int i = 0; i < keep; i++) {
+            weights[i] *= inv;
+        }
+        return new SparseVector(terms, weights);
+    }
+
+    // 점수 상위 limit개의 브랜드 인덱스를 내림차순으로 반환 (limit이 작으므로 삽입 정렬)
+    private int[] selectTop(float[] scores, int[] touched, int touchedCount, int limit) {
+        int[] top = new int[Math.min(limit, touchedCount)];
+        int size = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int b = touched[i];
+            float score = scores[b];
+            if (size == top.length && score <= scores[top[size - 1]]) {
+                continue;
+            }
+            int pos = size < top.length ? size++ : size - 1;
+            while (pos > 0 && scores[top[pos - 1]] < score) {
+                top[pos] = top[pos - 1];
+                pos--;
+            }
+            top[pos] = b;
+        }
+        return top;
+    }
+
+    private String sharedTokens(SparseVector a, SparseVector b, List<String> tokens) {
+        List<long[]> shared = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < a.terms.length && j < b.terms.length) {
+            if (a.terms[i] == b.terms[j]) {
+                float contribution = a.weights[i] * b.weights[j];
+                shared.add(new long[]{Float.floatToIntBits(contribution), a.terms[i]});
+                i++;
+                j++;
+            } else if (a.terms[i] < b.terms[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        shared.sort((x, y) -> Long.compare(y[0], x[0]));
+
+        StringJoiner joiner = new StringJoiner(",");
+        int length = 0;
+        for (int k = 0; k < Math.min(SHARED_TOKEN_COUNT, shared.size()); k++) {
+            String token = tokens.get((int) shared.get(k)[1]).replace(",", " ");
+            if (length + token.length() + 1 > 500) {
+                break;
+            }
+            joiner.add(token);
+            length += token.length() + 1;
+        }
+        return joiner.toString();
+    }
+}
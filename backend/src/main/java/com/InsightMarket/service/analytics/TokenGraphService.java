@@ -0,0 +1,29 @@
+package com.InsightMarket.service.analytics;
+
+import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordTokenSentimentStats;
+import com.InsightMarket.dto.analytics.TokenGraphDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 브랜드/주차별 토큰 동시 출현 그래프 서비스
+ * - 수집 시 저장된 토큰 통계를 (날짜, 소스) 버킷 단위로 기존 그래프에 증분 반영
+ */
+public interface TokenGraphService {
+
+    /**
+     * 이번 수집에서 저장된 토큰 통계를 브랜드/주차 그래프에 반영합니다.
+     */
+    void accumulate(List<AnalyticsKeywordTokenSentimentStats> tokenStats);
+
+    /**
+     * 브랜드의 주차 그래프를 조회합니다. 노드별로 상위 k개 간선만 반환합니다.
+     *
+     * @param brandId 브랜드 ID
+     * @param weekStart 기준 주차 (null이면 가장 최근 주차)
+     * @param k 노드별 최대 간선 수
+     * @param maxNodes 최대 노드 수 (출현 수 상위)
+     */
+    TokenGraphDTO getTokenGraph(Long brandId, LocalDate weekStart, int k, int maxNodes);
+}
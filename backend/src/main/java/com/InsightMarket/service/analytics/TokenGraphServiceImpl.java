@@ -0,0 +1,165 @@
+package com.InsightMarket.service.analytics;
+
+import com.InsightMarket.common.graph.TokenCooccurrenceGraph;
+import com.InsightMarket.domain.analytics.graph.AnalyticsTokenGraph;
+import com.InsightMarket.domain.analytics.keyword.AnalysisTargetType;
+import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordTokenSentimentStats;
+import com.InsightMarket.dto.analytics.TokenGraphDTO;
+import com.InsightMarket.dto.analytics.TokenGraphEdgeDTO;
+import com.InsightMarket.dto.analytics.TokenGraphNodeDTO;
+import com.InsightMarket.repository.analytics.graph.AnalyticsTokenGraphRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenGraphServiceImpl implements TokenGraphService {
+
+    // 버킷당 사용할 상위 토큰 수 (간선 수는 n(n-1)/2 이므로 수집 시간 증가를 제한)
+    private static final int MAX_TOKENS_PER_BUCKET = 30;
+    // 저장 시 노드별로 유지할 이웃 수
+    private static final int MAX_NEIGHBORS_PER_NODE = 20;
+
+    private final AnalyticsTokenGraphRepository tokenGraphRepository;
+
+    @Override
+    @Transactional
+    public void accumulate(List<AnalyticsKeywordTokenSentimentStats> tokenStats) {
+        // 브랜드 단위 통계만 사용 → (브랜드, 주차) → (날짜|소스) → 토큰 → 빈도 (감성은 합산)
+        Map<Long, Map<LocalDate, Map<String, Map<String, Integer>>>> buckets = new HashMap<>();
+        for (AnalyticsKeywordTokenSentimentStats stat : tokenStats) {
+            if (stat.getAnalysisTargetType() != AnalysisTargetType.BRAND
+                    || stat.getProjectId() != null || stat.getKeywordId() != null || stat.getCompetitorId() != null) {
+                continue;
+            }
+            buckets.computeIfAbsent(stat.getBrandId(), id -> new HashMap<>())
+                    .computeIfAbsent(stat.getStatDate().with(DayOfWeek.MONDAY), d -> new HashMap<>())
+                    .computeIfAbsent(stat.getStatDate() + "|" + stat.getSource(), b -> new HashMap<>())
+                    .merge(stat.getToken(), stat.getTokenCount(), Integer::sum);
+        }
+
+        buckets.forEach((brandId, weeks) -> weeks.forEach((weekStart, weekBuckets) ->
+                mergeWeek(brandId, weekStart, weekBuckets)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TokenGraphDTO getTokenGraph(Long brandId, LocalDate weekStart, int k, int maxNodes) {
+        Optional<AnalyticsTokenGraph> row = weekStart != null
+                ? tokenGraphRepository.findByBrandIdAndWeekStart(brandId, weekStart.with(DayOfWeek.MONDAY))
+                : tokenGraphRepository.findTopByBrandIdOrderByWeekStartDesc(brandId);
+        if (row.isEmpty()) {
+            return TokenGraphDTO.builder()
+                    .brandId(brandId)
+                    .weekStart(weekStart != null ? weekStart.with(DayOfWeek.MONDAY) : null)
+                    .nodes(List.of())
+                    .edges(List.of())
+                    .build();
+        }
+
+        TokenCooccurrenceGraph graph = TokenCooccurrenceGraph.fromBytes(row.get().getGraphData());
+
+        // 출현 수 상위 노드만 선택
+        List<Integer> selected = new ArrayList<>();
+        for (int node = 0; node < graph.nodeCount(); node++) {
+            selected.add(node);
+        }
+        selected.sort((a, b) -> Long.compare(graph.nodeWeight(b), graph.nodeWeight(a)));
+        if (selected.size() > maxNodes) {
+            selected = selected.subList(0, Math.max(maxNodes, 0));
+        }
+        Set<Integer> selectedSet = new HashSet<>(selected);
+
+        List<TokenGraphNodeDTO> nodes = selected.stream()
+                .map(node -> TokenGraphNodeDTO.builder()
+                        .token(graph.token(node))
+                        .weight(graph.nodeWeight(node))
+                        .build())
+                .collect(Collectors.toList());
+
+        // 노드별 상위 k개 간선 (선택된 노드 사이만, 양방향 중복 제거)
+        Set<Long> seen = new HashSet<>();
+        List<TokenGraphEdgeDTO> edges = new ArrayList<>();
+        for (int node : selected) {
+            int taken = 0;
+            for (int[] edge : graph.topNeighbors(node, graph.nodeCount())) {
+                if (taken >= k) {
+                    break;
+                }
+                if (!selectedSet.contains(edge[0])) {
+                    continue;
+                }
+                taken++;
+                long key = ((long) Math.min(node, edge[0]) << 32) | Math.max(node, edge[0]);
+                if (seen.add(key)) {
+                    edges.add(TokenGraphEdgeDTO.builder()
+                            .source(graph.token(node))
+                            .target(graph.token(edge[0]))
+                            .weight((double) Float.intBitsToFloat(edge[1]))
+                            .build());
+                }
+            }
+        }
+
+        return TokenGraphDTO.builder()
+                .brandId(brandId)
+                .weekStart(row.get().getWeekStart())
+                .nodes(nodes)
+                .edges(edges)
+                .build();
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private void mergeWeek(Long brandId, LocalDate weekStart, Map<String, Map<String, Integer>> weekBuckets) {
+        AnalyticsTokenGraph row = tokenGraphRepository.findByBrandIdAndWeekStart(brandId, weekStart).orElse(null);
+        Set<String> merged = new LinkedHashSet<>();
+        if (row != null && row.getMergedBuckets() != null && !row.getMergedBuckets().isEmpty()) {
+            merged.addAll(Arrays.asList(row.getMergedBuckets().split(",")));
+        }
+
+        // 이미 반영한 버킷은 다시 누적하지 않음 (같은 날짜를 재수집해도 간선 가중치가 부풀지 않도록)
+        Map<String, Map<String, Integer>> fresh = new HashMap<>();
+        weekBuckets.forEach((bucket, counts) -> {
+            if (!merged.contains(bucket)) {
+                fresh.put(bucket, counts);
+            }
+        });
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        TokenCooccurrenceGraph graph = row != null
+                ? TokenCooccurrenceGraph.fromBytes(row.getGraphData())
+                : new TokenCooccurrenceGraph();
+        fresh.forEach((bucket, counts) -> {
+            graph.addBucket(counts, MAX_TOKENS_PER_BUCKET);
+            merged.add(bucket);
+        });
+        graph.prune(MAX_NEIGHBORS_PER_NODE);
+
+        String mergedBuckets = String.join(",", merged);
+        if (row == null) {
+            tokenGraphRepository.save(AnalyticsTokenGraph.builder()
+                    .brandId(brandId)
+                    .weekStart(weekStart)
+                    .nodeCount(graph.nodeCount())
+                    .edgeCount(graph.edgeCount())
+                    .graphData(graph.toBytes())
+                    .mergedBuckets(mergedBuckets)
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        } else {
+            row.changeGraph(graph.toBytes(), graph.nodeCount(), graph.edgeCount(), mergedBuckets);
+        }
+    }
+}
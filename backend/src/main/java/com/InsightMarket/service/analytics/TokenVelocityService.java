@@ -0,0 +1,24 @@
+package com.InsightMarket.service.analytics;
+
+import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordTokenSentimentStats;
+import com.InsightMarket.dto.dashboard.RisingTokenDTO;
+
+import java.util.List;
+
+/**
+ * SNS 토큰 급상승 감지 서비스
+ * - 수집 시 (브랜드, 토큰)별 지수 감쇠 출현율(단기/장기)을 증분 갱신
+ * - 단기 출현율이 장기 대비 급격히 오른 토큰을 브랜드별 결과 테이블에 저장
+ */
+public interface TokenVelocityService {
+
+    /**
+     * 이번 수집에서 저장된 토큰 통계를 출현율 상태에 반영하고 급상승 토큰을 갱신합니다.
+     */
+    void update(List<AnalyticsKeywordTokenSentimentStats> tokenStats);
+
+    /**
+     * 브랜드의 급상승 토큰 목록을 조회합니다.
+     */
+    List<RisingTokenDTO> getRisingTokens(Long brandId);
+}
@@ -0,0 +1,222 @@
+package com.InsightMarket.service.analytics;
+
+import com.InsightMarket.common.event.RisingTokensDetectedEvent;
+import com.InsightMarket.domain.analytics.keyword.AnalysisTargetType;
+import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordTokenSentimentStats;
+import com.InsightMarket.domain.analytics.velocity.AnalyticsRisingToken;
+import com.InsightMarket.domain.analytics.velocity.AnalyticsTokenVelocity;
+import com.InsightMarket.dto.dashboard.RisingTokenDTO;
+import com.InsightMarket.repository.analytics.velocity.AnalyticsRisingTokenRepository;
+import com.InsightMarket.repository.analytics.velocity.AnalyticsTokenVelocityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenVelocityServiceImpl implements TokenVelocityService {
+
+    // IN 절 파라미터 수 제한
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    // 출현 수가 적은 토큰의 비율이 튀지 않도록 분자/분모에 더하는 평활화 값
+    private static final double RATE_PRIOR = 1.0;
+
+    private final AnalyticsTokenVelocityRepository velocityRepository;
+    private final AnalyticsRisingTokenRepository risingTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${analytics.rising-token.fast-half-life-days:2}")
+    private double fastHalfLifeDays = 2;
+
+    @Value("${analytics.rising-token.slow-half-life-days:14}")
+    private double slowHalfLifeDays = 14;
+
+    @Value("${analytics.rising-token.min-fast-rate:2.0}")
+    private double minFastRate = 2.0;
+
+    @Value("${analytics.rising-token.min-velocity:2.0}")
+    private double minVelocity = 2.0;
+
+    @Value("${analytics.rising-token.max-tokens:20}")
+    private int maxTokens = 20;
+
+    @Override
+    @Transactional
+    public void update(List<AnalyticsKeywordTokenSentimentStats> tokenStats) {
+        // 브랜드 단위 통계만 사용 → 브랜드 → 토큰 → 날짜 → 빈도 (감성/소스는 합산)
+        Map<Long, Map<String, TreeMap<LocalDate, Integer>>> counts = new HashMap<>();
+        for (AnalyticsKeywordTokenSentimentStats stat : tokenStats) {
+            if (stat.getAnalysisTargetType() != AnalysisTargetType.BRAND
+                    || stat.getProjectId() != null || stat.getKeywordId() != null || stat.getCompetitorId() != null) {
+                continue;
+            }
+            counts.computeIfAbsent(stat.getBrandId(), id -> new HashMap<>())
+                    .computeIfAbsent(stat.getToken(), t -> new TreeMap<>())
+                    .merge(stat.getStatDate(), stat.getTokenCount(), Integer::sum);
+        }
+
+        counts.forEach(this::updateBrand);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RisingTokenDTO> getRisingTokens(Long brandId) {
+        return risingTokenRepository.findByBrandIdOrderByRisingRankAsc(brandId).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private void updateBrand(Long brandId, Map<String, TreeMap<LocalDate, Integer>> tokenCounts) {
+        double fastAlpha = decayPerDay(fastHalfLifeDays);
+        double slowAlpha = decayPerDay(slowHalfLifeDays);
+
+        Map<String, AnalyticsTokenVelocity> states = new HashMap<>();
+        List<String> tokens = new ArrayList<>(tokenCounts.keySet());
+        for (int i = 0; i < tokens.size(); i += LOOKUP_CHUNK_SIZE) {
+            velocityRepository.findByBrandIdAndTokenIn(brandId, tokens.subList(i, Math.min(i + LOOKUP_CHUNK_SIZE, tokens.size())))
+                    .forEach(state -> states.put(state.getToken(), state));
+        }
+
+        LocalDate referenceDate = null;
+        List<AnalyticsTokenVelocity> created = new ArrayList<>();
+        for (Map.Entry<String, TreeMap<LocalDate, Integer>> entry : tokenCounts.entrySet()) {
+            AnalyticsTokenVelocity state = states.get(entry.getKey());
+            double fast = state != null ? state.getFastRate() : 0.0;
+            double slow = state != null ? state.getSlowRate() : 0.0;
+            LocalDate lastDate = state != null ? state.getLastStatDate() : null;
+            int lastCount = state != null ? state.getLastDayCount() : 0;
+            LocalDate firstDate = state != null ? state.getFirstStatDate() : entry.getValue().firstKey();
+
+            for (Map.Entry<LocalDate, Integer> day : entry.getValue().entrySet()) {
+                LocalDate date = day.getKey();
+                int count = day.getValue();
+                if (lastDate != null && date.isBefore(lastDate)) {
+                    // 이미 지나간 날짜는 반영 여부를 알 수 없으므로 건너뜀
+                    continue;
+                }
+                if (lastDate != null && date.isEqual(lastDate)) {
+                    // 같은 날짜 재수집: 감쇠 없이 이전 빈도와의 차이만 반영
+                    fast += (1 - fastAlpha) * (count - lastCount);
+                    slow += (1 - slowAlpha) * (count - lastCount);
+                } else {
+                    long gap = lastDate != null ? ChronoUnit.DAYS.between(lastDate, date) : 1;
+                    fast = fast * Math.pow(fastAlpha, gap) + (1 - fastAlpha) * count;
+                    slow = slow * Math.pow(slowAlpha, gap) + (1 - slowAlpha) * count;
+                }
+                lastDate = date;
+                lastCount = count;
+            }
+            if (lastDate == null) {
+                continue;
+            }
+
+            if (state != null) {
+                state.changeRates(fast, slow, lastDate, lastCount);
+            } else {
+                created.add(AnalyticsTokenVelocity.builder()
+                        .brandId(brandId)
+                        .token(entry.getKey())
+                        .fastRate(fast)
+                        .slowRate(slow)
+                        .firstStatDate(firstDate)
+                        .lastStatDate(lastDate)
+                        .lastDayCount(lastCount)
+                        .updatedAt(LocalDateTime.now())
+                        .build());
+            }
+            if (referenceDate == null || lastDate.isAfter(referenceDate)) {
+                referenceDate = lastDate;
+            }
+        }
+        velocityRepository.saveAll(created);
+        velocityRepository.flush();
+
+        if (referenceDate != null) {
+            refreshRisingTokens(brandId, referenceDate, fastAlpha, slowAlpha);
+        }
+    }
+
+    // 후보 토큰의 출현율을 기준 날짜까지 감쇠시킨 뒤 단기/장기 비율로 급상승 여부 판단
+    // 이동 평균은 0 에서 시작하므로 관측 기간이 짧으면 장기 평균이 훨씬 작게 나옴 → 관측 일수 n 에 대해 1 / (1 - α^n) 로 보정
+    // (처음부터 같은 빈도로 나타난 토큰은 보정 후 단기/장기 평균이 같아 급상승으로 잡히지 않음)
+    // 후보 조회는 보정 전 단기 평균 기준이라 관측 첫날의 작은 빈도 토큰은 후보에서 빠질 수 있음
+    private void refreshRisingTokens(Long brandId, LocalDate referenceDate, double fastAlpha, double slowAlpha) {
+        List<AnalyticsTokenVelocity> candidates = velocityRepository.findByBrandIdAndFastRateGreaterThanEqual(brandId, minFastRate);
+
+        List<double[]> scored = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            AnalyticsTokenVelocity state = candidates.get(i);
+            long gap = Math.max(0, ChronoUnit.DAYS.between(state.getLastStatDate(), referenceDate));
+            double fast = state.getFastRate() * Math.pow(fastAlpha, gap);
+            double slow = state.getSlowRate() * Math.pow(slowAlpha, gap);
+            if (state.getFirstStatDate() != null) {
+                long observedDays = Math.max(1, ChronoUnit.DAYS.between(state.getFirstStatDate(), referenceDate) + 1);
+                fast /= 1 - Math.pow(fastAlpha, observedDays);
+                slow /= 1 - Math.pow(slowAlpha, observedDays);
+            }
+            if (fast < minFastRate) {
+                continue;
+            }
+            double velocity = (fast + RATE_PRIOR) / (slow + RATE_PRIOR);
+            if (velocity >= minVelocity) {
+                scored.add(new double[]{velocity, fast, slow, i});
+            }
+        }
+        scored.sort((a, b) -> Double.compare(b[0], a[0]));
+
+        risingTokenRepository.deleteByBrandId(brandId);
+        LocalDateTime detectedAt = LocalDateTime.now();
+        List<AnalyticsRisingToken> rows = new ArrayList<>();
+        for (int rank = 0; rank < Math.min(maxTokens, scored.size()); rank++) {
+            double[] s = scored.get(rank);
+            rows.add(AnalyticsRisingToken.builder()
+                    .brandId(brandId)
+                    .token(candidates.get((int) s[3]).getToken())
+                    .velocity(round2(s[0]))
+                    .fastRate(round2(s[1]))
+                    .slowRate(round2(s[2]))
+                    .risingRank(rank + 1)
+                    .statDate(referenceDate)
+                    .detectedAt(detectedAt)
+                    .build());
+        }
+        risingTokenRepository.saveAll(rows);
+
+        log.info("[TokenVelocityService] 브랜드 {} 급상승 토큰 갱신: 후보 {}개, 급상승 {}개 (기준일 {})",
+                brandId, candidates.size(), rows.size(), referenceDate);
+
+        eventPublisher.publishEvent(new RisingTokensDetectedEvent(this, brandId,
+                rows.stream().map(this::toDTO).toList()));
+    }
+
+    // 반감기(일) → 하루당 감쇠 계수
+    private double decayPerDay(double halfLifeDays) {
+        return Math.pow(0.5, 1.0 / halfLifeDays);
+    }
+
+    private RisingTokenDTO toDTO(AnalyticsRisingToken entity) {
+        return RisingTokenDTO.builder()
+                .token(entity.getToken())
+                .velocity(entity.getVelocity())
+                .fastRate(entity.getFastRate())
+                .slowRate(entity.getSlowRate())
+                .rank(entity.getRisingRank())
+                .statDate(entity.getStatDate())
+                .build();
+    }
+
+    private double round2(double v) {
+        return Math.round(v * 100.0) / 100.0;
+    }
+}
@@ -3,12 +3,11 @@ package com.InsightMarket.service.dashboard;
 import com.InsightMarket.dto.dashboard.*;
 import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordDailyStats;
 import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordInsightResult;
-import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordSentimentDailyStats;
 import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordTokenSentimentStats;
 import com.InsightMarket.repository.analytics.keyword.AnalyticsKeywordDailyStatsRepository;
 import com.InsightMarket.repository.analytics.keyword.AnalyticsKeywordInsightResultRepository;
-import com.InsightMarket.repository.analytics.keyword.AnalyticsKeywordSentimentDailyStatsRepository;
 import com.InsightMarket.repository.analytics.keyword.AnalyticsKeywordTokenSentimentStatsRepository;
+import com.InsightMarket.repository.analytics.keyword.AnalyticsSentimentDailyRollupRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.repository.query.Param;
@@ -33,8 +32,8 @@ class DashBoardServiceImpl implements DashBoardService {
     private final AnalyticsKeywordInsightResultRepository analyticsKeywordInsightResultRepository;
     //언급량
     private final AnalyticsKeywordDailyStatsRepository analyticsKeywordDailyStatsRepository;
-    //긍부정
-    private final AnalyticsKeywordSentimentDailyStatsRepository analyticsKeywordSentimentDailyStatsRepository;
+    //긍부정 건수 롤업 (비율 × 언급량)
+    private final AnalyticsSentimentDailyRollupRepository analyticsSentimentDailyRollupRepository;
     //워드클라우드
     private final AnalyticsKeywordTokenSentimentStatsRepository analyticsKeywordTokenSentimentStatsRepository;
 
@@ -234,13 +233,14 @@ private List<BrandMentionChartDataDTO> fetchDailyData(DashBoardRequestDTO dto) {
         LocalDate endDate = LocalDate.now();
         String dateRange = sevenDayStats.toString() + " ~ " + endDate.toString();
 
-        // 2. 데이터 조회
-        List<AnalyticsKeywordSentimentDailyStats> stats = analyticsKeywordSentimentDailyStatsRepository.findAllByBrandIdAndDateBetween(
+        // 2. 데이터 조회 (일별 건수 합계: [statDate, mention, pos, neg, neu])
+        List<Object[]> dailyCounts = analyticsSentimentDailyRollupRepository.sumCountsGroupByDate(
                 dashBoardRequestDTO.getBrandId(), sevenDayStats, endDate, dashBoardRequestDTO.getContentChannel()
         );
+        long totalMention = dailyCounts.stream().mapToLong(row -> toLong(row[1])).sum();
 
         // 데이터가 없을 경우 방어 코드
-        if (stats.isEmpty()) {
+        if (totalMention == 0) {
             return BrandSentimentResponseDTO.builder()
                     .dateRange(dateRange)
                     .mostPositiveDate("-").mostNegativeDate("-").topSource("-")
@@ -251,28 +251,29 @@ private List<BrandMentionChartDataDTO> fetchDailyData(DashBoardRequestDTO dto) {
                     .build();
         }
 
-        // 3. 피크 날짜 산출
-        LocalDate mostPositiveDate = stats.stream()
-                .max(Comparator.comparing(AnalyticsKeywordSentimentDailyStats::getPositiveRatio))
-                .map(AnalyticsKeywordSentimentDailyStats::getStatDate).orElse(null);
-
-        LocalDate mostNegativeDate = stats.stream()
-                .max(Comparator.comparing(AnalyticsKeywordSentimentDailyStats::getNegativeRatio))
-                .map(AnalyticsKeywordSentimentDailyStats::getStatDate).orElse(null);
-
-        // 4. 주요 소스 산출
-        String topSource = stats.stream()
-                .collect(Collectors.groupingBy(
-                        AnalyticsKeywordSentimentDailyStats::getSource,
-                        Collectors.summingDouble(s -> s.getPositiveRatio() + s.getNegativeRatio())
-                ))
-                .entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey).orElse("-");
-
-        // 5. 수치 계산 및 100% 보정
-        double avgPos = stats.stream().mapToDouble(AnalyticsKeywordSentimentDailyStats::getPositiveRatio).average().orElse(0.0);
-        double avgNeg = stats.stream().mapToDouble(AnalyticsKeywordSentimentDailyStats::getNegativeRatio).average().orElse(0.0);
+        // 3. 피크 날짜 산출 (그날 전체 언급 중 긍정/부정 건수 비중이 가장 높은 날)
+        LocalDate mostPositiveDate = dailyCounts.stream()
+                .filter(row -> toLong(row[1]) > 0)
+                .max(Comparator.comparingDouble(row -> (double) toLong(row[2]) / toLong(row[1])))
+                .map(row -> (LocalDate) row[0]).orElse(null);
+
+        LocalDate mostNegativeDate = dailyCounts.stream()
+                .filter(row -> toLong(row[1]) > 0)
+                .max(Comparator.comparingDouble(row -> (double) toLong(row[3]) / toLong(row[1])))
+                .map(row -> (LocalDate) row[0]).orElse(null);
+
+        // 4. 주요 소스 산출 (긍정 + 부정 건수가 가장 많은 소스)
+        String topSource = analyticsSentimentDailyRollupRepository.sumCountsGroupBySource(
+                        dashBoardRequestDTO.getBrandId(), sevenDayStats, endDate, dashBoardRequestDTO.getContentChannel())
+                .stream()
+                .max(Comparator.comparingLong(row -> toLong(row[2]) + toLong(row[3])))
+                .map(row -> (String) row[0]).orElse("-");
+
+        // 5. 수치 계산 (언급량 가중: 전체 긍정 건수 / 전체 언급량) 및 100% 보정
+        long totalPos = dailyCounts.stream().mapToLong(row -> toLong(row[2])).sum();
+        long totalNeg = dailyCounts.stream().mapToLong(row -> toLong(row[3])).sum();
+        double avgPos = totalPos * 100.0 / totalMention;
+        double avgNeg = totalNeg * 100.0 / totalMention;
 
         // 반올림 숫자 생성 (차트용 Double)
         double roundedPos = Math.round(avgPos * 10) / 10.0;
@@ -305,24 +306,24 @@ private List<BrandMentionChartDataDTO> fetchDailyData(DashBoardRequestDTO dto) {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusWeeks(6).with(DayOfWeek.MONDAY);
 
-        // DB 조회 (7주치 데이터)
-        List<AnalyticsKeywordSentimentDailyStats> sentimentData = analyticsKeywordSentimentDailyStatsRepository
-                .findAllByBrandIdAndDateBetween(dashBoardRequestDTO.getBrandId(), startDate, endDate, dashBoardRequestDTO.getContentChannel());
+        // DB 조회 (7주치 일별 건수 합계: [statDate, mention, pos, neg, neu])
+        List<Object[]> dailyCounts = analyticsSentimentDailyRollupRepository
+                .sumCountsGroupByDate(dashBoardRequestDTO.getBrandId(), startDate, endDate, dashBoardRequestDTO.getContentChannel());
 
         // 2. 주간 집계용 Map (Key: 해당 주의 월요일 날짜)
         Map<LocalDate, BrandSentimentChartDataDTO> statsMap = new HashMap<>();
 
-        for (AnalyticsKeywordSentimentDailyStats stats : sentimentData) {
+        for (Object[] row : dailyCounts) {
             // 모든 날짜를 해당 주의 '월요일'로 치환하여 그룹화
-            LocalDate weekKey = stats.getStatDate().with(DayOfWeek.MONDAY);
+            LocalDate weekKey = ((LocalDate) row[0]).with(DayOfWeek.MONDAY);
 
             BrandSentimentChartDataDTO data = statsMap.getOrDefault(weekKey,
                     new BrandSentimentChartDataDTO(weekKey.toString(), 0.0, 0.0, 0.0));
 
-            // 해당 주의 긍정/부정/중립 비중을 누적 합산
-            data.setPositive(data.getPositive() + (stats.getPositiveRatio() / 100.0));
-            data.setNegative(data.getNegative() + (stats.getNegativeRatio() / 100.0));
-            data.setNeutral(data.getNeutral() + (stats.getNeutralRatio() / 100.0));
+            // 해당 주의 긍정/부정/중립 건수를 누적 합산 (언급량이 많은 날이 그만큼 크게 반영됨)
+            data.setPositive(data.getPositive() + toLong(row[2]));
+            data.setNegative(data.getNegative() + toLong(row[3]));
+            data.setNeutral(data.getNeutral() + toLong(row[4]));
 
             statsMap.put(weekKey, data);
         }
@@ -347,6 +348,12 @@ private List<BrandMentionChartDataDTO> fetchDailyData(DashBoardRequestDTO dto) {
     }
 
 
+    // SUM 결과(Long/BigDecimal 등) → long
+    private long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+
     //C워드 클라우드-------------------------------------------------------------------------
 
     @Override
@@ -0,0 +1,16 @@
+package com.InsightMarket.service.sse;
+
+/**
+ * SSE 연결별 송신 큐가 가득 찼을 때의 처리 방식
+ */
+public enum SseBackpressurePolicy {
+
+    /** 가장 오래된 이벤트를 버리고 새 이벤트를 넣음 */
+    DROP_OLDEST,
+
+    /** 대체 가능한 상태성 이벤트(연결 수 등)는 같은 이름의 대기 이벤트를 최신 값으로 대체하고, 그래도 가득 차면 가장 오래된 이벤트를 버림 */
+    COALESCE_LATEST,
+
+    /** 느린 클라이언트로 보고 연결을 끊음 (브라우저 EventSource 가 재연결) */
+    DISCONNECT
+}
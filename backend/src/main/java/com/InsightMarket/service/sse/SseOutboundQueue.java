@@ -0,0 +1,153 @@
+package com.InsightMarket.service.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 연결 하나의 송신 큐 (용량 제한)
+ * - 브로드캐스트 스레드는 큐에 넣기만 하고 바로 반환 (클라이언트 소켓 쓰기를 기다리지 않음)
+ * - 다운스트림(MVC 응답 writer)이 요청한 만큼만 큐에서 꺼내 전달하며, 실제 쓰기는 writer 풀에서 수행
+ * - 큐가 가득 차면 SseBackpressurePolicy 에 따라 버리거나 연결을 끊음
+ * - COALESCE_LATEST 는 coalescibleEvents 에 포함된 이벤트(최신 값만 의미 있는 상태성 이벤트)만 대체
+ *   trend-delta 처럼 이전 이벤트를 전제로 하는 이벤트를 대체하면 클라이언트가 기준 버전을 잃으므로 대상에서 제외
+ */
+@Slf4j
+public class SseOutboundQueue {
+
+    private final int capacity;
+    private final SseBackpressurePolicy policy;
+    private final SseQueueMetrics metrics;
+    private final Set<String> coalescibleEvents;
+    private final ArrayDeque<ServerSentEvent<String>> queue;
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile FluxSink<ServerSentEvent<String>> sink;
+    private volatile boolean upstreamDone;
+    private volatile boolean evicted;
+
+    public SseOutboundQueue(int capacity, SseBackpressurePolicy policy, SseQueueMetrics metrics,
+                            Set<String> coalescibleEvents) {
+        this.capacity = Math.max(1, capacity);
+        this.policy = policy;
+        this.metrics = metrics;
+        this.coalescibleEvents = coalescibleEvents;
+        this.queue = new ArrayDeque<>(Math.min(this.capacity, 16));
+    }
+
+    /**
+     * 업스트림(브랜드 채널) 이벤트를 이 큐를 거쳐 전달하는 Flux 를 만듭니다.
+     */
+    public Flux<ServerSentEvent<String>> connect(Flux<ServerSentEvent<String>> upstream) {
+        return Flux.create(emitter -> {
+            this.sink = emitter;
+            metrics.register(this);
+
+            Disposable subscription = upstream.subscribe(
+                    this::offer,
+                    emitter::error,
+                    () -> {
+                        upstreamDone = true;
+                        drain();
+                    });
+
+            emitter.onRequest(n -> drain());
+            emitter.onDispose(() -> {
+                subscription.dispose();
+                metrics.unregister(this);
+                synchronized (queue) {
+                    queue.clear();
+                }
+            });
+        });
+    }
+
+    int depth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    //내부 구현 -------------------------------------------------------------
+
+    private void offer(ServerSentEvent<String> event) {
+        if (evicted) {
+            return;
+        }
+
+        boolean evict = false;
+        synchronized (queue) {
+            // 상태성 이벤트는 최신 값만 의미가 있으므로 대기 중인 같은 이름의 이벤트를 대체
+            if (policy == SseBackpressurePolicy.COALESCE_LATEST && event.event() != null
+                    && coalescibleEvents.contains(event.event()) && removeSameEvent(event)) {
+                metrics.recordCoalesced();
+            }
+            if (queue.size() < capacity) {
+                queue.offer(event);
+            } else if (policy == SseBackpressurePolicy.DISCONNECT) {
+                evict = true;
+            } else {
+                queue.poll();
+                queue.offer(event);
+                metrics.recordDropped();
+            }
+        }
+
+        if (evict) {
+            evicted = true;
+            metrics.recordEvicted();
+            log.warn("[SSE] 송신 큐 {}건 초과로 느린 연결 종료", capacity);
+            FluxSink<ServerSentEvent<String>> s = sink;
+            if (s != null) {
+                s.complete();
+            }
+            return;
+        }
+        drain();
+    }
+
+    // 같은 이벤트 이름을 가진 대기 이벤트 제거 (항상 대체하므로 큐에는 대상 이벤트 이름별로 최대 1건)
+    private boolean removeSameEvent(ServerSentEvent<String> event) {
+        Iterator<ServerSentEvent<String>> it = queue.iterator();
+        while (it.hasNext()) {
+            if (Objects.equals(it.next().event(), event.event())) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 요청 수(demand)만큼 큐에서 꺼내 전달 (동시에 여러 스레드가 들어와도 한 스레드만 배출)
+    private void drain() {
+        FluxSink<ServerSentEvent<String>> s = sink;
+        if (s == null || wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (s.requestedFromDownstream() > 0 && !s.isCancelled()) {
+                ServerSentEvent<String> next;
+                synchronized (queue) {
+                    next = queue.poll();
+                }
+                if (next == null) {
+                    break;
+                }
+                s.next(next);
+            }
+            if (upstreamDone && depth() == 0) {
+                s.complete();
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
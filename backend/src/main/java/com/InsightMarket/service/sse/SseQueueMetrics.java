@@ -0,0 +1,60 @@
+package com.InsightMarket.service.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SSE 송신 큐 지표
+ * - sse.outbound.queue.depth: 전체 연결의 대기 이벤트 수 합계
+ * - sse.outbound.queue.depth.max: 가장 많이 밀린 연결의 대기 이벤트 수
+ * - sse.outbound.dropped / sse.outbound.coalesced: 큐가 가득 차 버리거나 교체한 이벤트 수
+ * - sse.outbound.evicted: DISCONNECT 정책으로 끊은 연결 수
+ */
+@Component
+public class SseQueueMetrics {
+
+    private final Set<SseOutboundQueue> queues = ConcurrentHashMap.newKeySet();
+    private final Counter dropped;
+    private final Counter coalesced;
+    private final Counter evicted;
+
+    public SseQueueMetrics(MeterRegistry registry) {
+        Gauge.builder("sse.outbound.queue.depth", queues, qs -> qs.stream().mapToInt(SseOutboundQueue::depth).sum())
+                .description("SSE 연결별 송신 대기 이벤트 수 합계")
+                .register(registry);
+        Gauge.builder("sse.outbound.queue.depth.max", queues, qs -> qs.stream().mapToInt(SseOutboundQueue::depth).max().orElse(0))
+                .description("가장 많이 밀린 SSE 연결의 송신 대기 이벤트 수")
+                .register(registry);
+        Gauge.builder("sse.outbound.connections", queues, Set::size)
+                .description("송신 큐가 붙어 있는 SSE 연결 수")
+                .register(registry);
+        this.dropped = Counter.builder("sse.outbound.dropped").register(registry);
+        this.coalesced = Counter.builder("sse.outbound.coalesced").register(registry);
+        this.evicted = Counter.builder("sse.outbound.evicted").register(registry);
+    }
+
+    void register(SseOutboundQueue queue) {
+        queues.add(queue);
+    }
+
+    void unregister(SseOutboundQueue queue) {
+        queues.remove(queue);
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    void recordEvicted() {
+        evicted.increment();
+    }
+}
@@ -0,0 +1,132 @@
+package com.InsightMarket.service.sse;
+
+import com.InsightMarket.common.event.TrendDataUpdatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트렌드 갱신을 Redis Pub/Sub 으로 모든 백엔드 노드에 전달하는 릴레이
+ * - 갱신이 발생한 노드는 페이로드를 한 번만 직렬화해 채널에 발행하고, 로컬 구독자에게는 가진 DTO 와 같은 문자열을 바로 전달
+ * - 다른 노드는 메시지를 받아 페이로드 문자열을 그대로 로컬 SSE 구독자에게 전달 (구독자별 재직렬화 없음)
+ * - 이벤트 id 는 발행 노드가 Redis 에서 한 번 할당하므로 모든 노드에서 같은 갱신은 같은 id 를 가짐
+ *   → 어느 노드로 재연결해도 Last-Event-ID 이어받기가 가능하고, 채널은 이미 전달한 id 이하를 버려 중복 전달을 막음
+ * - 자기 노드가 발행한 메시지는 이미 로컬에 전달했으므로 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendClusterRelay implements MessageListener {
+
+    private static final String EVENT_ID_KEY = "sse:trend-event-id";
+
+    // 클러스터 전체에서 단조 증가하고 현재 시각(ms) 이상인 이벤트 id 할당
+    // (각 노드가 저장소 스냅샷에 붙이는 로컬 id 보다 항상 커지도록 시각을 하한으로 사용)
+    private static final DefaultRedisScript<Long> NEXT_EVENT_ID_SCRIPT = new DefaultRedisScript<>(
+            "local id = redis.call('INCR', KEYS[1]) " +
+            "local now = tonumber(ARGV[1]) " +
+            "if id < now then redis.call('SET', KEYS[1], now) id = now end " +
+            "return id",
+            Long.class);
+
+    private final TrendSseService trendSseService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${sse.cluster.channel:sse:trend-updates}")
+    private String channel;
+
+    // 노드 식별자 (프로세스마다 새로 생성)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // Redis 장애 시 사용하는 노드 로컬 id (현재 시각 이상으로 유지)
+    private final AtomicLong fallbackEventId = new AtomicLong();
+
+    record TrendFanoutMessage(String nodeId, Long brandId, long eventId, String payload) {
+    }
+
+    @PostConstruct
+    public void subscribeChannel() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        log.info("[SSE][Cluster] 노드 {} 트렌드 채널 {} 구독", nodeId, channel);
+    }
+
+    // 트렌드 데이터 업데이트 이벤트: 로컬 전달 후 다른 노드로 발행
+    @EventListener
+    public void handleTrendDataUpdated(TrendDataUpdatedEvent event) {
+        Long brandId = event.getBrandId();
+        String payload = toJson(event.getData());
+        long eventId = nextEventId();
+
+        log.info("[SSE][이벤트] 브랜드 {} 트렌드 데이터 업데이트 이벤트 수신 (eventId={})", brandId, eventId);
+        // 로컬 전달은 가진 DTO 를 그대로 사용 (JSON 재파싱은 Pub/Sub 으로 받은 메시지에만)
+        trendSseService.broadcast(brandId, eventId, event.getData(), payload);
+
+        try {
+            stringRedisTemplate.convertAndSend(channel,
+                    toJson(new TrendFanoutMessage(nodeId, brandId, eventId, payload)));
+        } catch (Exception e) {
+            // 발행에 실패해도 이 노드의 구독자는 이미 받았으므로 로그만 남김
+            log.warn("[SSE][Cluster] 브랜드 {} 트렌드 발행 실패: {}", brandId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        TrendFanoutMessage fanout;
+        try {
+            fanout = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), TrendFanoutMessage.class);
+        } catch (Exception e) {
+            log.warn("[SSE][Cluster] 잘못된 트렌드 메시지 무시: {}", e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(fanout.nodeId())) {
+            return;
+        }
+
+        log.debug("[SSE][Cluster] 노드 {} 에서 브랜드 {} 트렌드 수신 (eventId={})",
+                fanout.nodeId(), fanout.brandId(), fanout.eventId());
+        trendSseService.broadcastSerialized(fanout.brandId(), fanout.eventId(), fanout.payload());
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private long nextEventId() {
+        long now = System.currentTimeMillis();
+        try {
+            Long id = stringRedisTemplate.execute(NEXT_EVENT_ID_SCRIPT, List.of(EVENT_ID_KEY), Long.toString(now));
+            if (id != null) {
+                return id;
+            }
+        } catch (Exception e) {
+            log.warn("[SSE][Cluster] 이벤트 id 할당 실패, 로컬 id 사용: {}", e.getMessage());
+        }
+        return fallbackEventId.accumulateAndGet(now, (prev, current) -> Math.max(prev + 1, current));
+    }
+
+    private String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (Exception e) {
+            log.error("[SSE][Cluster] JSON 변환 실패", e);
+            throw new RuntimeException("JSON 변환 실패", e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.InsightMarket.service.sse;
+
+import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
+import com.InsightMarket.ai.dto.trends.TrendDeltaDTO;
+import com.InsightMarket.ai.dto.trends.TrendItemDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 두 트렌드 스냅샷의 차이를 TrendDeltaDTO 로 계산
+ * - 검색어(query)를 키로 비교하여 빠진 항목, 새로 들어오거나 순위/값이 바뀐 항목만 남김
+ * - 바뀌지 않은 항목은 이전 순위를 그대로 유지하므로 클라이언트는 changed 를 덮어쓰고 순위로 정렬하면 새 리스트가 됨
+ */
+final class TrendDeltaEncoder {
+
+    private TrendDeltaEncoder() {
+    }
+
+    /**
+     * 이전 스냅샷이 없으면 null (전체 스냅샷을 보내야 함)
+     */
+    static TrendDeltaDTO diff(PythonTrendResponseDTO previous, PythonTrendResponseDTO next, long baseVersion, long version) {
+        if (previous == null || previous.getData() == null || next == null || next.getData() == null) {
+            return null;
+        }
+        return TrendDeltaDTO.builder()
+                .version(version)
+                .baseVersion(baseVersion)
+                .keyword(next.getKeyword())
+                .collectedAt(next.getCollectedAt())
+                .top(diffList(previous.getData().getTop(), next.getData().getTop()))
+                .rising(diffList(previous.getData().getRising(), next.getData().getRising()))
+                .build();
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private static TrendDeltaDTO.ListDelta diffList(List<TrendItemDTO> previous, List<TrendItemDTO> next) {
+        List<TrendItemDTO> before = previous != null ? previous : List.of();
+        List<TrendItemDTO> after = next != null ? next : List.of();
+
+        Map<String, Integer> beforeRank = new HashMap<>();
+        for (int i = 0; i < before.size(); i++) {
+            beforeRank.put(before.get(i).getQuery(), i);
+        }
+
+        List<TrendDeltaDTO.RankedItem> changed = new ArrayList<>();
+        Map<String, Boolean> present = new HashMap<>();
+        for (int rank = 0; rank < after.size(); rank++) {
+            TrendItemDTO item = after.get(rank);
+            present.put(item.getQuery(), Boolean.TRUE);
+            Integer oldRank = beforeRank.get(item.getQuery());
+            if (oldRank == null || oldRank != rank || !Objects.equals(before.get(oldRank).getValue(), item.getValue())) {
+                changed.add(new TrendDeltaDTO.RankedItem(item.getQuery(), item.getValue(), rank));
+            }
+        }
+
+        List<String> removed = new ArrayList<>();
+        for (TrendItemDTO item : before) {
+            if (!present.containsKey(item.getQuery())) {
+                removed.add(item.getQuery());
+            }
+        }
+
+        return TrendDeltaDTO.ListDelta.builder()
+                .removed(removed)
+                .changed(changed)
+                .build();
+    }
+}
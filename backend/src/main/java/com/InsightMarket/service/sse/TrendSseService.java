@@ -1,29 +1,25 @@
 package com.InsightMarket.service.sse;
 
 import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
-import com.InsightMarket.ai.service.trends.TrendsRedisService;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
 
 /**
  * 트렌드 데이터 SSE(Server-Sent Events) 연결을 관리하는 서비스 인터페이스
+ * - 브랜드별 멀티캐스트 채널 하나에 모든 구독자가 붙는 구조 (연결마다 스레드/배열 복사 없음)
  */
 public interface TrendSseService {
     
     /**
-     * 브랜드별 트렌드 데이터 SSE 연결을 생성하고 등록합니다.
+     * 브랜드별 트렌드 데이터 SSE 스트림을 구독합니다.
+     * 연결 확인 이벤트 뒤에 최신 트렌드 데이터(initial-data)가 전달되고, 이후 갱신이 이어집니다.
+     * lastEventId 가 최근 버퍼 범위 안이면 스냅샷 대신 놓친 trend-update 만 전달됩니다.
      * 
      * @param brandId 브랜드 ID
-     * @return SseEmitter SSE 연결 객체
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 id (없으면 null)
+     * @return SSE 이벤트 스트림
      */
-    SseEmitter subscribe(Long brandId);
-    
-    /**
-     * 브랜드별 트렌드 데이터 SSE 연결을 생성하고 등록하며 초기 데이터를 전송합니다.
-     * 
-     * @param brandId 브랜드 ID
-     * @return SseEmitter SSE 연결 객체
-     */
-    SseEmitter subscribeWithInitialData(Long brandId);
+    Flux<ServerSentEvent<String>> subscribe(Long brandId, Long lastEventId);
     
     /**
      * 특정 브랜드의 모든 SSE 연결에 트렌드 데이터를 브로드캐스트합니다.
@@ -32,14 +28,27 @@ public interface TrendSseService {
      * @param data 브로드캐스트할 트렌드 데이터
      */
     void broadcast(Long brandId, PythonTrendResponseDTO data);
-    
+
     /**
-     * 특정 브랜드의 SSE 연결을 제거합니다.
-     * 
+     * 이미 JSON 으로 직렬화된 트렌드 데이터를 지정한 이벤트 id 로 브로드캐스트합니다.
+     * 클러스터 전체에서 같은 갱신은 같은 id 를 가지며, 이미 전달한 id 이하의 이벤트는 무시됩니다.
+     *
      * @param brandId 브랜드 ID
-     * @param emitter 제거할 SseEmitter
+     * @param eventId 이벤트 id (SSE id 필드)
+     * @param json 직렬화된 트렌드 데이터
      */
-    void removeEmitter(Long brandId, SseEmitter emitter);
+    void broadcastSerialized(Long brandId, long eventId, String json);
+
+    /**
+     * 갱신이 발생한 노드에서 트렌드 데이터를 지정한 이벤트 id 로 브로드캐스트합니다.
+     * 이미 가진 DTO 를 그대로 사용하므로 직렬화된 JSON 을 다시 파싱하지 않습니다.
+     *
+     * @param brandId 브랜드 ID
+     * @param eventId 이벤트 id (SSE id 필드)
+     * @param data 트렌드 데이터
+     * @param json data 를 직렬화한 JSON (클러스터 발행과 같은 문자열)
+     */
+    void broadcast(Long brandId, long eventId, PythonTrendResponseDTO data, String json);
     
     /**
      * 특정 브랜드의 현재 SSE 연결 수를 반환합니다.
@@ -48,6 +57,11 @@ public interface TrendSseService {
      * @return 연결된 클라이언트 수
      */
     int getConnectionCount(Long brandId);
+
+    /**
+     * 전체 브랜드의 SSE 연결 수 합계를 반환합니다.
+     */
+    int getTotalConnectionCount();
     
     /**
      * 특정 브랜드의 모든 SSE 연결에 에러 메시지를 전송합니다.
@@ -57,4 +71,3 @@ public interface TrendSseService {
      */
     void sendError(Long brandId, String errorMessage);
 }
-
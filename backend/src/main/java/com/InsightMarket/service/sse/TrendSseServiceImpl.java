@@ -1,240 +1,264 @@
 package com.InsightMarket.service.sse;
 
 import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
-import com.InsightMarket.ai.service.trends.TrendsRedisService;
-import com.InsightMarket.ai.service.trends.TrendsDbService;
-import com.InsightMarket.common.event.TrendDataUpdatedEvent;
+import com.InsightMarket.ai.dto.trends.TrendDeltaDTO;
+import com.InsightMarket.ai.service.trends.TrendsService;
+import com.InsightMarket.common.event.RisingTokensDetectedEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 
-import java.io.IOException;
-import java.util.List;
+import java.util.ArrayDeque;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 트렌드 데이터 SSE(Server-Sent Events) 연결을 관리하는 서비스 구현체
+ * - 브랜드별 채널(BrandChannel)이 Sinks.Many 두 개를 가짐
+ *   · trendSink: 최근 트렌드 N건을 재생하는 링 버퍼 싱크 (각 이벤트는 단조 증가 id 를 가짐)
+ *   · controlSink: 연결 수/에러/급상승 토큰/하트비트 등 일회성 이벤트용 멀티캐스트 싱크
+ * - Last-Event-ID 로 재연결한 클라이언트는 놓친 trend-update 만 메모리에서 받음 (Redis/DB 재조회 없음)
+ *   버퍼에서 이미 밀려난 id 이거나 알 수 없는 id 이면 최신 스냅샷(initial-data)부터 다시 전송
+ * - 마지막 연결이 끊겨도 채널은 유휴 시간 동안 유지되어 재연결 폭주 시에도 버퍼로 이어받을 수 있음
+ * - 갱신은 직전 스냅샷 대비 변경분(trend-delta, 버전 = 이벤트 id)으로 전송하고, 변경분이 더 크면 전체(trend-update)를 전송
+ * - 구독자는 Flux 구독 하나로 표현되며, 연결 수는 AtomicInteger 로만 관리
+ * - 각 구독자 앞에는 용량 제한 송신 큐(SseOutboundQueue)가 있어 브로드캐스트 스레드가 소켓 쓰기를 기다리지 않음
+ * - 연결/해제는 변경 플래그만 세우고, 연결 수 브로드캐스트는 주기 작업이 브랜드당 주기마다 최대 1회 전송
+ *   (재배포 직후 N개 탭이 동시에 재연결해도 O(N²) 전송이 발생하지 않음)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TrendSseServiceImpl implements TrendSseService {
 
-    // 브랜드별 SSE 연결 목록 관리 (브랜드 ID -> SseEmitter 리스트)
-    private final ConcurrentHashMap<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    // 브랜드별 멀티캐스트 채널 (브랜드 ID -> 채널)
+    private final ConcurrentHashMap<Long, BrandChannel> channels = new ConcurrentHashMap<>();
     
     // ObjectMapper 빈 주입 (JacksonAutoConfiguration에서 제공)
     private final ObjectMapper objectMapper;
     
-    // Redis 서비스 주입 (초기 데이터 조회용)
-    private final TrendsRedisService trendsRedisService;
-    
-    // DB 서비스 주입 (Redis에 없을 경우 fallback용)
-    private final TrendsDbService trendsDbService;
-    
-    // SSE 연결 타임아웃 (1시간)
-    private static final long SSE_TIMEOUT = 3600000L;
+    // 트렌드 서비스 주입 (초기 데이터 조회용: Redis → DB fallback, 동시 캐시 미스는 조회 한 번을 공유)
+    private final TrendsService trendsService;
+
+    // 송신 큐 지표
+    private final SseQueueMetrics queueMetrics;
+
+    // 연결별 송신 큐 용량과 가득 찼을 때의 처리 방식
+    @Value("${sse.outbound.queue-capacity:64}")
+    private int queueCapacity = 64;
+
+    @Value("${sse.outbound.policy:COALESCE_LATEST}")
+    private SseBackpressurePolicy backpressurePolicy = SseBackpressurePolicy.COALESCE_LATEST;
+
+    // 브랜드별로 메모리에 보관하는 최근 trend 이벤트 수
+    @Value("${sse.replay.buffer-size:16}")
+    private int replayBufferSize = 16;
+
+    // 연결이 모두 끊긴 채널을 유지하는 시간
+    @Value("${sse.channel.idle-timeout-ms:300000}")
+    private long channelIdleTimeoutMs = 300_000L;
+
+    // 이벤트 id 시퀀스: 재시작 후에도 이전 id 보다 커지도록 현재 시각(ms)에서 시작
+    private final AtomicLong eventIdSequence = new AtomicLong(System.currentTimeMillis());
     
     // SSE 이벤트 이름 상수
     private static final String EVENT_CONNECTED = "connected";
     private static final String EVENT_INITIAL_DATA = "initial-data";
     private static final String EVENT_TREND_UPDATE = "trend-update";
+    private static final String EVENT_TREND_DELTA = "trend-delta";
     private static final String EVENT_ERROR = "error";
     private static final String EVENT_CONNECTION_COUNT = "connection-count";
+    private static final String EVENT_RISING_TOKENS = "rising-tokens";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
 
-    /**
-     * JSON 변환 헬퍼 메서드
-     */
-    private String toJson(Object data) {
-        try {
-            return objectMapper.writeValueAsString(data);
-        } catch (Exception e) {
-            log.error("[SSE] JSON 변환 실패", e);
-            throw new RuntimeException("JSON 변환 실패", e);
-        }
+    // 송신 큐에서 최신 값으로 대체해도 되는 이벤트 (trend 이벤트는 이어받기/변경분 기준이 깨지므로 대체하지 않음)
+    private static final Set<String> COALESCIBLE_EVENTS = Set.of(EVENT_CONNECTION_COUNT);
+
+    // json: 전체 스냅샷, deltaJson: 직전 이벤트 대비 변경분 (없으면 null)
+    private record TrendEvent(long id, String json, String deltaJson) {
     }
 
     /**
-     * 모든 연결에게 이벤트를 브로드캐스트하는 공통 메서드
+     * 브랜드 하나의 멀티캐스트 채널
      */
-    private void broadcastEvent(Long brandId, String eventName, String data) {
-        List<SseEmitter> emitterList = emitters.get(brandId);
-        if (emitterList == null || emitterList.isEmpty()) {
-            return;
+    private static final class BrandChannel {
+        private final Sinks.Many<TrendEvent> trendSink;
+        private final Sinks.Many<ServerSentEvent<String>> controlSink = Sinks.many().multicast().directBestEffort();
+        private final AtomicInteger connections = new AtomicInteger();
+        // 마지막 연결 수 브로드캐스트 이후 연결/해제가 있었는지 여부
+        private final AtomicBoolean connectionCountDirty = new AtomicBoolean();
+
+        // 링 버퍼에 남아 있는 이벤트 id (재생 싱크와 같은 순서/크기로 유지)
+        private final ArrayDeque<Long> bufferedIds = new ArrayDeque<>();
+        private final int bufferSize;
+        // 이 id 이하의 이벤트는 버퍼에 없음 (채널 생성 이전이거나 버퍼에서 밀려남)
+        private volatile long evictedUpToId;
+        private volatile long latestId;
+        private volatile long idleSince;
+        // 변경분 계산의 기준이 되는 최신 스냅샷 (채널 락 안에서만 접근)
+        private PythonTrendResponseDTO latestSnapshot;
+
+        private BrandChannel(int bufferSize, long createdAtId) {
+            this.bufferSize = bufferSize;
+            this.trendSink = Sinks.many().replay().limit(bufferSize);
+            this.evictedUpToId = createdAtId;
         }
-        
-        List<SseEmitter> deadEmitters = new CopyOnWriteArrayList<>();
-        for (SseEmitter emitter : emitterList) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(eventName)
-                        .data(data));
-            } catch (IOException e) {
-                log.warn("[SSE] 브랜드 {} 이벤트 전송 실패: {}", brandId, eventName);
-                deadEmitters.add(emitter);
+
+        private boolean hasTrendData() {
+            return latestId != 0;
+        }
+
+        // 클라이언트가 lastEventId 이후의 이벤트를 버퍼만으로 모두 받을 수 있는지 여부
+        private boolean canResume(long lastEventId) {
+            return lastEventId >= evictedUpToId && lastEventId <= latestId;
+        }
+
+        // Sinks 는 동시 emit 을 허용하지 않으므로 채널 단위로 직렬화
+        private synchronized void emitTrend(TrendEvent event, PythonTrendResponseDTO snapshot) {
+            bufferedIds.addLast(event.id());
+            if (bufferedIds.size() > bufferSize) {
+                evictedUpToId = bufferedIds.removeFirst();
             }
+            latestId = event.id();
+            latestSnapshot = snapshot;
+            trendSink.tryEmitNext(event);
         }
-        
-        // 끊어진 연결 제거
-        for (SseEmitter deadEmitter : deadEmitters) {
-            removeEmitter(brandId, deadEmitter);
+
+        private synchronized void emitControl(ServerSentEvent<String> event) {
+            controlSink.tryEmitNext(event);
         }
     }
 
     /**
-     * 특정 브랜드의 모든 연결에게 연결 수를 브로드캐스트합니다.
-     * 
-     * @param brandId 브랜드 ID
+     * JSON 변환 헬퍼 메서드
      */
-    private void broadcastConnectionCount(Long brandId) {
-        List<SseEmitter> emitterList = emitters.get(brandId);
-        if (emitterList == null || emitterList.isEmpty()) {
-            return;
+    private String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (Exception e) {
+            log.error("[SSE] JSON 변환 실패", e);
+            throw new RuntimeException("JSON 변환 실패", e);
         }
-        
-        int connectionCount = emitterList.size();
-        String connectionCountJson = toJson(Map.of("connectionCount", connectionCount, "brandId", brandId));
-        broadcastEvent(brandId, EVENT_CONNECTION_COUNT, connectionCountJson);
     }
 
-    @Override
-    public SseEmitter subscribe(Long brandId) {
-        log.info("[SSE] 브랜드 {} SSE 연결 요청", brandId);
-        
-        // SSE Emitter 생성 (타임아웃 1시간)
-        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-        
-        // 브랜드별 emitter 리스트에 추가
-        emitters.computeIfAbsent(brandId, k -> new CopyOnWriteArrayList<>()).add(emitter);
-        
-        log.info("[SSE] 브랜드 {} SSE 연결 등록 완료. 현재 연결 수: {}", 
-                brandId, emitters.get(brandId).size());
-        
-        // 연결 완료 시 처리
-        emitter.onCompletion(() -> {
-            log.info("[SSE] 브랜드 {} SSE 연결 완료 (정상 종료)", brandId);
-            removeEmitter(brandId, emitter);
-        });
-        
-        // 타임아웃 시 처리
-        emitter.onTimeout(() -> {
-            log.warn("[SSE] 브랜드 {} SSE 연결 타임아웃", brandId);
-            emitter.complete();
-            removeEmitter(brandId, emitter);
-        });
-        
-        // 에러 발생 시 처리
-        emitter.onError((ex) -> {
-            log.error("[SSE] 브랜드 {} SSE 연결 에러: {}", brandId, ex.getMessage());
-            removeEmitter(brandId, emitter);
-        });
-        
-        // 초기 연결 확인 메시지 전송
+    private PythonTrendResponseDTO fromJson(String json) {
         try {
-            emitter.send(SseEmitter.event()
-                    .name(EVENT_CONNECTED)
-                    .data("SSE 연결이 성공적으로 설정되었습니다."));
-        } catch (IOException e) {
-            log.error("[SSE] 브랜드 {} 초기 메시지 전송 실패", brandId, e);
-            removeEmitter(brandId, emitter);
-            return emitter;
+            return objectMapper.readValue(json, PythonTrendResponseDTO.class);
+        } catch (Exception e) {
+            log.error("[SSE] JSON 파싱 실패", e);
+            throw new RuntimeException("JSON 파싱 실패", e);
         }
-        
-        // 모든 연결에게 연결 수 브로드캐스트 (새로 연결된 클라이언트 포함)
-        broadcastConnectionCount(brandId);
-        
-        return emitter;
     }
-    
+
+    private ServerSentEvent<String> event(String eventName, String data) {
+        return ServerSentEvent.<String>builder()
+                .event(eventName)
+                .data(data)
+                .build();
+    }
+
     /**
-     * 브랜드별 트렌드 데이터 SSE 연결을 생성하고 등록하며 초기 데이터를 전송합니다.
-     * Redis에 데이터가 없으면 DB에서 조회합니다.
-     * 
-     * @param brandId 브랜드 ID
-     * @return SseEmitter SSE 연결 객체
+     * 연결 수가 바뀐 브랜드에만 현재 연결 수를 브로드캐스트합니다.
+     * 연결/해제 시점에는 플래그만 세우므로 브랜드당 주기마다 최대 1회만 전송됩니다.
      */
-    public SseEmitter subscribeWithInitialData(Long brandId) {
-        log.info("[SSE] 브랜드 {} SSE 연결 요청 (초기 데이터 포함)", brandId);
-        
-        // SSE 연결 생성 및 등록
-        SseEmitter emitter = subscribe(brandId);
-        
-        // 초기 데이터 전송 (Redis에서 최신 데이터 조회)
-        PythonTrendResponseDTO initialData = trendsRedisService.getTrendData(brandId);
-        
-        // Redis에 데이터가 없으면 DB에서 조회
-        if (initialData == null) {
-            log.info("[SSE] 브랜드 {} Redis에 데이터 없음, DB에서 조회 시도", brandId);
-            initialData = trendsDbService.getTrendData(brandId);
-            if (initialData != null) {
-                log.info("[SSE] 브랜드 {} DB에서 초기 데이터 조회 성공", brandId);
-            } else {
-                log.warn("[SSE] 브랜드 {} 초기 데이터 없음 (Redis 및 DB 모두 데이터 없음)", brandId);
+    @Scheduled(fixedDelayString = "${sse.connection-count.interval-ms:1000}")
+    public void flushConnectionCounts() {
+        channels.forEach((brandId, channel) -> {
+            if (!channel.connectionCountDirty.compareAndSet(true, false)) {
+                return;
             }
-        } else {
-            log.info("[SSE] 브랜드 {} Redis에서 초기 데이터 조회 성공", brandId);
-        }
-        
-        // 초기 데이터가 있으면 전송
-        if (initialData != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(EVENT_INITIAL_DATA)
-                        .data(initialData));
-                log.info("[SSE] 브랜드 {} 초기 데이터 전송 완료", brandId);
-            } catch (IOException e) {
-                log.error("[SSE] 브랜드 {} 초기 데이터 전송 실패", brandId, e);
+            int count = channel.connections.get();
+            if (count == 0) {
+                return;
             }
+
+            String connectionCountJson = toJson(Map.of("connectionCount", count, "brandId", brandId));
+            channel.emitControl(event(EVENT_CONNECTION_COUNT, connectionCountJson));
+        });
+    }
+
+    private ServerSentEvent<String> trendEvent(String eventName, long id, String data) {
+        return ServerSentEvent.<String>builder()
+                .id(Long.toString(id))
+                .event(eventName)
+                .data(data)
+                .build();
+    }
+
+    @Override
+    public Flux<ServerSentEvent<String>> subscribe(Long brandId, Long lastEventId) {
+        log.info("[SSE] 브랜드 {} SSE 연결 요청 (lastEventId={})", brandId, lastEventId);
+
+        // 채널 획득과 연결 수 증가를 원자적으로 처리 (유휴 채널 제거와 경합하지 않도록)
+        BrandChannel channel = channels.compute(brandId, (id, existing) -> {
+            BrandChannel c = existing != null ? existing : new BrandChannel(replayBufferSize, eventIdSequence.get());
+            c.connections.incrementAndGet();
+            c.connectionCountDirty.set(true);
+            return c;
+        });
+
+        boolean resumed = lastEventId != null && channel.canResume(lastEventId);
+        long afterId;
+        if (resumed) {
+            // 놓친 이벤트만 버퍼에서 재생
+            afterId = lastEventId;
+        } else {
+            seedInitialData(brandId, channel);
+            // 버퍼 중 최신 1건부터 전달 (initial-data)
+            afterId = channel.latestId - 1;
         }
-        
-        return emitter;
+
+        log.debug("[SSE] 브랜드 {} SSE 연결 등록 완료. 현재 연결 수: {}, 이어받기: {}",
+                brandId, channel.connections.get(), resumed);
+
+        // 새로 연결한 경우 첫 원소는 전체 스냅샷(initial-data), 나머지는 변경분(trend-delta) 또는 전체(trend-update)
+        Flux<ServerSentEvent<String>> trendEvents = channel.trendSink.asFlux()
+                .filter(trend -> trend.id() > afterId)
+                .index()
+                .map(indexed -> {
+                    TrendEvent trend = indexed.getT2();
+                    if (!resumed && indexed.getT1() == 0) {
+                        return trendEvent(EVENT_INITIAL_DATA, trend.id(), trend.json());
+                    }
+                    return trend.deltaJson() != null
+                            ? trendEvent(EVENT_TREND_DELTA, trend.id(), trend.deltaJson())
+                            : trendEvent(EVENT_TREND_UPDATE, trend.id(), trend.json());
+                });
+
+        Flux<ServerSentEvent<String>> upstream = Flux.just(event(EVENT_CONNECTED, "SSE 연결이 성공적으로 설정되었습니다."))
+                .concatWith(Flux.merge(trendEvents, channel.controlSink.asFlux()))
+                .doFinally(signal -> release(brandId, channel, signal.toString()));
+
+        return new SseOutboundQueue(queueCapacity, backpressurePolicy, queueMetrics, COALESCIBLE_EVENTS).connect(upstream);
     }
 
     @Override
     public void broadcast(Long brandId, PythonTrendResponseDTO data) {
-        List<SseEmitter> emitterList = emitters.get(brandId);
-        
-        if (emitterList == null || emitterList.isEmpty()) {
-            log.debug("[SSE] 브랜드 {}에 연결된 클라이언트가 없습니다.", brandId);
-            return;
-        }
-        
-        log.info("[SSE] 브랜드 {} 트렌드 데이터 브로드캐스트 시작. 연결 수: {}", 
-                brandId, emitterList.size());
-        
-        String jsonData = toJson(data);
-        int beforeSize = emitterList.size();
-        broadcastEvent(brandId, EVENT_TREND_UPDATE, jsonData);
-        
-        int afterSize = emitters.get(brandId) != null ? emitters.get(brandId).size() : 0;
-        log.info("[SSE] 브랜드 {} 트렌드 데이터 브로드캐스트 완료. 성공: {}, 실패: {}", 
-                brandId, afterSize, beforeSize - afterSize);
+        publish(brandId, eventIdSequence.incrementAndGet(), data, toJson(data));
     }
 
     @Override
-    public void removeEmitter(Long brandId, SseEmitter emitter) {
-        List<SseEmitter> emitterList = emitters.get(brandId);
-        
-        if (emitterList != null) {
-            emitterList.remove(emitter);
-            int remainingCount = emitterList.size();
-            log.info("[SSE] 브랜드 {} SSE 연결 제거. 남은 연결 수: {}", 
-                    brandId, remainingCount);
-            
-            // 리스트가 비어있으면 맵에서도 제거
-            if (emitterList.isEmpty()) {
-                emitters.remove(brandId);
-                log.info("[SSE] 브랜드 {} 모든 SSE 연결 제거됨", brandId);
-            } else {
-                // 남은 연결들에게 업데이트된 연결 수 브로드캐스트
-                broadcastConnectionCount(brandId);
-            }
-        }
+    public void broadcastSerialized(Long brandId, long eventId, String json) {
+        // 외부에서 받은 id 보다 이후에 만드는 로컬 id 가 작아지지 않도록 시퀀스를 끌어올림
+        eventIdSequence.accumulateAndGet(eventId, Math::max);
+        publish(brandId, eventId, null, json);
+    }
+
+    @Override
+    public void broadcast(Long brandId, long eventId, PythonTrendResponseDTO data, String json) {
+        eventIdSequence.accumulateAndGet(eventId, Math::max);
+        publish(brandId, eventId, data, json);
     }
 
     /**
@@ -245,8 +269,13 @@ public class TrendSseServiceImpl implements TrendSseService {
      */
     @Override
     public int getConnectionCount(Long brandId) {
-        List<SseEmitter> emitterList = emitters.get(brandId);
-        return emitterList != null ? emitterList.size() : 0;
+        BrandChannel channel = channels.get(brandId);
+        return channel != null ? channel.connections.get() : 0;
+    }
+
+    @Override
+    public int getTotalConnectionCount() {
+        return channels.values().stream().mapToInt(c -> c.connections.get()).sum();
     }
 
     /**
@@ -257,35 +286,128 @@ public class TrendSseServiceImpl implements TrendSseService {
      */
     @Override
     public void sendError(Long brandId, String errorMessage) {
-        List<SseEmitter> emitterList = emitters.get(brandId);
-        
-        if (emitterList == null || emitterList.isEmpty()) {
+        BrandChannel channel = channels.get(brandId);
+        if (channel == null) {
             log.debug("[SSE] 브랜드 {}에 연결된 클라이언트가 없습니다.", brandId);
             return;
         }
         
-        log.info("[SSE] 브랜드 {} 에러 메시지 전송 시작. 연결 수: {}", brandId, emitterList.size());
-        
-        String errorJson = toJson(Map.of("error", errorMessage));
-        int beforeSize = emitterList.size();
-        broadcastEvent(brandId, EVENT_ERROR, errorJson);
-        
-        int afterSize = emitters.get(brandId) != null ? emitters.get(brandId).size() : 0;
-        log.info("[SSE] 브랜드 {} 에러 메시지 전송 완료. 성공: {}, 실패: {}", 
-                brandId, afterSize, beforeSize - afterSize);
+        log.info("[SSE] 브랜드 {} 에러 메시지 전송. 연결 수: {}", brandId, channel.connections.get());
+        channel.emitControl(event(EVENT_ERROR, toJson(Map.of("error", errorMessage))));
     }
 
 
-    // 트렌드 데이터 업데이트 이벤트를 수신하여 SSE로 브로드캐스트
-    @EventListener
-    public void handleTrendDataUpdated(TrendDataUpdatedEvent event) {
+    // 수집 트랜잭션이 커밋된 뒤 급상승 토큰 목록을 SSE로 전달
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRisingTokensDetected(RisingTokensDetectedEvent event) {
         Long brandId = event.getBrandId();
-        PythonTrendResponseDTO data = event.getData();
-        
-        log.info("[SSE][이벤트] 브랜드 {} 트렌드 데이터 업데이트 이벤트 수신", brandId);
-        
-        // 해당 브랜드의 모든 SSE 연결에 데이터 브로드캐스트
-        broadcast(brandId, data);
+        BrandChannel channel = channels.get(brandId);
+        if (channel == null) {
+            return;
+        }
+
+        log.info("[SSE][이벤트] 브랜드 {} 급상승 토큰 {}개 전송", brandId, event.getRisingTokens().size());
+        channel.emitControl(event(EVENT_RISING_TOKENS,
+                toJson(Map.of("brandId", brandId, "risingTokens", event.getRisingTokens()))));
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 SSE 주석(하트비트)을 전송합니다.
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat.interval-ms:15000}")
+    public void sendHeartbeats() {
+        ServerSentEvent<String> heartbeat = ServerSentEvent.<String>builder().comment(HEARTBEAT_COMMENT).build();
+        channels.values().forEach(channel -> {
+            if (channel.connections.get() > 0) {
+                channel.emitControl(heartbeat);
+            }
+        });
+    }
+
+    /**
+     * 연결이 모두 끊긴 지 유휴 시간이 지난 채널을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${sse.channel.evict-interval-ms:60000}")
+    public void evictIdleChannels() {
+        long now = System.currentTimeMillis();
+        channels.keySet().forEach(brandId -> channels.computeIfPresent(brandId, (id, channel) ->
+                channel.connections.get() == 0 && now - channel.idleSince >= channelIdleTimeoutMs ? null : channel));
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    /**
+     * 채널에 아직 트렌드 데이터가 없으면 Redis → DB 순으로 조회해 채웁니다.
+     * 채널이 채워진 뒤에는 조회하지 않고, 채워지기 전 동시에 들어온 연결의 DB 조회는 한 번으로 합쳐집니다.
+     */
+    private void seedInitialData(Long brandId, BrandChannel channel) {
+        if (channel.hasTrendData()) {
+            return;
+        }
+
+        PythonTrendResponseDTO initialData = trendsService.getTrendData(brandId);
+        if (initialData == null) {
+            log.warn("[SSE] 브랜드 {} 초기 데이터 없음 (Redis 및 DB 모두 데이터 없음)", brandId);
+            return;
+        }
+
+        String json = toJson(initialData);
+        synchronized (channel) {
+            // 조회하는 사이 더 최신 데이터가 들어왔다면 덮어쓰지 않음
+            if (!channel.hasTrendData()) {
+                // 저장소에서 읽은 스냅샷은 새 갱신이 아니므로 시퀀스를 소비하지 않음 (이후 클러스터 id 보다 커지지 않도록)
+                emitSnapshot(channel, Math.max(eventIdSequence.get(), 1L), initialData, json);
+            }
+        }
     }
-}
 
+    /**
+     * 채널에 트렌드 갱신을 기록합니다. 연결이 없는 유휴 채널에도 기록해 두어 재연결한 클라이언트가 이어받을 수 있도록 합니다.
+     * 변경분 계산을 위한 역직렬화는 DTO 가 없을 때(Pub/Sub 수신)만, 구독자 수와 무관하게 노드당 한 번 수행됩니다.
+     */
+    private void publish(Long brandId, long eventId, PythonTrendResponseDTO data, String json) {
+        BrandChannel channel = channels.get(brandId);
+        if (channel == null) {
+            log.debug("[SSE] 브랜드 {}에 연결된 클라이언트가 없습니다.", brandId);
+            return;
+        }
+
+        PythonTrendResponseDTO snapshot = data != null ? data : fromJson(json);
+        log.info("[SSE] 브랜드 {} 트렌드 데이터 브로드캐스트. 연결 수: {}", brandId, channel.connections.get());
+        if (!emitSnapshot(channel, eventId, snapshot, json)) {
+            log.debug("[SSE] 브랜드 {} 이미 전달한 이벤트 {} 무시", brandId, eventId);
+        }
+    }
+
+    // 이미 전달한 id 이하의 이벤트(중복 수신, 늦게 도착한 이전 스냅샷)는 버림
+    private boolean emitSnapshot(BrandChannel channel, long eventId, PythonTrendResponseDTO snapshot, String json) {
+        synchronized (channel) {
+            if (eventId <= channel.latestId) {
+                return false;
+            }
+
+            // 변경분이 전체보다 작을 때만 변경분을 함께 보관
+            String deltaJson = null;
+            TrendDeltaDTO delta = TrendDeltaEncoder.diff(channel.latestSnapshot, snapshot, channel.latestId, eventId);
+            if (delta != null) {
+                String encoded = toJson(delta);
+                if (encoded.length() < json.length()) {
+                    deltaJson = encoded;
+                }
+            }
+            channel.emitTrend(new TrendEvent(eventId, json, deltaJson), snapshot);
+            return true;
+        }
+    }
+
+    private void release(Long brandId, BrandChannel channel, String signal) {
+        int remaining = channel.connections.decrementAndGet();
+        channel.connectionCountDirty.set(true);
+        log.debug("[SSE] 브랜드 {} SSE 연결 종료({}). 남은 연결 수: {}", brandId, signal, remaining);
+
+        // 마지막 연결이 끊기면 유휴 시작 시각만 기록하고, 제거는 evictIdleChannels 에서 처리
+        if (remaining == 0) {
+            channel.idleSince = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.InsightMarket.common;
+
+import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
+import com.InsightMarket.ai.dto.trends.TrendItemDTO;
+import com.InsightMarket.common.redis.CompactRedisSerializer;
+import com.InsightMarket.dto.dashboard.BrandMentionChartDataDTO;
+import com.InsightMarket.dto.dashboard.BrandSentimentResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactRedisSerializerTests {
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final CompactRedisSerializer compactSerializer = new CompactRedisSerializer(true, 1024);
+
+    @Test
+    @DisplayName("Smile 로 저장한 트렌드 데이터를 원래 타입으로 복원")
+    public void testRoundTripKeepsType() {
+        PythonTrendResponseDTO trend = trend(25);
+
+        Object restored = compactSerializer.deserialize(compactSerializer.serialize(trend));
+
+        assertInstanceOf(PythonTrendResponseDTO.class, restored);
+        assertEquals(trend, restored);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 값과 JSON 쓰기 모드 값을 모두 읽음")
+    public void testReadsLegacyJson() {
+        PythonTrendResponseDTO trend = trend(5);
+        CompactRedisSerializer jsonWriter = new CompactRedisSerializer(false, 1024);
+
+        assertEquals(trend, compactSerializer.deserialize(jsonSerializer.serialize(trend)));
+        assertEquals(trend, compactSerializer.deserialize(jsonWriter.serialize(trend)));
+        // JSON 쓰기 모드도 Smile 값을 읽을 수 있어야 롤백이 안전함
+        assertEquals(trend, jsonWriter.deserialize(compactSerializer.serialize(trend)));
+    }
+
+    @Test
+    @DisplayName("임계값 이상은 압축하고 이후 버전 값은 예외로 거부")
+    public void testCompressionAndVersionHeader() {
+        byte[] small = new CompactRedisSerializer(true, 0).serialize(trend(25));
+        byte[] compressed = compactSerializer.serialize(trend(25));
+
+        assertEquals(0x01, compressed[0]);
+        assertEquals(0x00, small[1]);
+        assertEquals(0x01, compressed[1]);
+        assertTrue(compressed.length < small.length);
+
+        byte[] future = compressed.clone();
+        future[0] = 0x02;
+        assertThrows(SerializationException.class, () -> compactSerializer.deserialize(future));
+    }
+
+    @Test
+    @DisplayName("JSON 보다 저장 크기가 작음 (시간 비교는 RedisSerializerBenchmark)")
+    public void testSmallerThanJson() {
+        List<BrandMentionChartDataDTO> mentionChart = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            mentionChart.add(new BrandMentionChartDataDTO("2026-01-" + String.format("%02d", i + 1), 100L + i, 60L + i, 40L));
+        }
+        BrandSentimentResponseDTO sentiment = BrandSentimentResponseDTO.builder()
+                .mostPositiveDate("2026-01-01").mostNegativeDate("2026-01-03").topSource("네이버 블로그")
+                .dateRange("2026-01-01 ~ 2026-01-07").posValue(42.7).negValue(30.2).neuValue(27.1)
+                .averagePositiveRatio("42.7%").build();
+
+        Object[][] samples = {
+                {"PythonTrendResponseDTO", trend(25)},
+                {"BrandMentionChartDataDTO x30", mentionChart},
+                {"BrandSentimentResponseDTO", sentiment},
+        };
+
+        for (Object[] sample : samples) {
+            byte[] json = jsonSerializer.serialize(sample[1]);
+            byte[] compact = compactSerializer.serialize(sample[1]);
+            assertTrue(compact.length < json.length, sample[0] + ": compact " + compact.length + "B, json " + json.length + "B");
+        }
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private PythonTrendResponseDTO trend(int size) {
+        List<TrendItemDTO> top = new ArrayList<>();
+        List<TrendItemDTO> rising = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            top.add(new TrendItemDTO("아이폰 연관 검색어 " + i, String.valueOf(100 - i)));
+            rising.add(new TrendItemDTO("아이폰 급상승 검색어 " + i, "+" + (i * 50) + "%"));
+        }
+        return PythonTrendResponseDTO.builder()
+                .keyword("아이폰")
+                .brandId(1L)
+                .collectedAt("2026-01-01 12:00:00")
+                .data(new PythonTrendResponseDTO.TrendData(top, rising))
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.InsightMarket.common;
+
+import com.InsightMarket.common.sketch.KllSketch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KllSketchTests {
+
+    @Test
+    @DisplayName("표본 수가 k 이하이면 정확한 백분위를 반환")
+    public void testExactRankForSmallCohort() {
+        KllSketch sketch = new KllSketch();
+        for (int i = 1; i <= 100; i++) {
+            sketch.update(i);
+        }
+
+        assertEquals(100, sketch.getN());
+        assertEquals(0.495, sketch.rank(50), 1e-9);
+        assertEquals(50.0, sketch.quantile(0.5), 1e-9);
+    }
+
+    @Test
+    @DisplayName("대량 표본과 병합 후에도 순위 오차가 작음")
+    public void testMergeKeepsRankErrorSmall() {
+        Random random = new Random(42);
+        KllSketch left = new KllSketch();
+        KllSketch right = new KllSketch();
+        for (int i = 0; i < 50_000; i++) {
+            left.update(random.nextDouble());
+            right.update(random.nextDouble());
+        }
+
+        left.merge(right);
+
+        assertEquals(100_000, left.getN());
+        assertEquals(0.25, left.rank(0.25), 0.02);
+        assertEquals(0.9, left.quantile(0.9), 0.02);
+    }
+
+    @Test
+    @DisplayName("직렬화 후 역직렬화해도 동일한 결과")
+    public void testSerializationRoundTrip() {
+        KllSketch sketch = new KllSketch();
+        for (int i = 0; i < 5_000; i++) {
+            sketch.update(i % 997);
+        }
+
+        KllSketch restored = KllSketch.fromBytes(sketch.toBytes());
+
+        assertEquals(sketch.getN(), restored.getN());
+        assertEquals(sketch.rank(500), restored.rank(500), 1e-12);
+        assertEquals(sketch.quantile(0.75), restored.quantile(0.75), 1e-12);
+    }
+}
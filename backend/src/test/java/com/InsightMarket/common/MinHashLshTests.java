@@ -0,0 +1,54 @@
+package com.InsightMarket.common;
+
+import com.InsightMarket.ai.service.aiInsight.AiAnswerCache;
+import com.InsightMarket.common.sketch.MinHashLsh;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MinHashLshTests {
+
+    private final MinHashLsh lsh = new MinHashLsh(16, 4, 3, 42L);
+
+    @Test
+    @DisplayName("표현만 다른 질문은 유사도가 높고 LSH 버킷을 공유")
+    public void testNearDuplicateSharesBucket() {
+        String a = AiAnswerCache.normalize("이번 달 부정 리뷰가 늘어난 원인과 대응 전략을 알려줘");
+        String b = AiAnswerCache.normalize("이번 달 부정 리뷰가 늘어난 원인과 대응 전략을 알려줘요!!");
+
+        int[] sa = lsh.signature(a);
+        int[] sb = lsh.signature(b);
+
+        assertTrue(MinHashLsh.similarity(sa, sb) >= 0.85);
+        assertTrue(shareBucket(lsh.bandKeys(sa), lsh.bandKeys(sb)));
+    }
+
+    @Test
+    @DisplayName("다른 질문은 유사도가 낮음")
+    public void testDifferentQuestionsAreFar() {
+        int[] sa = lsh.signature(AiAnswerCache.normalize("이번 달 부정 리뷰가 늘어난 원인과 대응 전략을 알려줘"));
+        int[] sb = lsh.signature(AiAnswerCache.normalize("경쟁사 대비 가격 경쟁력을 높이는 프로모션 아이디어"));
+
+        assertTrue(MinHashLsh.similarity(sa, sb) < 0.3);
+    }
+
+    @Test
+    @DisplayName("같은 시드면 같은 서명, 정규화는 대소문자/문장부호/공백 차이를 없앰")
+    public void testDeterministicSignature() {
+        assertEquals("how to grow sales", AiAnswerCache.normalize("  How to GROW   sales?? "));
+        assertArrayEquals(new MinHashLsh(16, 4, 3, 42L).signature("매출 증대 방안"), lsh.signature("매출 증대 방안"));
+        assertEquals(64, lsh.getNumHashes());
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private boolean shareBucket(List<String> a, List<String> b) {
+        Set<String> keys = new HashSet<>(a);
+        return b.stream().anyMatch(keys::contains);
+    }
+}
@@ -0,0 +1,84 @@
+package com.InsightMarket.common;
+
+import com.InsightMarket.common.cache.SingleFlightLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightLoaderTests {
+
+    private static final int CALLERS = 32;
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 loader 를 한 번만 실행하고 결과를 공유")
+    public void testConcurrentMissesShareOneLoad() throws Exception {
+        SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> loader.load(1L, () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "snapshot";
+            })));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> loader.load(1L, () -> {
+                    loads.incrementAndGet();
+                    return "duplicate";
+                })));
+            }
+            // 뒤따른 요청이 모두 대기열에 들어갈 시간을 줌
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("snapshot", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(0, loader.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("loader 예외는 전달되고 다음 요청은 다시 실행")
+    public void testFailureIsNotCached() {
+        SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>();
+
+        assertThrows(IllegalStateException.class, () -> loader.load(1L, () -> {
+            throw new IllegalStateException("db down");
+        }));
+
+        assertEquals("snapshot", loader.load(1L, () -> "snapshot"));
+        assertEquals(0, loader.inFlightCount());
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
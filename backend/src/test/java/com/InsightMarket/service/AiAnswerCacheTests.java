@@ -0,0 +1,206 @@
+package com.InsightMarket.service;
+
+import com.InsightMarket.ai.service.aiInsight.AiAnswerCache;
+import com.InsightMarket.common.event.AnalyticsIngestedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AI 답변 캐시 조회/저장 테스트 (Redis 는 메모리 스텁, DB/Python 없이 실행)
+ * - 유사 질문 단계가 판단에 관여하도록 MinHash 임계값을 낮춰 두고, 2차 확인으로 걸러지는지 확인
+ */
+public class AiAnswerCacheTests {
+
+    private static final Long BRAND_ID = 1L;
+    private static final String SCOPE = "project=1|keywords=[3, 5]|topK=5";
+
+    private static final String NEGATIVE = "유튜브 댓글에서 부정 반응이 늘어난 주요 원인과 대응 전략을 알려줘";
+    private static final String POSITIVE = "유튜브 댓글에서 긍정 반응이 늘어난 주요 원인과 대응 전략을 알려줘";
+    private static final String JANUARY = "2025년 1월 네이버 블로그 언급량이 급증한 이유를 분석해줘";
+    private static final String FEBRUARY = "2025년 2월 네이버 블로그 언급량이 급증한 이유를 분석해줘";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final InMemoryRedisTemplate redis = new InMemoryRedisTemplate();
+    private final AiAnswerCache cache = new AiAnswerCache(redis, objectMapper, new SimpleMeterRegistry(),
+            true, 60, 0.7, 12, 16, 4);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 질문은 정규화 후 정확 일치로 재사용")
+    public void testExactHit() {
+        JsonNode first = ask(NEGATIVE, SCOPE, "답변1");
+        JsonNode second = ask("  유튜브 댓글에서 부정 반응이 늘어난 주요 원인과 대응 전략을 알려줘?! ", SCOPE, "답변2");
+
+        assertEquals(1, loads.get());
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("표현만 다른 질문은 유사 질문으로 재사용")
+    public void testSimilarHit() {
+        ask(NEGATIVE, SCOPE, "답변1");
+        JsonNode similar = ask(NEGATIVE + "요", SCOPE, "답변2");
+
+        assertEquals(1, loads.get());
+        assertEquals("답변1", similar.get("answer").asText());
+    }
+
+    @Test
+    @DisplayName("긍정/부정만 다른 질문은 유사 질문으로 재사용하지 않음")
+    public void testPolarityFlipIsMiss() {
+        ask(NEGATIVE, SCOPE, "부정 원인");
+        JsonNode positive = ask(POSITIVE, SCOPE, "긍정 원인");
+
+        assertEquals(2, loads.get());
+        assertEquals("긍정 원인", positive.get("answer").asText());
+    }
+
+    @Test
+    @DisplayName("기간(월)만 다른 질문은 유사 질문으로 재사용하지 않음")
+    public void testMonthFlipIsMiss() {
+        ask(JANUARY, SCOPE, "1월 분석");
+        JsonNode february = ask(FEBRUARY, SCOPE, "2월 분석");
+
+        assertEquals(2, loads.get());
+        assertEquals("2월 분석", february.get("answer").asText());
+    }
+
+    @Test
+    @DisplayName("요청 범위가 다르면 같은 질문도 재사용하지 않음")
+    public void testScopeIsolation() {
+        ask(NEGATIVE, SCOPE, "답변1");
+        JsonNode otherScope = ask(NEGATIVE, "project=2|keywords=[3, 5]|topK=5", "답변2");
+
+        assertEquals(2, loads.get());
+        assertEquals("답변2", otherScope.get("answer").asText());
+    }
+
+    @Test
+    @DisplayName("새 분석 결과가 저장되면(세대 증가) 이전 답변을 재사용하지 않음")
+    public void testGenerationBumpInvalidates() {
+        ask(NEGATIVE, SCOPE, "답변1");
+        cache.handleAnalyticsIngested(new AnalyticsIngestedEvent(this, Set.of(BRAND_ID), Set.of()));
+        JsonNode afterBump = ask(NEGATIVE, SCOPE, "답변2");
+
+        assertEquals(2, loads.get());
+        assertEquals("답변2", afterBump.get("answer").asText());
+    }
+
+    @Test
+    @DisplayName("실패 응답(ok=false)은 저장하지 않음")
+    public void testFailedAnswerIsNotStored() throws Exception {
+        cache.getOrLoad(AiAnswerCache.TYPE_ASK, BRAND_ID, NEGATIVE, SCOPE, () -> {
+            loads.incrementAndGet();
+            return json("{\"ok\":false,\"reason\":\"timeout\"}");
+        });
+        JsonNode retry = ask(NEGATIVE, SCOPE, "답변");
+
+        assertEquals(2, loads.get());
+        assertTrue(retry.get("ok").asBoolean());
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private JsonNode ask(String question, String scope, String answer) {
+        return cache.getOrLoad(AiAnswerCache.TYPE_ASK, BRAND_ID, question, scope, () -> {
+            loads.incrementAndGet();
+            return json("{\"ok\":true,\"answer\":\"" + answer + "\"}");
+        });
+    }
+
+    private JsonNode json(String value) {
+        try {
+            return objectMapper.readTree(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 캐시가 사용하는 문자열/집합 연산만 메모리로 흉내내는 RedisTemplate (파이프라인은 즉시 실행 후 결과 수집)
+    @SuppressWarnings("unchecked")
+    private static class InMemoryRedisTemplate extends StringRedisTemplate {
+
+        private final Map<String, String> values = new HashMap<>();
+        private final Map<String, Set<String>> sets = new HashMap<>();
+        private List<Object> pipelineResults;
+
+        @Override
+        public ValueOperations<String, String> opsForValue() {
+            return (ValueOperations<String, String>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{ValueOperations.class}, (proxy, method, args) -> record(switch (method.getName()) {
+                        case "get" -> values.get((String) args[0]);
+                        case "set" -> {
+                            values.put((String) args[0], (String) args[1]);
+                            yield null;
+                        }
+                        case "multiGet" -> ((Collection<String>) args[0]).stream().map(values::get).toList();
+                        case "increment" -> {
+                            long next = Long.parseLong(values.getOrDefault((String) args[0], "0")) + 1;
+                            values.put((String) args[0], Long.toString(next));
+                            yield next;
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }));
+        }
+
+        @Override
+        public SetOperations<String, String> opsForSet() {
+            return (SetOperations<String, String>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{SetOperations.class}, (proxy, method, args) -> record(switch (method.getName()) {
+                        case "members" -> new HashSet<>(sets.getOrDefault((String) args[0], Set.of()));
+                        case "add" -> {
+                            Set<String> set = sets.computeIfAbsent((String) args[0], key -> new HashSet<>());
+                            long added = 0;
+                            for (Object member : (Object[]) args[1]) {
+                                added += set.add((String) member) ? 1 : 0;
+                            }
+                            yield added;
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }));
+        }
+
+        @Override
+        public Boolean expire(String key, long timeout, TimeUnit unit) {
+            return (Boolean) record(true);
+        }
+
+        @Override
+        public List<Object> executePipelined(SessionCallback<?> session) {
+            pipelineResults = new ArrayList<>();
+            try {
+                session.execute(this);
+                return pipelineResults;
+            } finally {
+                pipelineResults = null;
+            }
+        }
+
+        private Object record(Object result) {
+            if (pipelineResults != null) {
+                pipelineResults.add(result);
+            }
+            return result;
+        }
+    }
+}
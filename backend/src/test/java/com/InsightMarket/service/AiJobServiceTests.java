@@ -0,0 +1,283 @@
+package com.InsightMarket.service;
+
+import com.InsightMarket.ai.AiTenantResolver;
+import com.InsightMarket.ai.AiWorkloadScheduler;
+import com.InsightMarket.ai.dto.aiInsight.AiAskRequestDTO;
+import com.InsightMarket.ai.dto.aiInsight.SaveReportRequestDTO;
+import com.InsightMarket.ai.dto.aiInsight.SolutionReportRequestDTO;
+import com.InsightMarket.ai.dto.aiJob.AiJobDTO;
+import com.InsightMarket.ai.dto.aiJob.AiJobStatus;
+import com.InsightMarket.ai.service.aiInsight.AiInsightService;
+import com.InsightMarket.ai.service.aiJob.AiJobRedisService;
+import com.InsightMarket.ai.service.aiJob.AiJobServiceImpl;
+import com.InsightMarket.common.exception.ApiException;
+import com.InsightMarket.common.exception.ErrorCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AI 비동기 작업 서비스 테스트 (Redis/Python 없이 실행)
+ */
+public class AiJobServiceTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("접수는 LLM 응답을 기다리지 않고 바로 반환, 완료 후 결과 조회")
+    public void testSubmitReturnsImmediately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AiJobServiceImpl service = newService(new StubRedisService(), new BlockingInsightService(release), 1, 1);
+
+        AiJobDTO queued = service.submitAsk(askRequest(1L), "trace-1");
+        assertEquals(AiJobStatus.QUEUED, queued.getStatus());
+
+        release.countDown();
+        AiJobDTO done = awaitTerminal(service, 1L, queued.getJobId());
+        assertEquals(AiJobStatus.SUCCEEDED, done.getStatus());
+        assertEquals("answer", done.getResult().path("data").asText());
+
+        assertThrows(ApiException.class, () -> service.getJob(2L, queued.getJobId()));
+    }
+
+    @Test
+    @DisplayName("회사별 대기열이 가득 차면 바로 거절")
+    public void testRejectsWhenQueueFull() {
+        CountDownLatch release = new CountDownLatch(1);
+        StubRedisService redis = new StubRedisService();
+        AiJobServiceImpl service = newService(redis, new BlockingInsightService(release), 1, 1);
+        try {
+            service.submitAsk(askRequest(1L), "running");
+            service.submitAsk(askRequest(1L), "queued");
+
+            ApiException e = assertThrows(ApiException.class, () -> service.submitAsk(askRequest(1L), "rejected"));
+            assertEquals(ErrorCode.AI_WORKLOAD_QUEUE_FULL, e.getErrorCode());
+            assertTrue(redis.store.values().stream().anyMatch(job -> job.getStatus() == AiJobStatus.FAILED));
+
+            // 다른 회사는 자기 대기열이 비어 있으므로 접수됨
+            assertEquals(AiJobStatus.QUEUED, service.submitAsk(askRequest(2L), "other").getStatus());
+        } finally {
+            release.countDown();
+            service.shutdownJobExecutor();
+        }
+    }
+
+    @Test
+    @DisplayName("한 회사가 작업을 몰아 넣어도 다른 회사 작업이 번갈아 실행")
+    public void testFairAcrossCompanies() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingInsightService insight = new BlockingInsightService(release);
+        AiJobServiceImpl service = newService(new StubRedisService(), insight, 1, 20);
+        try {
+            List<AiJobDTO> jobs = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                jobs.add(service.submitAsk(askRequest(1L), "a-" + i));
+            }
+            for (int i = 0; i < 2; i++) {
+                jobs.add(service.submitAsk(askRequest(2L), "b-" + i));
+            }
+            release.countDown();
+
+            for (AiJobDTO job : jobs) {
+                assertEquals(AiJobStatus.SUCCEEDED, awaitTerminal(service, job.getBrandId(), job.getJobId()).getStatus());
+            }
+            // 첫 작업은 접수 즉시 실행, 이후 두 회사가 번갈아 실행
+            assertEquals(List.of(1L, 1L, 2L, 1L, 2L, 1L, 1L), insight.calls);
+        } finally {
+            service.shutdownJobExecutor();
+        }
+    }
+
+    @Test
+    @DisplayName("SSE 스트림은 현재 상태부터 완료까지 보내고 종료")
+    public void testStreamEndsWithComplete() {
+        CountDownLatch release = new CountDownLatch(1);
+        AiJobServiceImpl service = newService(new StubRedisService(), new BlockingInsightService(release), 1, 1);
+
+        AiJobDTO queued = service.submitAsk(askRequest(1L), "trace-sse");
+        List<ServerSentEvent<String>> events = service.subscribe(1L, queued.getJobId())
+                .doOnSubscribe(subscription -> release.countDown())
+                .filter(event -> event.event() != null)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertNotNull(events);
+        assertEquals("job-status", events.get(0).event());
+        assertEquals("job-complete", events.get(events.size() - 1).event());
+        assertTrue(events.get(events.size() - 1).data().contains("SUCCEEDED"));
+    }
+
+    @Test
+    @DisplayName("캐시된 답변이 있으면 공정 큐가 가득 차 있어도 기다리지 않고 바로 완료")
+    public void testCachedAnswerSkipsFairQueue() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingInsightService insight = new BlockingInsightService(release);
+        AiJobServiceImpl service = newService(new StubRedisService(), insight, 1, 1);
+        try {
+            service.submitAsk(askRequest(1L), "running");
+            service.submitAsk(askRequest(1L), "queued");
+
+            insight.cached = objectMapper.createObjectNode().put("ok", true).put("data", "cached");
+            AiJobDTO job = service.submitAsk(askRequest(1L), "cached");
+
+            assertEquals(AiJobStatus.SUCCEEDED, job.getStatus());
+            assertEquals("cached", service.getJob(1L, job.getJobId()).getResult().path("data").asText());
+            assertEquals(List.of(1L), insight.calls);
+        } finally {
+            release.countDown();
+            service.shutdownJobExecutor();
+        }
+    }
+
+    @Test
+    @DisplayName("실행 노드가 사라져 오래 갱신되지 않은 작업은 조회 시 실패로 기록")
+    public void testOrphanedJobReportedAsFailed() {
+        StubRedisService redis = new StubRedisService();
+        AiJobServiceImpl service = newService(redis, new BlockingInsightService(new CountDownLatch(0)), 1, 1);
+        LocalDateTime longAgo = LocalDateTime.now().minusSeconds(300 + 650 + 60);
+        redis.save(AiJobDTO.builder()
+                .jobId("orphan")
+                .type("ask")
+                .brandId(1L)
+                .status(AiJobStatus.RUNNING)
+                .progress(10)
+                .createdAt(longAgo)
+                .updatedAt(longAgo)
+                .build());
+        redis.save(AiJobDTO.builder()
+                .jobId("recent")
+                .type("ask")
+                .brandId(1L)
+                .status(AiJobStatus.QUEUED)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        assertEquals(AiJobStatus.FAILED, service.getJob(1L, "orphan").getStatus());
+        assertEquals(AiJobStatus.FAILED, redis.find("orphan").getStatus());
+        assertEquals(AiJobStatus.QUEUED, service.getJob(1L, "recent").getStatus());
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    // 질문 동시 실행 1개, 브랜드 ID 를 그대로 회사로 사용
+    private AiJobServiceImpl newService(AiJobRedisService redis, AiInsightService insight, int poolSize,
+                                        int maxQueuedPerCompany) {
+        AiWorkloadScheduler scheduler = new AiWorkloadScheduler(new SimpleMeterRegistry(),
+                new MockEnvironment().withProperty("ai.scheduler.ask.max-concurrent", "1"), 100, maxQueuedPerCompany, 5);
+        AiTenantResolver tenantResolver = new AiTenantResolver(null, null) {
+            @Override
+            public String ofBrand(Long brandId) {
+                return String.valueOf(brandId);
+            }
+        };
+        return new AiJobServiceImpl(insight, redis, objectMapper, scheduler, tenantResolver, poolSize, 60, 15000, 300, 650);
+    }
+
+    private AiAskRequestDTO askRequest(Long brandId) {
+        AiAskRequestDTO req = new AiAskRequestDTO();
+        req.setBrandId(brandId);
+        req.setProjectId(1L);
+        req.setQuestion("질문");
+        return req;
+    }
+
+    private AiJobDTO awaitTerminal(AiJobServiceImpl service, Long brandId, String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        AiJobDTO job = service.getJob(brandId, jobId);
+        while (!job.getStatus().isTerminal() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = service.getJob(brandId, jobId);
+        }
+        return job;
+    }
+
+    private static class StubRedisService implements AiJobRedisService {
+        private final Map<String, AiJobDTO> store = new ConcurrentHashMap<>();
+
+        @Override
+        public void save(AiJobDTO job) {
+            store.put(job.getJobId(), job);
+        }
+
+        @Override
+        public AiJobDTO find(String jobId) {
+            return store.get(jobId);
+        }
+
+        @Override
+        public void publish(AiJobDTO job) {
+        }
+
+        @Override
+        public void subscribe(Consumer<AiJobDTO> listener) {
+        }
+    }
+
+    // release 가 열릴 때까지 LLM 호출이 끝나지 않는 AI 서비스 (호출 순서대로 브랜드 ID 기록)
+    private class BlockingInsightService implements AiInsightService {
+        private final CountDownLatch release;
+        private final List<Long> calls = Collections.synchronizedList(new ArrayList<>());
+        // findCachedAnswer 가 돌려줄 캐시된 답변 (null 이면 미스)
+        private volatile JsonNode cached;
+
+        BlockingInsightService(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public JsonNode askAiInsight(AiAskRequestDTO req, String traceId) {
+            if (req != null) {
+                calls.add(req.getBrandId());
+            }
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return objectMapper.createObjectNode().put("ok", true).put("data", "answer");
+        }
+
+        @Override
+        public JsonNode generateSolutionReport(SolutionReportRequestDTO req, String traceId) {
+            return askAiInsight(null, traceId);
+        }
+
+        @Override
+        public JsonNode findCachedAnswer(AiAskRequestDTO req) {
+            return cached;
+        }
+
+        @Override
+        public JsonNode findCachedSolutionReport(SolutionReportRequestDTO req) {
+            return cached;
+        }
+
+        @Override
+        public JsonNode saveReportAsSolution(SaveReportRequestDTO req, String traceId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getFreeReportCount(Long memberId) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.InsightMarket.service;
+
+import com.InsightMarket.ai.AiWorkloadClass;
+import com.InsightMarket.ai.AiWorkloadScheduler;
+import com.InsightMarket.common.exception.ApiException;
+import com.InsightMarket.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AI 공정 스케줄러 테스트 (동시 실행 1개로 실행 순서 확인)
+ */
+public class AiWorkloadSchedulerTests {
+
+    @Test
+    @DisplayName("요청을 많이 쌓은 회사가 있어도 다른 회사 요청은 번갈아 실행")
+    public void testRoundRobinAcrossCompanies() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AiWorkloadScheduler scheduler = newScheduler(registry, new MockEnvironment(), 100, 20);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // 자리를 차지한 요청이 끝나기 전에 A 회사 4건, B 회사 2건을 순서대로 대기
+            pool.submit(() -> scheduler.execute(AiWorkloadClass.ASK, "blocker", () -> await(release)));
+            awaitQueued(registry, 0, "ask");
+            for (int i = 0; i < 4; i++) {
+                submit(pool, scheduler, registry, "A", order, i + 1);
+            }
+            for (int i = 0; i < 2; i++) {
+                submit(pool, scheduler, registry, "B", order, 5 + i);
+            }
+            release.countDown();
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(List.of("A", "B", "A", "B", "A", "A"), order);
+        assertEquals(7, registry.get("ai.workload.queue.wait").tag("class", "ask").timer().count());
+    }
+
+    @Test
+    @DisplayName("회사별 대기 한도를 넘으면 바로 거절하고, 다른 종류 요청은 영향 없음")
+    public void testRejectsWhenCompanyQueueFull() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AiWorkloadScheduler scheduler = newScheduler(registry, new MockEnvironment(), 100, 1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            pool.submit(() -> scheduler.execute(AiWorkloadClass.IMAGE_ANALYZE, "A", () -> await(release)));
+            awaitQueued(registry, 0, "image-analyze");
+            pool.submit(() -> scheduler.execute(AiWorkloadClass.IMAGE_ANALYZE, "A", () -> "queued"));
+            awaitQueued(registry, 1, "image-analyze");
+
+            ApiException e = assertThrows(ApiException.class,
+                    () -> scheduler.execute(AiWorkloadClass.IMAGE_ANALYZE, "A", () -> "rejected"));
+            assertEquals(ErrorCode.AI_WORKLOAD_QUEUE_FULL, e.getErrorCode());
+            assertTrue(AiWorkloadScheduler.isRejected(new RuntimeException(e)));
+
+            assertEquals("ok", scheduler.execute(AiWorkloadClass.ASK, "A", () -> "ok"));
+        } finally {
+            release.countDown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1.0, registry.get("ai.workload.rejected")
+                .tags("class", "image-analyze", "reason", "queue-full").counter().count());
+    }
+
+    @Test
+    @DisplayName("submit 으로 순서를 받은 작업 안의 같은 종류 execute 는 자리를 다시 잡지 않음")
+    public void testSubmittedTaskReentersWithoutSecondSlot() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AiWorkloadScheduler scheduler = newScheduler(registry, new MockEnvironment(), 100, 20);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try {
+            scheduler.submit(AiWorkloadClass.ASK, "A",
+                    () -> result.complete(scheduler.execute(AiWorkloadClass.ASK, "A", () -> "nested")),
+                    pool, result::completeExceptionally);
+            assertEquals("nested", result.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        assertEquals(0.0, registry.get("ai.workload.running").tag("class", "ask").gauge().value());
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private AiWorkloadScheduler newScheduler(SimpleMeterRegistry registry, MockEnvironment environment,
+                                             int maxQueued, int maxQueuedPerCompany) {
+        environment.withProperty("ai.scheduler.ask.max-concurrent", "1")
+                .withProperty("ai.scheduler.image-analyze.max-concurrent", "1");
+        return new AiWorkloadScheduler(registry, environment, maxQueued, maxQueuedPerCompany, 5);
+    }
+
+    // 제출 순서를 고정하기 위해 앞 요청이 대기열에 들어간 것을 확인한 뒤 다음 요청 제출
+    private void submit(ExecutorService pool, AiWorkloadScheduler scheduler, SimpleMeterRegistry registry,
+                        String tenant, List<String> order, int expectedQueued) throws InterruptedException {
+        pool.submit(() -> scheduler.execute(AiWorkloadClass.ASK, tenant, () -> order.add(tenant)));
+        awaitQueued(registry, expectedQueued, "ask");
+    }
+
+    private void awaitQueued(SimpleMeterRegistry registry, int expected, String workloadClass) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (registry.get("ai.workload.queued").tag("class", workloadClass).gauge().value() != expected
+                || registry.get("ai.workload.running").tag("class", workloadClass).gauge().value() != 1) {
+            assertTrue(System.currentTimeMillis() < deadline, "대기열 상태 대기 시간 초과");
+            Thread.sleep(10);
+        }
+    }
+
+    private String await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}
@@ -0,0 +1,98 @@
+package com.InsightMarket.service;
+
+import com.InsightMarket.ai.PythonCallCoalescer;
+import com.InsightMarket.ai.PythonEndpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PythonCallCoalescerTests {
+
+    @Test
+    @DisplayName("진행 중인 같은 요청은 한 번만 호출하고 결과를 함께 받음")
+    public void testIdenticalCallsShareOneRequest() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PythonCallCoalescer coalescer = new PythonCallCoalescer(registry, true);
+        Sinks.One<String> response = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+
+        AtomicReference<String> first = new AtomicReference<>();
+        AtomicReference<String> second = new AtomicReference<>();
+        coalescer.coalesce(PythonEndpoint.ASK_STRATEGY, body("a", "b"), () -> call(calls, response)).subscribe(first::set);
+        // 맵 키 순서가 달라도 같은 요청으로 취급
+        coalescer.coalesce(PythonEndpoint.ASK_STRATEGY, body("b", "a"), () -> call(calls, response)).subscribe(second::set);
+
+        response.tryEmitValue("answer");
+
+        assertEquals(1, calls.get());
+        assertEquals("answer", first.get());
+        assertEquals("answer", second.get());
+        assertEquals(0, coalescer.inFlightCount());
+        assertEquals(1.0, registry.counter("python.coalesce.saved", "endpoint", "ask-strategy").count());
+    }
+
+    @Test
+    @DisplayName("합류한 요청 하나가 취소해도 호출은 계속되고, 모두 취소하면 호출도 취소")
+    public void testCancellationIsRefCounted() {
+        PythonCallCoalescer coalescer = new PythonCallCoalescer(new SimpleMeterRegistry(), true);
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        Mono<String> never = Mono.<String>never().doOnCancel(() -> upstreamCancelled.set(true));
+
+        Disposable first = coalescer.coalesce(PythonEndpoint.TRENDS, body("a", "b"), () -> never).subscribe();
+        Disposable second = coalescer.coalesce(PythonEndpoint.TRENDS, body("a", "b"), () -> never).subscribe();
+
+        first.dispose();
+        assertFalse(upstreamCancelled.get());
+        assertEquals(1, coalescer.inFlightCount());
+
+        second.dispose();
+        assertTrue(upstreamCancelled.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("부작용이 있는 호출과 끝난 호출 이후 요청은 새로 보냄")
+    public void testNonIdempotentAndCompletedCallsAreNotShared() {
+        PythonCallCoalescer coalescer = new PythonCallCoalescer(new SimpleMeterRegistry(), true);
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> ok = Mono.fromSupplier(() -> "ok" + calls.incrementAndGet());
+
+        assertEquals("ok1", coalescer.coalesce(PythonEndpoint.SOLUTION_REPORT, body("a", "b"), () -> ok).block());
+        assertEquals("ok2", coalescer.coalesce(PythonEndpoint.SOLUTION_REPORT, body("a", "b"), () -> ok).block());
+
+        Sinks.One<String> response = Sinks.one();
+        AtomicInteger analyzeCalls = new AtomicInteger();
+        coalescer.coalesce(PythonEndpoint.ANALYZE, body("a", "b"), () -> call(analyzeCalls, response)).subscribe();
+        coalescer.coalesce(PythonEndpoint.ANALYZE, body("a", "b"), () -> call(analyzeCalls, response)).subscribe();
+        assertEquals(2, analyzeCalls.get());
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    // 같은 내용을 넣는 순서만 다르게 만든 요청 본문
+    private Map<String, Object> body(String firstKey, String secondKey) {
+        Map<String, Object> values = Map.of("a", 1, "b", 2);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put(firstKey, values.get(firstKey));
+        body.put(secondKey, values.get(secondKey));
+        return body;
+    }
+
+    private Mono<String> call(AtomicInteger calls, Sinks.One<String> response) {
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.InsightMarket.service;
+
+import com.InsightMarket.ai.PythonPayloadMeter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PythonPayloadMeterTests {
+
+    @Test
+    @DisplayName("multipart 이미지 전송 크기는 원본 파일 크기 수준 (Base64 증가 없음)")
+    public void testMultipartImageIsSentWithoutBase64Overhead(@TempDir Path dir) throws Exception {
+        byte[] image = new byte[2 * 1024 * 1024];
+        new Random(7).nextBytes(image);
+        Path file = Files.write(dir.resolve("upload.png"), image);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        WebClient client = WebClient.builder()
+                .exchangeFunction(request -> {
+                    MockClientHttpRequest sent = new MockClientHttpRequest(request.method(), request.url());
+                    return request.writeTo(sent, ExchangeStrategies.withDefaults())
+                            .then(Mono.just(ClientResponse.create(HttpStatus.OK)
+                                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                                    .body("{\"ok\":true}")
+                                    .build()));
+                })
+                .filter(new PythonPayloadMeter(registry, "image"))
+                .build();
+
+        MultipartBodyBuilder parts = new MultipartBodyBuilder();
+        parts.part("image", new FileSystemResource(file)).filename("upload.png").contentType(MediaType.IMAGE_PNG);
+        parts.part("provider", "openai");
+
+        String response = client.post()
+                .uri("http://localhost:8000/api/image/analyze-upload")
+                .body(BodyInserters.fromMultipartData(parts.build()))
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+
+        assertEquals("{\"ok\":true}", response);
+
+        double requestBytes = registry.get("python.http.request.bytes").tag("client", "image").summary().totalAmount();
+        assertTrue(requestBytes > image.length);
+        assertTrue(requestBytes < image.length * 1.01, "multipart 헤더 외 추가 바이트 없음: " + requestBytes);
+        assertEquals(11.0, registry.get("python.http.response.bytes").tag("client", "image").summary().totalAmount());
+    }
+}
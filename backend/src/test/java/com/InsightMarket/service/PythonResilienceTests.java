@@ -0,0 +1,96 @@
+package com.InsightMarket.service;
+
+import com.InsightMarket.ai.PythonEndpoint;
+import com.InsightMarket.ai.PythonResilience;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PythonResilienceTests {
+
+    @Test
+    @DisplayName("벌크헤드가 가득 차면 기다리지 않고 바로 거절")
+    public void testBulkheadRejectsImmediately() {
+        PythonResilience resilience = newResilience(new MockEnvironment()
+                .withProperty("python.resilience.bulkhead.analyze.max-concurrent", "1"));
+
+        // 응답이 오지 않는 호출이 자리를 차지한 상태
+        Disposable pending = resilience.decorate(PythonEndpoint.ANALYZE, Mono.never()).subscribe();
+        try {
+            Exception e = assertThrows(BulkheadFullException.class,
+                    () -> resilience.decorate(PythonEndpoint.ANALYZE, Mono.just("ok")).block());
+            assertTrue(PythonResilience.isRejected(new RuntimeException("wrapped", e)));
+        } finally {
+            pending.dispose();
+        }
+
+        assertEquals("ok", resilience.decorate(PythonEndpoint.ANALYZE, Mono.just("ok")).block());
+    }
+
+    @Test
+    @DisplayName("실패가 이어지면 서킷이 열려 Python 을 호출하지 않음")
+    public void testCircuitOpensAfterFailures() {
+        PythonResilience resilience = newResilience(new MockEnvironment());
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(new IllegalStateException("python 500"));
+        });
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalStateException.class,
+                    () -> resilience.decorate(PythonEndpoint.ANALYZE, failing).block());
+        }
+        assertThrows(CallNotPermittedException.class,
+                () -> resilience.decorate(PythonEndpoint.ANALYZE, failing).block());
+
+        assertEquals(5, calls.get());
+        assertEquals("OPEN", resilience.getStates().get(PythonEndpoint.ANALYZE.ordinal()).getState());
+        assertEquals("CLOSED", resilience.reset("analyze").getState());
+    }
+
+    @Test
+    @DisplayName("연결 오류는 멱등 호출만 재시도")
+    public void testRetriesOnlyIdempotentConnectFailures() {
+        PythonResilience resilience = newResilience(new MockEnvironment());
+        AtomicInteger idempotentCalls = new AtomicInteger();
+        AtomicInteger analyzeCalls = new AtomicInteger();
+
+        assertThrows(WebClientRequestException.class, () -> resilience.decorate(PythonEndpoint.ASK_STRATEGY,
+                connectFailure(idempotentCalls)).block());
+        assertThrows(WebClientRequestException.class, () -> resilience.decorate(PythonEndpoint.ANALYZE,
+                connectFailure(analyzeCalls)).block());
+
+        assertEquals(3, idempotentCalls.get());
+        assertEquals(1, analyzeCalls.get());
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private PythonResilience newResilience(MockEnvironment environment) {
+        // 재시도 간격은 테스트 시간을 줄이기 위해 짧게
+        return new PythonResilience(new SimpleMeterRegistry(), environment, 50f, 120, 20, 5, 30, 3, 10);
+    }
+
+    private Mono<String> connectFailure(AtomicInteger calls) {
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(new WebClientRequestException(new ConnectException("Connection refused"),
+                    HttpMethod.POST, URI.create("http://localhost:8000/api"), new HttpHeaders()));
+        });
+    }
+}
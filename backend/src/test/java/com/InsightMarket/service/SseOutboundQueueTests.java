@@ -0,0 +1,122 @@
+package com.InsightMarket.service;
+
+import com.InsightMarket.service.sse.SseBackpressurePolicy;
+import com.InsightMarket.service.sse.SseOutboundQueue;
+import com.InsightMarket.service.sse.SseQueueMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SseOutboundQueueTests {
+
+    private static final int CAPACITY = 4;
+
+    @Test
+    @DisplayName("DROP_OLDEST: 느린 구독자의 큐는 용량을 넘지 않고 오래된 이벤트부터 버림")
+    public void testDropOldest() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Sinks.Many<ServerSentEvent<String>> upstream = Sinks.many().multicast().onBackpressureBuffer();
+        SlowSubscriber subscriber = new SlowSubscriber();
+
+        new SseOutboundQueue(CAPACITY, SseBackpressurePolicy.DROP_OLDEST, new SseQueueMetrics(registry), Set.of("connection-count"))
+                .connect(upstream.asFlux())
+                .subscribe(subscriber);
+
+        for (int i = 0; i < 100; i++) {
+            upstream.tryEmitNext(event("trend-update", String.valueOf(i)));
+        }
+
+        // 첫 이벤트 1건만 전달되고 나머지는 큐(최대 4건)에 남거나 버려짐
+        assertEquals(List.of("0"), subscriber.received);
+        assertEquals(CAPACITY, registry.get("sse.outbound.queue.depth").gauge().value());
+        assertEquals(100 - 1 - CAPACITY, registry.get("sse.outbound.dropped").counter().count());
+
+        // 이후 요청하면 가장 최근 이벤트들이 순서대로 전달됨
+        subscriber.more(CAPACITY);
+        assertEquals(List.of("0", "96", "97", "98", "99"), subscriber.received);
+    }
+
+    @Test
+    @DisplayName("COALESCE_LATEST: 상태성 이벤트만 최신 값으로 대체하고 trend 이벤트는 모두 유지")
+    public void testCoalesceLatest() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Sinks.Many<ServerSentEvent<String>> upstream = Sinks.many().multicast().onBackpressureBuffer();
+        SlowSubscriber subscriber = new SlowSubscriber();
+
+        new SseOutboundQueue(CAPACITY, SseBackpressurePolicy.COALESCE_LATEST, new SseQueueMetrics(registry), Set.of("connection-count"))
+                .connect(upstream.asFlux())
+                .subscribe(subscriber);
+
+        upstream.tryEmitNext(event("connected", "c"));
+        upstream.tryEmitNext(event("connection-count", "1"));
+        upstream.tryEmitNext(event("trend-update", "t1"));
+        upstream.tryEmitNext(event("connection-count", "2"));
+        upstream.tryEmitNext(event("trend-update", "t2"));
+        upstream.tryEmitNext(event("connection-count", "3"));
+        upstream.tryEmitNext(event("trend-update", "t3"));
+
+        subscriber.more(CAPACITY);
+        assertEquals(2, registry.get("sse.outbound.coalesced").counter().count());
+        assertEquals(List.of("c", "t1", "t2", "3", "t3"), subscriber.received);
+    }
+
+    @Test
+    @DisplayName("DISCONNECT: 큐가 가득 차면 연결을 종료")
+    public void testDisconnect() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Sinks.Many<ServerSentEvent<String>> upstream = Sinks.many().multicast().onBackpressureBuffer();
+        SlowSubscriber subscriber = new SlowSubscriber();
+
+        new SseOutboundQueue(CAPACITY, SseBackpressurePolicy.DISCONNECT, new SseQueueMetrics(registry), Set.of("connection-count"))
+                .connect(upstream.asFlux())
+                .subscribe(subscriber);
+
+        for (int i = 0; i < 10; i++) {
+            upstream.tryEmitNext(event("trend-update", String.valueOf(i)));
+        }
+
+        assertTrue(subscriber.completed.get());
+        assertEquals(1, registry.get("sse.outbound.evicted").counter().count());
+        assertEquals(0, upstream.currentSubscriberCount());
+    }
+
+    private ServerSentEvent<String> event(String name, String data) {
+        return ServerSentEvent.<String>builder().event(name).data(data).build();
+    }
+
+    // 처음에 1건만 요청하고 이후에는 명시적으로 요청할 때만 받는 구독자
+    private static class SlowSubscriber extends BaseSubscriber<ServerSentEvent<String>> {
+        private final List<String> received = new ArrayList<>();
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            request(1);
+        }
+
+        @Override
+        protected void hookOnNext(ServerSentEvent<String> value) {
+            received.add(value.data());
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            completed.set(true);
+        }
+
+        void more(int n) {
+            request(n);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.InsightMarket.service;
+
+import com.InsightMarket.common.event.RisingTokensDetectedEvent;
+import com.InsightMarket.domain.analytics.keyword.AnalysisTargetType;
+import com.InsightMarket.domain.analytics.keyword.AnalyticsKeywordTokenSentimentStats;
+import com.InsightMarket.domain.analytics.keyword.Sentiment;
+import com.InsightMarket.domain.analytics.velocity.AnalyticsRisingToken;
+import com.InsightMarket.domain.analytics.velocity.AnalyticsTokenVelocity;
+import com.InsightMarket.dto.dashboard.RisingTokenDTO;
+import com.InsightMarket.repository.analytics.velocity.AnalyticsRisingTokenRepository;
+import com.InsightMarket.repository.analytics.velocity.AnalyticsTokenVelocityRepository;
+import com.InsightMarket.service.analytics.TokenVelocityServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 급상승 토큰 감지 테스트 (저장소는 메모리 스텁, DB 없이 실행)
+ */
+public class TokenVelocityServiceTests {
+
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    private final Map<String, AnalyticsTokenVelocity> velocities = new HashMap<>();
+    private final List<RisingTokenDTO> rising = new ArrayList<>();
+
+    private final TokenVelocityServiceImpl service = new TokenVelocityServiceImpl(
+            velocityRepository(), risingTokenRepository(),
+            event -> rising.addAll(((RisingTokensDetectedEvent) event).getRisingTokens()));
+
+    @Test
+    @DisplayName("처음 관측한 토큰은 빈도가 커도 급상승으로 보지 않음")
+    public void testFirstSeenTokenIsNotRising() {
+        // 수집을 시작하자마자 매일 같은 빈도로 나타나는 토큰
+        for (int day = 0; day < 3; day++) {
+            rising.clear();
+            service.update(List.of(stat("신제품", START.plusDays(day), 30), stat("배송", START.plusDays(day), 8)));
+            assertTrue(rising.isEmpty(), day + 1 + "일차에 급상승으로 감지됨");
+        }
+    }
+
+    @Test
+    @DisplayName("평소보다 갑자기 많이 나타난 토큰은 급상승으로 감지")
+    public void testSpikeAfterHistoryIsRising() {
+        for (int day = 0; day < 14; day++) {
+            rising.clear();
+            service.update(List.of(stat("리콜", START.plusDays(day), 1), stat("배송", START.plusDays(day), 8)));
+        }
+        assertTrue(rising.isEmpty());
+
+        rising.clear();
+        service.update(List.of(stat("리콜", START.plusDays(14), 20), stat("배송", START.plusDays(14), 8)));
+        assertEquals(List.of("리콜"), rising.stream().map(RisingTokenDTO::getToken).toList());
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private AnalyticsKeywordTokenSentimentStats stat(String token, LocalDate date, int count) {
+        return AnalyticsKeywordTokenSentimentStats.builder()
+                .brandId(BRAND_ID)
+                .analysisTargetType(AnalysisTargetType.BRAND)
+                .statDate(date)
+                .source("NAVER")
+                .token(token)
+                .sentiment(Sentiment.NEU)
+                .tokenCount(count)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private AnalyticsTokenVelocityRepository velocityRepository() {
+        return (AnalyticsTokenVelocityRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{AnalyticsTokenVelocityRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findByBrandIdAndTokenIn" -> ((Collection<String>) args[1]).stream()
+                            .filter(velocities::containsKey).map(velocities::get).toList();
+                    case "findByBrandIdAndFastRateGreaterThanEqual" -> velocities.values().stream()
+                            .filter(v -> v.getFastRate() >= (Double) args[1]).toList();
+                    case "saveAll" -> {
+                        ((Iterable<AnalyticsTokenVelocity>) args[0]).forEach(v -> velocities.put(v.getToken(), v));
+                        yield List.of();
+                    }
+                    case "flush" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private AnalyticsRisingTokenRepository risingTokenRepository() {
+        return (AnalyticsRisingTokenRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{AnalyticsRisingTokenRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "deleteByBrandId" -> 0;
+                    case "saveAll" -> List.<AnalyticsRisingToken>of();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,281 @@
+package com.InsightMarket.service;
+
+import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
+import com.InsightMarket.ai.dto.trends.TrendItemDTO;
+import com.InsightMarket.ai.service.trends.TrendsDbService;
+import com.InsightMarket.ai.service.trends.TrendsRedisService;
+import com.InsightMarket.ai.service.trends.TrendsServiceImpl;
+import com.InsightMarket.service.sse.SseQueueMetrics;
+import com.InsightMarket.service.sse.TrendSseServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 트렌드 SSE 멀티캐스트 허브 부하 테스트 (DB/Redis 없이 실행)
+ * - 같은 브랜드에 10,000개 구독을 붙이며 연결 수 대비 힙 사용량을 기록 (load 태그, ./gradlew loadTest 로만 실행)
+ * - 브로드캐스트 1회가 모든 구독자에게 전달되는지 확인
+ * - 연결 수 이벤트는 구독 시점이 아닌 주기 작업에서 한 번만 전송되는지 확인
+ * - Last-Event-ID 재연결 시 저장소 재조회 없이 놓친 이벤트만 받는지 확인
+ * - 순위 일부만 바뀐 갱신은 전체 스냅샷보다 훨씬 작은 trend-delta 로 전달되는지 확인
+ * - 한 건씩 요청하는 느린 구독자도 trend-delta 를 빠짐없이 받아 기준 버전이 이어지는지 확인
+ */
+@Log4j2
+public class TrendSseHubLoadTests {
+
+    private static final int CONNECTIONS = 10_000;
+    private static final int STEP = 2_500;
+
+    @Test
+    @Tag("load")
+    @DisplayName("10k 동시 구독: 연결 수 대비 힙 사용량")
+    public void testTenThousandSubscribers() {
+        TrendSseServiceImpl hub = newHub(new StubRedisService());
+        Long brandId = 1L;
+
+        AtomicLong trendEvents = new AtomicLong();
+        AtomicLong countEvents = new AtomicLong();
+        List<Disposable> subscriptions = new ArrayList<>(CONNECTIONS);
+
+        long baseline = usedHeapAfterGc();
+        log.info("[LoadTest] connections=0 heapUsed={}KB", baseline / 1024);
+
+        for (int i = 1; i <= CONNECTIONS; i++) {
+            subscriptions.add(hub.subscribe(brandId, null).subscribe(event -> count(event, trendEvents, countEvents)));
+            if (i % STEP == 0) {
+                long used = usedHeapAfterGc();
+                log.info("[LoadTest] connections={} heapUsed={}KB perConnection={}B",
+                        i, used / 1024, (used - baseline) / i);
+            }
+        }
+        assertEquals(CONNECTIONS, hub.getConnectionCount(brandId));
+        // 구독 시점에 재생된 initial-data 를 모두 받았는지 확인
+        assertEquals(CONNECTIONS, trendEvents.get());
+
+        // 연결마다 전체에 연결 수를 보내지 않고, 주기 작업 1회에 구독자당 1건만 전달
+        assertEquals(0, countEvents.get());
+        hub.flushConnectionCounts();
+        assertEquals(CONNECTIONS, countEvents.get());
+        hub.flushConnectionCounts();
+        assertEquals(CONNECTIONS, countEvents.get());
+
+        long start = System.nanoTime();
+        hub.broadcast(brandId, new PythonTrendResponseDTO());
+        log.info("[LoadTest] broadcast to {} subscribers took {}ms", CONNECTIONS, (System.nanoTime() - start) / 1_000_000);
+        assertEquals(CONNECTIONS * 2L, trendEvents.get());
+
+        subscriptions.forEach(Disposable::dispose);
+        assertEquals(0, hub.getConnectionCount(brandId));
+        log.info("[LoadTest] connections=0 (after dispose) heapUsed={}KB", usedHeapAfterGc() / 1024);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 재연결: 놓친 trend-update 만 메모리에서 재생")
+    public void testResumeFromLastEventId() {
+        StubRedisService redis = new StubRedisService();
+        TrendSseServiceImpl hub = newHub(redis);
+        Long brandId = 1L;
+
+        List<ServerSentEvent<String>> first = new ArrayList<>();
+        Disposable subscription = hub.subscribe(brandId, null).subscribe(first::add);
+        hub.broadcast(brandId, new PythonTrendResponseDTO());
+        String lastEventId = first.get(first.size() - 1).id();
+        subscription.dispose();
+
+        // 연결이 끊긴 사이의 갱신 2건
+        hub.broadcast(brandId, new PythonTrendResponseDTO());
+        hub.broadcast(brandId, new PythonTrendResponseDTO());
+
+        List<ServerSentEvent<String>> resumed = new ArrayList<>();
+        hub.subscribe(brandId, Long.parseLong(lastEventId)).subscribe(resumed::add);
+        List<String> names = resumed.stream().map(ServerSentEvent::event).toList();
+        assertEquals(List.of("connected", "trend-update", "trend-update"), names);
+        assertEquals(1, redis.reads.get());
+
+        // 버퍼 범위를 벗어난 id 는 최신 스냅샷부터 다시 받음
+        List<ServerSentEvent<String>> stale = new ArrayList<>();
+        hub.subscribe(brandId, 1L).subscribe(stale::add);
+        assertEquals(List.of("connected", "initial-data"), stale.stream().map(ServerSentEvent::event).toList());
+        assertEquals(resumed.get(resumed.size() - 1).id(), stale.get(1).id());
+    }
+
+    @Test
+    @DisplayName("trend-delta: 순위 한 칸 변경은 변경분만 전송")
+    public void testDeltaEncodedUpdate() {
+        TrendSseServiceImpl hub = newHub(new StubRedisService());
+        Long brandId = 1L;
+
+        List<ServerSentEvent<String>> received = new ArrayList<>();
+        hub.subscribe(brandId, null).subscribe(received::add);
+
+        List<TrendItemDTO> top = new ArrayList<>();
+        List<TrendItemDTO> rising = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            top.add(new TrendItemDTO("인기 연관 검색어 " + i, String.valueOf(100 - i)));
+            rising.add(new TrendItemDTO("급상승 연관 검색어 " + i, "+" + (500 - i * 10) + "%"));
+        }
+        hub.broadcast(brandId, trend(top, rising));
+
+        // 3위와 4위만 자리를 바꾼 갱신
+        List<TrendItemDTO> swapped = new ArrayList<>(top);
+        swapped.set(3, top.get(4));
+        swapped.set(4, top.get(3));
+        hub.broadcast(brandId, trend(swapped, rising));
+
+        ServerSentEvent<String> full = received.get(received.size() - 2);
+        ServerSentEvent<String> delta = received.get(received.size() - 1);
+        assertEquals("trend-update", full.event());
+        assertEquals("trend-delta", delta.event());
+        assertTrue(delta.data().contains("\"baseVersion\":" + full.id()));
+        log.info("[LoadTest] full={}B delta={}B", full.data().length(), delta.data().length());
+        assertTrue(delta.data().length() * 5 < full.data().length());
+    }
+
+    @Test
+    @DisplayName("느린 구독자: 밀린 trend-delta 는 대체되지 않고 기준 버전이 끊기지 않음")
+    public void testSlowSubscriberKeepsDeltaChain() {
+        TrendSseServiceImpl hub = newHub(new StubRedisService());
+        Long brandId = 1L;
+
+        // 응답 writer 처럼 한 번에 1건만 요청하는 구독자
+        SlowSubscriber subscriber = new SlowSubscriber();
+        hub.subscribe(brandId, null).subscribe(subscriber);
+
+        List<TrendItemDTO> top = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            top.add(new TrendItemDTO("인기 연관 검색어 " + i, String.valueOf(100 - i)));
+        }
+        hub.broadcast(brandId, trend(top, List.of()));
+        for (int round = 0; round < 3; round++) {
+            List<TrendItemDTO> swapped = new ArrayList<>(top);
+            swapped.set(round, top.get(round + 1));
+            swapped.set(round + 1, top.get(round));
+            top = swapped;
+            hub.broadcast(brandId, trend(top, List.of()));
+        }
+        hub.flushConnectionCounts();
+        assertEquals(1, subscriber.received.size());
+
+        subscriber.request(100);
+        List<String> names = subscriber.received.stream().map(ServerSentEvent::event).toList();
+        assertEquals(List.of("connected", "initial-data", "trend-update",
+                "trend-delta", "trend-delta", "trend-delta", "connection-count"), names);
+
+        // 각 변경분의 기준 버전은 직전에 받은 이벤트 id
+        for (int i = 3; i <= 5; i++) {
+            assertTrue(subscriber.received.get(i).data()
+                    .contains("\"baseVersion\":" + subscriber.received.get(i - 1).id()));
+        }
+    }
+
+    private PythonTrendResponseDTO trend(List<TrendItemDTO> top, List<TrendItemDTO> rising) {
+        return PythonTrendResponseDTO.builder()
+                .keyword("브랜드")
+                .brandId(1L)
+                .collectedAt("2026-01-01T00:00:00")
+                .data(new PythonTrendResponseDTO.TrendData(top, rising))
+                .build();
+    }
+
+    private TrendSseServiceImpl newHub(TrendsRedisService redis) {
+        return new TrendSseServiceImpl(new ObjectMapper(), new TrendsServiceImpl(null, redis, new StubDbService(), null),
+                new SseQueueMetrics(new SimpleMeterRegistry()));
+    }
+
+    private void count(ServerSentEvent<String> event, AtomicLong trendCounter, AtomicLong countCounter) {
+        if ("initial-data".equals(event.event()) || "trend-update".equals(event.event())) {
+            trendCounter.incrementAndGet();
+        } else if ("connection-count".equals(event.event())) {
+            countCounter.incrementAndGet();
+        }
+    }
+
+    private long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    // 처음에 1건만 요청하고 이후에는 명시적으로 요청할 때만 받는 구독자
+    private static class SlowSubscriber extends BaseSubscriber<ServerSentEvent<String>> {
+        private final List<ServerSentEvent<String>> received = new ArrayList<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            request(1);
+        }
+
+        @Override
+        protected void hookOnNext(ServerSentEvent<String> value) {
+            received.add(value);
+        }
+    }
+
+    private static class StubRedisService implements TrendsRedisService {
+        private final AtomicLong reads = new AtomicLong();
+
+        @Override
+        public void saveTrendData(Long brandId, PythonTrendResponseDTO data) {
+        }
+
+        @Override
+        public void touchTrendData(Long brandId) {
+        }
+
+        @Override
+        public void markRefreshed(Long brandId, long refreshedAtMillis) {
+        }
+
+        @Override
+        public Map<Long, Long> getRefreshedAt(Collection<Long> brandIds) {
+            return Map.of();
+        }
+
+        @Override
+        public void saveAll(Map<Long, PythonTrendResponseDTO> dataByBrandId) {
+        }
+
+        @Override
+        public Map<Long, PythonTrendResponseDTO> getTrendData(Collection<Long> brandIds) {
+            return Map.of();
+        }
+
+        @Override
+        public PythonTrendResponseDTO getTrendData(Long brandId) {
+            reads.incrementAndGet();
+            return new PythonTrendResponseDTO();
+        }
+    }
+
+    private static class StubDbService implements TrendsDbService {
+        @Override
+        public boolean saveTrendData(Long brandId, PythonTrendResponseDTO data) {
+            return true;
+        }
+
+        @Override
+        public PythonTrendResponseDTO getTrendData(Long brandId) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.InsightMarket.service;
+
+import com.InsightMarket.ai.dto.trends.TrendRankHistoryDTO;
+import com.InsightMarket.ai.service.trends.TrendsHistoryServiceImpl;
+import com.InsightMarket.repository.trends.BrandTrendRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 트렌드 순위 이력 조회 테스트 (저장소는 메모리 스텁, DB 없이 실행)
+ */
+public class TrendsHistoryServiceTests {
+
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    // [collectedAt, lastSeenAt, dataJson]
+    private final List<Object[]> rows = new ArrayList<>();
+
+    private final TrendsHistoryServiceImpl service = new TrendsHistoryServiceImpl(trendRepository(), new ObjectMapper());
+
+    @Test
+    @DisplayName("내용이 같아 다시 확인만 된 시간대도 직전 순위로 채움")
+    public void testStablePeriodIsForwardFilled() {
+        rows.add(row(DAY.withHour(10).withMinute(5), DAY.withHour(12).withMinute(50), "립밤", "화장품"));
+        rows.add(row(DAY.withHour(13).withMinute(30), DAY.withHour(13).withMinute(30), "화장품", "립밤"));
+
+        TrendRankHistoryDTO history = service.getKeywordRankHistory(
+                BRAND_ID, "립밤", "top", DAY.withHour(10), DAY.withHour(15), "HOUR");
+
+        assertEquals(List.of("2026-01-01 10:05:00", "2026-01-01 11:00:00", "2026-01-01 12:00:00", "2026-01-01 13:30:00"),
+                history.getPoints().stream().map(TrendRankHistoryDTO.Point::getCollectedAt).toList());
+        assertEquals(List.of(1, 1, 1, 2),
+                history.getPoints().stream().map(TrendRankHistoryDTO.Point::getRank).toList());
+    }
+
+    @Test
+    @DisplayName("기간 시작 전에 수집되어 기간 안까지 유지된 스냅샷으로 앞부분을 채움")
+    public void testSnapshotBeforeRangeFillsStart() {
+        rows.add(row(DAY.minusDays(1), DAY.withHour(1).withMinute(40), "립밤"));
+        rows.add(row(DAY.minusDays(2), null, "화장품"));
+
+        TrendRankHistoryDTO history = service.getKeywordRankHistory(
+                BRAND_ID, "립밤", "top", DAY, DAY.withHour(3), "HOUR");
+
+        assertEquals(List.of("2026-01-01 00:00:00", "2026-01-01 01:00:00"),
+                history.getPoints().stream().map(TrendRankHistoryDTO.Point::getCollectedAt).toList());
+        assertEquals(List.of(1, 1),
+                history.getPoints().stream().map(TrendRankHistoryDTO.Point::getRank).toList());
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private Object[] row(LocalDateTime collectedAt, LocalDateTime lastSeenAt, String... topQueries) {
+        StringBuilder top = new StringBuilder();
+        for (String query : topQueries) {
+            top.append(top.isEmpty() ? "" : ",").append("{\"query\":\"").append(query).append("\",\"value\":\"100\"}");
+        }
+        return new Object[]{collectedAt, lastSeenAt, "{\"top\":[" + top + "],\"rising\":[]}"};
+    }
+
+    private BrandTrendRepository trendRepository() {
+        return (BrandTrendRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{BrandTrendRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findHistory" -> rows.stream()
+                            .filter(r -> !((LocalDateTime) r[0]).isBefore((LocalDateTime) args[1])
+                                    && ((LocalDateTime) r[0]).isBefore((LocalDateTime) args[2]))
+                            .sorted(Comparator.comparing(r -> (LocalDateTime) r[0]))
+                            .toList();
+                    case "findLatestBefore" -> rows.stream()
+                            .filter(r -> ((LocalDateTime) r[0]).isBefore((LocalDateTime) args[1]))
+                            .max(Comparator.comparing(r -> (LocalDateTime) r[0]))
+                            .map(r -> List.<Object[]>of(r))
+                            .orElse(List.of());
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
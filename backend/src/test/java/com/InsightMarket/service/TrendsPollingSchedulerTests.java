@@ -0,0 +1,196 @@
+package com.InsightMarket.service;
+
+import com.InsightMarket.ai.PythonClient;
+import com.InsightMarket.ai.dto.scheduler.BrandIdNameDTO;
+import com.InsightMarket.ai.dto.trends.PythonTrendResponseDTO;
+import com.InsightMarket.ai.dto.trends.TrendItemDTO;
+import com.InsightMarket.ai.scheduler.TrendsPollingScheduler;
+import com.InsightMarket.ai.service.trends.TrendsDbService;
+import com.InsightMarket.ai.service.trends.TrendsRedisService;
+import com.InsightMarket.ai.service.trends.TrendsServiceImpl;
+import com.InsightMarket.repository.brand.BrandRepository;
+import com.InsightMarket.service.sse.SseQueueMetrics;
+import com.InsightMarket.service.sse.TrendSseServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 트렌드 폴링 스케줄러 테스트 (노드 2개가 Redis 하나를 공유하는 상황, DB/Redis/Python 없이 실행)
+ * - 한 노드가 수집한 브랜드는 내용 변경 여부와 관계없이 다른 노드가 같은 주기에 다시 수집하지 않는지 확인
+ */
+public class TrendsPollingSchedulerTests {
+
+    private static final Long BRAND_ID = 1L;
+
+    @Test
+    @DisplayName("내용이 같은 재수집도 수집 시각을 기록해 다른 노드는 건너뜀")
+    public void testUnchangedRefreshSkipsOtherNode() throws Exception {
+        assertOtherNodeSkips(false);
+    }
+
+    @Test
+    @DisplayName("내용이 바뀐 수집 후에도 다른 노드는 건너뜀")
+    public void testChangedRefreshSkipsOtherNode() throws Exception {
+        assertOtherNodeSkips(true);
+    }
+
+    //내부 함수 -----------------------------------------------------------------------
+
+    private void assertOtherNodeSkips(boolean changed) throws Exception {
+        StubRedisService redis = new StubRedisService();
+        // 캐시에는 오래전에 수집된 스냅샷이 남아 있음 (내용이 같으면 collectedAt 은 갱신되지 않음)
+        redis.saveTrendData(BRAND_ID, snapshot("2020-01-01 00:00:00"));
+        StubPythonClient python = new StubPythonClient();
+
+        TrendsPollingScheduler first = newNode(redis, python, changed);
+        TrendsPollingScheduler second = newNode(redis, python, changed);
+
+        first.updateAllBrandTrends();
+        awaitCalls(python, 1);
+        assertTrue(redis.refreshedAt.containsKey(BRAND_ID));
+
+        second.updateAllBrandTrends();
+        assertEquals(1, python.calls.get());
+    }
+
+    private TrendsPollingScheduler newNode(TrendsRedisService redis, PythonClient python, boolean changed) {
+        TrendsServiceImpl trendsService = new TrendsServiceImpl(python, redis, new StubDbService(changed), event -> { });
+        TrendSseServiceImpl trendSseService = new TrendSseServiceImpl(new ObjectMapper(), trendsService,
+                new SseQueueMetrics(new SimpleMeterRegistry()));
+        TrendsPollingScheduler scheduler = new TrendsPollingScheduler(trendsService, brandRepository(),
+                trendSseService, redis);
+        ReflectionTestUtils.setField(scheduler, "minSpacingMs", 0L);
+        ReflectionTestUtils.setField(scheduler, "jitterMs", 0L);
+        return scheduler;
+    }
+
+    // 브랜드 목록 조회만 사용하는 저장소
+    private BrandRepository brandRepository() {
+        return (BrandRepository) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{BrandRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAllBrandIdAndName")) {
+                        return List.of(new BrandIdNameDTO(BRAND_ID, "브랜드"));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private PythonTrendResponseDTO snapshot(String collectedAt) {
+        return PythonTrendResponseDTO.builder()
+                .keyword("브랜드")
+                .brandId(BRAND_ID)
+                .collectedAt(collectedAt)
+                .data(new PythonTrendResponseDTO.TrendData(List.of(new TrendItemDTO("브랜드 신제품", "100")), List.of()))
+                .build();
+    }
+
+    private void awaitCalls(StubPythonClient python, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (python.completed.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, python.completed.get());
+    }
+
+    // 호출 즉시 같은 스냅샷을 돌려주는 Python 클라이언트
+    private class StubPythonClient extends PythonClient {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger completed = new AtomicInteger();
+
+        StubPythonClient() {
+            super(null, null, null);
+        }
+
+        @Override
+        public void generateTrends(Long brandId, String brandName, Consumer<PythonTrendResponseDTO> onSuccess,
+                                   Consumer<Throwable> onError) {
+            calls.incrementAndGet();
+            onSuccess.accept(snapshot("2020-01-01 00:00:00"));
+            completed.incrementAndGet();
+        }
+    }
+
+    private static class StubRedisService implements TrendsRedisService {
+        private final Map<Long, PythonTrendResponseDTO> values = new ConcurrentHashMap<>();
+        private final Map<Long, Long> refreshedAt = new ConcurrentHashMap<>();
+
+        @Override
+        public void saveTrendData(Long brandId, PythonTrendResponseDTO data) {
+            values.put(brandId, data);
+        }
+
+        @Override
+        public void saveAll(Map<Long, PythonTrendResponseDTO> dataByBrandId) {
+            values.putAll(dataByBrandId);
+        }
+
+        @Override
+        public void touchTrendData(Long brandId) {
+        }
+
+        @Override
+        public void markRefreshed(Long brandId, long refreshedAtMillis) {
+            refreshedAt.put(brandId, refreshedAtMillis);
+        }
+
+        @Override
+        public Map<Long, Long> getRefreshedAt(Collection<Long> brandIds) {
+            Map<Long, Long> result = new HashMap<>();
+            brandIds.forEach(id -> {
+                if (refreshedAt.containsKey(id)) {
+                    result.put(id, refreshedAt.get(id));
+                }
+            });
+            return result;
+        }
+
+        @Override
+        public PythonTrendResponseDTO getTrendData(Long brandId) {
+            return values.get(brandId);
+        }
+
+        @Override
+        public Map<Long, PythonTrendResponseDTO> getTrendData(Collection<Long> brandIds) {
+            Map<Long, PythonTrendResponseDTO> result = new HashMap<>();
+            brandIds.forEach(id -> {
+                if (values.containsKey(id)) {
+                    result.put(id, values.get(id));
+                }
+            });
+            return result;
+        }
+    }
+
+    private static class StubDbService implements TrendsDbService {
+        private final boolean changed;
+
+        StubDbService(boolean changed) {
+            this.changed = changed;
+        }
+
+        @Override
+        public boolean saveTrendData(Long brandId, PythonTrendResponseDTO data) {
+            return changed;
+        }
+
+        @Override
+        public PythonTrendResponseDTO getTrendData(Long brandId) {
+            return null;
+        }
+    }
+}
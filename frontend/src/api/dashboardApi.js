@@ -68,6 +68,16 @@ const getBrandTrends = async (brandId) => {
   return res.data;
 };
 
+// 여러 브랜드의 트렌드를 한 번에 조회 (브랜드 ID -> 트렌드 데이터)
+const getBrandTrendsBatch = async (brandIds) => {
+  const res = await jwtAxios.get(`${host}/trends/batch`, {
+    params: {
+      brandIds: brandIds.join(","),
+    },
+  });
+  return res.data;
+};
+
 export {
   getBrandMentionSummary,
   getBrandMentionChart,
@@ -75,5 +85,6 @@ export {
   getBrandWordCloudData,
   getBrandSentimentChart,
   getBrandTrends,
+  getBrandTrendsBatch,
 };
 
@@ -1,5 +1,5 @@
 // src/api/insightAiApi.js
-// ✅ 기능: Spring(/api/ai/ask) 호출 래퍼
+// ✅ 기능: Spring(/api/{brandId}/ai/...) 호출 래퍼 (질문/리포트는 비동기 작업 API + 폴링)
 // ✅ 디버깅용 로그 포함
 import jwtAxios from "../util/jwtUtil";
 import { API_SERVER_HOST } from "./memberApi";
@@ -8,6 +8,39 @@ import { API_SERVER_HOST } from "./memberApi";
 jwtAxios.defaults.baseURL = API_SERVER_HOST;
 jwtAxios.defaults.timeout = 700000;
 
+// AI 작업 상태 폴링 간격 (ms)
+const AI_JOB_POLL_INTERVAL_MS = 1500;
+// AI 작업 최대 대기 시간 (ms): 서버 대기열 최대 대기(300초) + Python 타임아웃(650초)보다 조금 길게
+// 서버가 재시작되어 작업이 끝나지 않는 경우에도 무한히 폴링하지 않도록
+const AI_JOB_TIMEOUT_MS = 1000000;
+
+const sleep = (ms) => new Promise((resolve) => setTimeout(resolve, ms));
+
+// ✅ 비동기 AI 작업이 끝날 때까지 상태 폴링
+// 서버는 접수 즉시 jobId 를 돌려주고 LLM 호출은 작업 풀에서 실행하므로 긴 요청도 HTTP 연결을 오래 붙잡지 않음
+async function waitForAiJob(brandId, jobId) {
+  const deadline = Date.now() + AI_JOB_TIMEOUT_MS;
+  while (Date.now() < deadline) {
+    const res = await jwtAxios.get(`/api/${Number(brandId)}/ai/jobs/${jobId}`);
+    const job = res.data;
+    if (job.status === "SUCCEEDED" || job.status === "FAILED") {
+      console.log("[waitForAiJob] done", { jobId, status: job.status });
+      // 실패해도 동기 API 와 같은 형태(ok=false, reason)로 돌려줌
+      return (
+        job.result ?? { ok: false, data: null, reason: job.message, traceId: job.traceId }
+      );
+    }
+    await sleep(AI_JOB_POLL_INTERVAL_MS);
+  }
+  console.warn("[waitForAiJob] timeout", { jobId });
+  return {
+    ok: false,
+    data: null,
+    reason: "AI 응답 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.",
+    traceId: null,
+  };
+}
+
 export async function askAiInsight({
   brandId,
   projectId,
@@ -23,18 +56,19 @@ export async function askAiInsight({
   });
 
   const res = await jwtAxios.post(
-    `/api/${Number(brandId)}/ai/ask`,
+    `/api/${Number(brandId)}/ai/jobs/ask`,
     { projectId, question, topK },
     { headers: traceId ? { "X-Trace-Id": traceId } : {} }
   );
 
-  console.log("[askAiInsight] response status", res.status);
+  console.log("[askAiInsight] job accepted", res.status, res.data?.jobId);
   console.log(
     "[askAiInsight] response traceId header",
     res.headers?.["x-trace-id"]
   );
 
-  return { data: res.data, traceId: res.headers?.["x-trace-id"] };
+  const data = await waitForAiJob(brandId, res.data.jobId);
+  return { data, traceId: res.headers?.["x-trace-id"] };
 }
 
 export async function generateSolutionReport({
@@ -58,7 +92,7 @@ export async function generateSolutionReport({
   });
 
   const res = await jwtAxios.post(
-    `/api/${Number(brandId)}/ai/generate-solution-report`,
+    `/api/${Number(brandId)}/ai/jobs/generate-solution-report`,
     {
       brandId: Number(brandId),
       brandName: "", // TODO: 브랜드명 조회 필요
@@ -75,8 +109,10 @@ export async function generateSolutionReport({
     { headers: traceId ? { "X-Trace-Id": traceId } : {} }
   );
 
-  console.log("[generateSolutionReport] response status", res.status);
-  return { data: res.data, traceId: res.headers?.["x-trace-id"] };
+  console.log("[generateSolutionReport] job accepted", res.status, res.data?.jobId);
+
+  const data = await waitForAiJob(brandId, res.data.jobId);
+  return { data, traceId: res.headers?.["x-trace-id"] };
 }
 
 export async function saveReportAsSolution({
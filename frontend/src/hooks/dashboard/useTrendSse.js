@@ -2,13 +2,32 @@ import { useState, useEffect, useRef, useCallback } from "react";
 import { API_SERVER_HOST } from "../../api/memberApi";
 import { getCookie } from "../../util/cookieUtil";
 
+// trend-delta 의 리스트 하나(top/rising)를 기존 리스트에 적용 (removed 제거, changed 반영, 나머지는 기존 순위 유지)
+const applyListDelta = (items = [], listDelta) => {
+  if (!listDelta) return items;
+  const removed = new Set(listDelta.removed || []);
+  const byQuery = new Map();
+  items.forEach((item, rank) => {
+    if (!removed.has(item.query)) {
+      byQuery.set(item.query, { ...item, rank });
+    }
+  });
+  (listDelta.changed || []).forEach((item) => {
+    byQuery.set(item.query, item);
+  });
+  return [...byQuery.values()]
+    .sort((a, b) => a.rank - b.rank)
+    .map(({ query, value }) => ({ query, value }));
+};
+
 /**
  * 트렌드 데이터 SSE 연결을 관리하는 커스텀 훅
  * @param {number} brandId - 브랜드 ID
- * @returns {Object} { trendData, loading, error, connectionStatus, connectionCount }
+ * @returns {Object} { trendData, risingTokens, loading, error, connectionStatus, connectionCount }
  */
 export const useTrendSse = (brandId) => {
   const [trendData, setTrendData] = useState(null);
+  const [risingTokens, setRisingTokens] = useState([]);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState(null);
   const [connectionStatus, setConnectionStatus] = useState("disconnected"); // disconnected, connecting, connected, reconnecting
@@ -16,6 +35,7 @@ export const useTrendSse = (brandId) => {
   const eventSourceRef = useRef(null);
   const isInitialDataReceivedRef = useRef(false);
   const reconnectAttemptsRef = useRef(0);
+  const lastEventIdRef = useRef(null); // 마지막으로 받은 트렌드 이벤트 id (재연결 시 이어받기용)
   
   const MAX_RECONNECT_ATTEMPTS = 5;
   const RECONNECT_DELAY_BASE = 3000; // 3초
@@ -34,7 +54,7 @@ export const useTrendSse = (brandId) => {
   }, []);
 
   // SSE 연결 생성 함수
-  const createConnection = useCallback(() => {
+  const createConnection = useCallback(function connect() {
     if (!brandId) return null;
 
     // 기존 연결이 있으면 정리
@@ -58,6 +78,11 @@ export const useTrendSse = (brandId) => {
       sseUrl += `&token=${encodeURIComponent(memberInfo.accessToken)}`;
     }
 
+    // 수동 재연결 시에는 브라우저가 Last-Event-ID 헤더를 보내지 않으므로 파라미터로 전달
+    if (lastEventIdRef.current) {
+      sseUrl += `&lastEventId=${encodeURIComponent(lastEventIdRef.current)}`;
+    }
+
     // SSE 연결 생성
     const eventSource = new EventSource(sseUrl);
     eventSourceRef.current = eventSource;
@@ -67,6 +92,11 @@ export const useTrendSse = (brandId) => {
       "connected": () => {
         setConnectionStatus("connected");
         reconnectAttemptsRef.current = 0; // 재연결 성공 시 카운터 리셋
+        // 이어받기 연결이면 기존 데이터를 그대로 쓰고, 놓친 갱신만 trend-update 로 받음
+        if (lastEventIdRef.current) {
+          isInitialDataReceivedRef.current = true;
+          setLoading(false);
+        }
         console.log("[SSE] 연결 완료");
       },
       "connection-count": (event) => {
@@ -78,6 +108,9 @@ export const useTrendSse = (brandId) => {
       },
       "initial-data": (event) => {
         const data = parseEventData(event);
+        if (event.lastEventId) {
+          lastEventIdRef.current = event.lastEventId;
+        }
         if (data) {
           setTrendData(data);
           isInitialDataReceivedRef.current = true;
@@ -89,6 +122,9 @@ export const useTrendSse = (brandId) => {
       },
       "trend-update": (event) => {
         const data = parseEventData(event);
+        if (event.lastEventId) {
+          lastEventIdRef.current = event.lastEventId;
+        }
         if (data) {
           setTrendData(data);
           
@@ -103,6 +139,36 @@ export const useTrendSse = (brandId) => {
           }
         }
       },
+      "trend-delta": (event) => {
+        const delta = parseEventData(event);
+        if (!delta) return;
+
+        // 가진 버전이 변경분의 기준과 다르면 적용할 수 없으므로 전체 스냅샷부터 다시 받음
+        if (!isInitialDataReceivedRef.current || String(delta.baseVersion) !== String(lastEventIdRef.current)) {
+          console.log("[SSE] 트렌드 버전 불일치, 전체 데이터를 다시 요청합니다.");
+          lastEventIdRef.current = null;
+          connect();
+          return;
+        }
+
+        lastEventIdRef.current = event.lastEventId || String(delta.version);
+        setTrendData((prev) => ({
+          ...prev,
+          keyword: delta.keyword ?? prev?.keyword,
+          collectedAt: delta.collectedAt ?? prev?.collectedAt,
+          data: {
+            top: applyListDelta(prev?.data?.top, delta.top),
+            rising: applyListDelta(prev?.data?.rising, delta.rising),
+          },
+        }));
+        console.log("🔄 관련검색어 순위를 업데이트 합니다. (변경분)");
+      },
+      "rising-tokens": (event) => {
+        const data = parseEventData(event);
+        if (Array.isArray(data?.risingTokens)) {
+          setRisingTokens(data.risingTokens);
+        }
+      },
       "error": (event) => {
         const errorData = parseEventData(event);
         if (errorData?.error) {
@@ -159,11 +225,13 @@ export const useTrendSse = (brandId) => {
         setConnectionStatus("disconnected");
       }
       reconnectAttemptsRef.current = 0; // 재연결 카운터 리셋
+      lastEventIdRef.current = null; // 브랜드가 바뀌면 이어받기 위치도 초기화
     };
   }, [createConnection]);
 
   return { 
     trendData, 
+    risingTokens, 
     loading, 
     error, 
     connectionStatus, 
@@ -3,8 +3,11 @@
 # [기능] 이미지 콘텐츠 분석 엔드포인트
 # ============================================================
 
+import base64
 import traceback
-from fastapi import APIRouter, Request
+from typing import Optional
+
+from fastapi import APIRouter, File, Form, Request, UploadFile
 from fastapi.responses import JSONResponse
 
 from app.config.settings import settings
@@ -14,52 +17,42 @@ from app.services.image.image_analyzer import analyze_image_content
 router = APIRouter(prefix="/api/image", tags=["image"])
 
 
-@router.post("/analyze", response_model=ImageAnalysisResponse)
-def analyze_image(req: ImageAnalysisRequest, request: Request):
-    """
-    이미지 콘텐츠 분석 엔드포인트
-    - SNS 게시물 이미지에서 텍스트 추출
-    - 경쟁사 광고 이미지 분석
-    - 인포그래픽 데이터 추출
-    - 마케팅 톤앤매너 분석
-    """
-    trace_id = request.headers.get("X-Trace-Id", "unknown")
-    
+def _json(content: dict, status_code: int = 200) -> JSONResponse:
+    return JSONResponse(
+        content=content,
+        media_type="application/json",
+        headers={"Content-Type": "application/json; charset=utf-8"},
+        status_code=status_code,
+    )
+
+
+def _analyze(base64_image: str, provider: Optional[str], trace_id: str) -> JSONResponse:
+    """Base64 이미지 검증 → 분석 실행 → 응답 변환 (JSON / multipart 엔드포인트 공통)"""
     try:
         # Base64 이미지 검증
-        if not req.base64Image or not req.base64Image.strip():
-            return JSONResponse(
-                content={
-                    "ok": False,
-                    "reason": "이미지 데이터가 필요합니다.",
-                    "error": "empty_image"
-                },
-                media_type="application/json",
-                headers={"Content-Type": "application/json; charset=utf-8"},
-                status_code=400,
-            )
-        
+        if not base64_image or not base64_image.strip():
+            return _json({
+                "ok": False,
+                "reason": "이미지 데이터가 필요합니다.",
+                "error": "empty_image"
+            }, status_code=400)
+
         # Provider 확인 (기본값: openai)
-        provider = req.provider if req.provider else "openai"
+        provider = provider if provider else "openai"
         if provider not in ["ollama", "openai"]:
-            return JSONResponse(
-                content={
-                    "ok": False,
-                    "reason": f"지원하지 않는 provider입니다: {provider}. 'ollama' 또는 'openai'를 사용하세요.",
-                    "error": "invalid_provider"
-                },
-                media_type="application/json",
-                headers={"Content-Type": "application/json; charset=utf-8"},
-                status_code=400,
-            )
-        
+            return _json({
+                "ok": False,
+                "reason": f"지원하지 않는 provider입니다: {provider}. 'ollama' 또는 'openai'를 사용하세요.",
+                "error": "invalid_provider"
+            }, status_code=400)
+
         # 이미지 분석 실행
         result = analyze_image_content(
-            base64_image=req.base64Image,
+            base64_image=base64_image,
             provider=provider,
             trace_id=trace_id,
         )
-        
+
         # 응답 반환
         response = ImageAnalysisResponse(
             extractedText=result.get("extractedText", ""),
@@ -68,28 +61,17 @@ def analyze_image(req: ImageAnalysisRequest, request: Request):
             cons=result.get("cons", []),
             recommendations=result.get("recommendations", ""),
         )
-        
-        return JSONResponse(
-            content=response.dict(),
-            media_type="application/json",
-            headers={"Content-Type": "application/json; charset=utf-8"},
-        )
-        
+
+        return _json(response.dict())
+
     except ValueError as e:
         # 검증 오류 (이미지 형식 오류 등)
-        error_msg = str(e)
-        
-        return JSONResponse(
-            content={
-                "ok": False,
-                "reason": error_msg,
-                "error": "validation_error"
-            },
-            media_type="application/json",
-            headers={"Content-Type": "application/json; charset=utf-8"},
-            status_code=400,
-        )
-        
+        return _json({
+            "ok": False,
+            "reason": str(e),
+            "error": "validation_error"
+        }, status_code=400)
+
     except Exception as e:
         # 서버 오류
         error_msg = str(e)
@@ -97,15 +79,39 @@ def analyze_image(req: ImageAnalysisRequest, request: Request):
         # 에러는 로깅만 하고 클라이언트에는 간단한 메시지만 전달
         import logging
         logging.error(f"[api][image] /analyze ERROR traceId={trace_id}: {error_msg}\n{error_trace}")
-        
-        return JSONResponse(
-            content={
-                "ok": False,
-                "reason": f"서버 오류가 발생했습니다: {error_msg}",
-                "error": "server_error"
-            },
-            media_type="application/json",
-            headers={"Content-Type": "application/json; charset=utf-8"},
-            status_code=500,
-        )
 
+        return _json({
+            "ok": False,
+            "reason": f"서버 오류가 발생했습니다: {error_msg}",
+            "error": "server_error"
+        }, status_code=500)
+
+
+@router.post("/analyze", response_model=ImageAnalysisResponse)
+def analyze_image(req: ImageAnalysisRequest, request: Request):
+    """
+    이미지 콘텐츠 분석 엔드포인트 (Base64 JSON 본문)
+    - SNS 게시물 이미지에서 텍스트 추출
+    - 경쟁사 광고 이미지 분석
+    - 인포그래픽 데이터 추출
+    - 마케팅 톤앤매너 분석
+    """
+    trace_id = request.headers.get("X-Trace-Id", "unknown")
+    return _analyze(req.base64Image, req.provider, trace_id)
+
+
+@router.post("/analyze-upload", response_model=ImageAnalysisResponse)
+def analyze_image_upload(
+    request: Request,
+    image: UploadFile = File(..., description="분석할 이미지 파일"),
+    brandId: Optional[int] = Form(None),
+    provider: Optional[str] = Form("openai"),
+):
+    """
+    이미지 콘텐츠 분석 엔드포인트 (multipart 업로드)
+    - Spring 이 업로드 임시 파일을 그대로 스트리밍해 보내므로 전송 구간에서 Base64(+33%) 변환이 없음
+    - Vision LLM 호출에 필요한 Base64 변환은 여기서 한 번만 수행
+    """
+    trace_id = request.headers.get("X-Trace-Id", "unknown")
+    base64_image = base64.b64encode(image.file.read()).decode("ascii")
+    return _analyze(base64_image, provider, trace_id)